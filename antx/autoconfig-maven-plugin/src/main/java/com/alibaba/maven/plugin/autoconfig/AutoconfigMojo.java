@@ -92,6 +92,51 @@ public class AutoconfigMojo extends AbstractMojo {
      */
     private String type;
 
+    /**
+     * Number of threads used to generate config files.
+     *
+     * @parameter expression="${autoconfig.threads}" default-value="1"
+     */
+    private int threads;
+
+    /**
+     * Append generated files to the archive and rewrite only its central directory, instead of rewriting the whole
+     * archive.
+     *
+     * @parameter expression="${autoconfig.inPlace}" default-value="false"
+     */
+    private boolean inPlace;
+
+    /**
+     * Use cached copies of remote shared properties when the server is unreachable.
+     *
+     * @parameter expression="${settings.offline}" default-value="false"
+     */
+    private boolean offline;
+
+    /**
+     * Maximum number of pooled connections to each host serving remote shared properties.
+     *
+     * @parameter expression="${autoconfig.connections}" default-value="8"
+     */
+    private int connections;
+
+    /**
+     * Maximum number of bytes of a template kept in memory while processing an archive; larger templates are
+     * buffered in temporary files.
+     *
+     * @parameter expression="${autoconfig.templateMemoryThreshold}" default-value="1048576"
+     */
+    private int templateMemoryThreshold;
+
+    /**
+     * Maximum number of bytes of all templates, including lazily generated ones, kept in memory together while
+     * processing archives; templates beyond this limit are buffered in temporary files.
+     *
+     * @parameter expression="${autoconfig.templateMemoryLimit}" default-value="8388608"
+     */
+    private long templateMemoryLimit;
+
     /**
      * User properties file.
      *
@@ -149,6 +194,12 @@ public class AutoconfigMojo extends AbstractMojo {
             runtimeImpl.setInteractiveMode(interactiveMode);
             runtimeImpl.setDests(new String[] { dest.getAbsolutePath() });
             runtimeImpl.setType(type);
+            runtimeImpl.setThreads(threads);
+            runtimeImpl.setUpdateInPlace(inPlace);
+            runtimeImpl.setOffline(offline);
+            runtimeImpl.setMaxConnectionsPerHost(connections);
+            runtimeImpl.setTemplateMemoryThreshold(templateMemoryThreshold);
+            runtimeImpl.setTemplateMemoryLimit(templateMemoryLimit);
 
             if (descriptors != null) {
                 runtimeImpl.setDescriptorPatterns(descriptors.getIncludes(), descriptors.getExcludes());
@@ -164,7 +215,7 @@ public class AutoconfigMojo extends AbstractMojo {
 
             getLog().info(
                     "Configuring " + dest.getAbsolutePath() + ", interactiveMode=" + interactiveMode + ", strict="
-                    + strict);
+                    + strict + ", threads=" + threads);
             getLog().info("-------------------------------------------------");
 
             try {
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.maven.plugin.autoconfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import com.alibaba.antx.util.PathPatternMatcher;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleCreateException;
+import com.alibaba.toolkit.util.resourcebundle.xml.XMLResourceBundleCompiler;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+
+/**
+ * Maven plugin to compile XML resource bundles into the binary format, which is loaded in preference to the XML
+ * files by XMLResourceBundleFactory.
+ *
+ * @author Michael Zhou
+ * @goal compile-bundles
+ * @phase process-classes
+ * @requiresDependencyResolution compile
+ */
+public class CompileBundlesMojo extends AbstractMojo {
+    /**
+     * Directory containing the resource bundles to compile.
+     *
+     * @parameter expression="${project.build.outputDirectory}"
+     * @required
+     */
+    private File directory;
+
+    /**
+     * Includes/excludes resource bundle files, relative to the directory. Nothing is compiled unless includes are
+     * specified; matched XML files which are not resource bundles are skipped.
+     * Wildcards such as "*", "**", "?" are allowed.
+     *
+     * @parameter
+     */
+    private AutoconfigMojo.Patterns bundles;
+
+    /**
+     * Skipping compilation of resource bundles.
+     *
+     * @parameter expression="${autoconfig.compileBundles.skip}"
+     */
+    private boolean skip;
+
+    /**
+     * Classpath used to load the Enum classes referred by resource bundles.
+     *
+     * @parameter expression="${project.compileClasspathElements}"
+     * @required
+     * @readonly
+     */
+    private List<String> classpathElements;
+
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip || !directory.isDirectory()) {
+            return;
+        }
+
+        if (bundles == null || bundles.getIncludes() == null || bundles.getIncludes().length == 0) {
+            getLog().info("No resource bundles specified, skipping");
+            return;
+        }
+
+        String[] excludes = bundles.getExcludes() == null ? new String[0] : bundles.getExcludes();
+        PathPatternMatcher matcher = new PathPatternMatcher(bundles.getIncludes(), excludes);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+        thread.setContextClassLoader(createClassLoader());
+
+        try {
+            int count = compileDirectory(new XMLResourceBundleCompiler(), matcher, directory, "");
+
+            getLog().info("Compiled " + count + " resource bundle(s) in " + directory.getAbsolutePath());
+        } catch (ResourceBundleCreateException e) {
+            throw new MojoExecutionException("Failed to compile resource bundle", e);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to compile resource bundle", e);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private int compileDirectory(XMLResourceBundleCompiler compiler, PathPatternMatcher matcher, File dir, String path)
+            throws ResourceBundleCreateException, IOException {
+        File[] files = dir.listFiles();
+        int count = 0;
+
+        if (files == null) {
+            return count;
+        }
+
+        for (File file : files) {
+            String name = path + file.getName();
+
+            if (file.isDirectory()) {
+                if (matcher.matchPathPrefix(name)) {
+                    count += compileDirectory(compiler, matcher, file, name + "/");
+                }
+            } else if (matcher.matchPath(name)) {
+                File dest = compiler.getCompiledFile(file);
+
+                // 跳过XML文件和Enum类都未修改的bundle
+                if (compiler.isUpToDate(file, dest)) {
+                    continue;
+                }
+
+                // 跳过非resource bundle的XML文件, 包括无法解析的文件
+                try {
+                    if (!compiler.isResourceBundle(file)) {
+                        getLog().debug("Not a resource bundle: " + name);
+                        continue;
+                    }
+                } catch (ResourceBundleCreateException e) {
+                    getLog().warn("Skipped unreadable XML file: " + name, e);
+                    continue;
+                }
+
+                if (compiler.compile(file, dest)) {
+                    getLog().debug("Compiled resource bundle: " + name);
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    private ClassLoader createClassLoader() throws MojoExecutionException {
+        URL[] urls = new URL[classpathElements.size()];
+
+        try {
+            for (int i = 0; i < urls.length; i++) {
+                urls[i] = new File(classpathElements.get(i)).toURI().toURL();
+            }
+        } catch (MalformedURLException e) {
+            throw new MojoExecutionException("Invalid classpath", e);
+        }
+
+        return new URLClassLoader(urls, getClass().getClassLoader());
+    }
+}
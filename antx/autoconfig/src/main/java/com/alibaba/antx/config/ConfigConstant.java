@@ -43,8 +43,23 @@ public interface ConfigConstant {
     /** Velocity设置：缓冲池中创建的parser数. */
     int VELOCITY_NUMBER_OF_PARSERS = 1;
 
+    /** Velocity设置：缓存中最多保存的已解析的模板数. */
+    int VELOCITY_TEMPLATE_CACHE_SIZE = 256;
+
     /** Velocity设置：默认的macro文件, 从classpath中装入 */
     String VELOCITY_MACRO_FILE = VelocityTemplateEngine.class.getPackage().getName().replace('.', '/') + "/macro.vm";
 
     String UNKNWON_REFS_KEY = "_unknwonRefs";
+
+    /** 扫描嵌套的包时，在内存中保存包内容的最大字节数，超过此值则保存到临时文件中。 */
+    int NESTED_PACKAGE_MEMORY_THRESHOLD = 1024 * 1024;
+
+    /** 读取远程资源时，在内存中保存内容的最大字节数，超过此值则保存到临时文件中。 */
+    int RESOURCE_MEMORY_THRESHOLD = 256 * 1024;
+
+    /** 生成zip文件中的配置文件时，在内存中保存模板内容的默认最大字节数，超过此值则保存到临时文件中。 */
+    int TEMPLATE_MEMORY_THRESHOLD = 1024 * 1024;
+
+    /** 所有模板，包括延迟生成的模板，在内存中保存内容的默认总字节数，超过此值则保存到临时文件中。 */
+    long TEMPLATE_MEMORY_LIMIT = 8 * 1024 * 1024;
 }
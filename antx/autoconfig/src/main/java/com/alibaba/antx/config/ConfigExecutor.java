@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 用来并行生成配置文件的执行器。
+ * <p>
+ * 每个任务的输出被缓存起来，并在任务结束后，按任务提交的顺序输出，因此日志的顺序和单线程执行时相同。
+ * 任务中可以再次提交子任务，提交者会直接执行尚未被其它线程领取的子任务，所以不会因线程池被占满而死锁。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class ConfigExecutor {
+    private static final ThreadLocal<PrintWriter[]> bufferedWriters = new ThreadLocal<PrintWriter[]>();
+    private final int             threads;
+    private       ExecutorService pool;
+
+    public ConfigExecutor(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    /** 取得线程数。 */
+    public int getThreads() {
+        return threads;
+    }
+
+    /** 取得当前线程的缓存输出流，如果当前线程不在执行任务，则返回<code>null</code>。 */
+    static PrintWriter getBufferedOut() {
+        PrintWriter[] writers = bufferedWriters.get();
+        return writers == null ? null : writers[0];
+    }
+
+    /** 取得当前线程的缓存错误输出流，如果当前线程不在执行任务，则返回<code>null</code>。 */
+    static PrintWriter getBufferedErr() {
+        PrintWriter[] writers = bufferedWriters.get();
+        return writers == null ? null : writers[1];
+    }
+
+    /**
+     * 执行所有任务，如果任务全部返回<code>true</code>，则返回<code>true</code>。
+     * <p>
+     * 任务的输出将按顺序打印到<code>settings.getOut()</code>和<code>settings.getErr()</code>中。如果有任务失败，则抛出第一个失败任务的异常。
+     * </p>
+     */
+    public boolean invokeAll(List<? extends Callable<Boolean>> tasks, ConfigSettings settings) {
+        boolean allSuccess = true;
+
+        if (threads <= 1 || tasks.size() <= 1) {
+            for (Callable<Boolean> task : tasks) {
+                allSuccess &= call(task);
+            }
+
+            return allSuccess;
+        }
+
+        List<BufferedTask> bufferedTasks = new ArrayList<BufferedTask>(tasks.size());
+
+        for (Callable<Boolean> task : tasks) {
+            BufferedTask bufferedTask = new BufferedTask(task);
+
+            bufferedTasks.add(bufferedTask);
+            getPool().execute(bufferedTask);
+        }
+
+        try {
+            for (BufferedTask task : bufferedTasks) {
+                // 如果任务还没有被其它线程领取，就在当前线程中执行
+                task.run();
+
+                try {
+                    allSuccess &= task.get();
+                } finally {
+                    task.flushTo(settings);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new ConfigException(cause);
+            }
+        } finally {
+            // 取消尚未开始的任务，并等待正在执行的任务结束，以免调用者释放资源后，任务仍在读写这些资源
+            for (BufferedTask task : bufferedTasks) {
+                task.abort();
+            }
+
+            for (BufferedTask task : bufferedTasks) {
+                task.awaitFinished();
+            }
+        }
+
+        return allSuccess;
+    }
+
+    /** 关闭线程池。 */
+    public synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private synchronized ExecutorService getPool() {
+        if (pool == null) {
+            final AtomicInteger count = new AtomicInteger();
+
+            pool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "autoconfig-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return pool;
+    }
+
+    private static boolean call(Callable<Boolean> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    /** 将输出缓存起来的任务。 */
+    private static class BufferedTask extends FutureTask<Boolean> {
+        private final StringWriter   outBuffer = new StringWriter();
+        private final StringWriter   errBuffer = new StringWriter();
+        private final GuardedCallable guarded;
+
+        public BufferedTask(Callable<Boolean> task) {
+            this(new GuardedCallable(task));
+        }
+
+        private BufferedTask(GuardedCallable guarded) {
+            super(guarded);
+            this.guarded = guarded;
+        }
+
+        /** 取消任务，此后任务不会再开始执行。 */
+        public void abort() {
+            guarded.abort();
+            cancel(false);
+        }
+
+        /** 等待正在执行的任务结束。 */
+        public void awaitFinished() {
+            guarded.awaitFinished();
+        }
+
+        @Override
+        public void run() {
+            PrintWriter[] saved = bufferedWriters.get();
+
+            bufferedWriters.set(new PrintWriter[] { new PrintWriter(outBuffer, true), new PrintWriter(errBuffer, true) });
+
+            try {
+                super.run();
+            } finally {
+                bufferedWriters.set(saved);
+            }
+        }
+
+        public void flushTo(ConfigSettings settings) {
+            settings.getOut().print(outBuffer.toString());
+            settings.getOut().flush();
+            settings.getErr().print(errBuffer.toString());
+            settings.getErr().flush();
+        }
+    }
+
+    /** 可被中止的任务，并且可以等待正在执行的任务结束。 */
+    private static class GuardedCallable implements Callable<Boolean> {
+        private final Callable<Boolean> task;
+        private boolean aborted;
+        private boolean running;
+
+        public GuardedCallable(Callable<Boolean> task) {
+            this.task = task;
+        }
+
+        public Boolean call() throws Exception {
+            synchronized (this) {
+                if (aborted) {
+                    return Boolean.FALSE;
+                }
+
+                running = true;
+            }
+
+            try {
+                return task.call();
+            } finally {
+                synchronized (this) {
+                    running = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        public synchronized void abort() {
+            aborted = true;
+        }
+
+        public synchronized void awaitFinished() {
+            boolean interrupted = false;
+
+            while (running) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
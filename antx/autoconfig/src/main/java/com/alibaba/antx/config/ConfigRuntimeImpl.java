@@ -28,6 +28,7 @@ import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.entry.ConfigEntry;
@@ -37,6 +38,7 @@ import com.alibaba.antx.config.props.PropertiesResource;
 import com.alibaba.antx.config.props.PropertiesSet;
 import com.alibaba.antx.config.wizard.text.ConfigWizardLoader;
 import com.alibaba.antx.util.CharsetUtil;
+import com.alibaba.antx.util.MemoryBudget;
 import com.alibaba.antx.util.PatternSet;
 import com.alibaba.antx.util.StringUtil;
 
@@ -57,6 +59,12 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
     private PropertiesSet  props;
     private boolean        verbose;
     private File           tempdir;
+    private int            threads = 1;
+    private boolean        updateInPlace;
+    private int            templateMemoryThreshold = ConfigConstant.TEMPLATE_MEMORY_THRESHOLD;
+    private long           templateMemoryLimit     = ConfigConstant.TEMPLATE_MEMORY_LIMIT;
+    private MemoryBudget   templateMemoryBudget;
+    private ConfigExecutor configExecutor;
     private ConfigEntryFactory configEntryFactory = new ConfigEntryFactoryImpl(this);
 
     public ConfigRuntimeImpl() {
@@ -90,11 +98,13 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
     }
 
     public PrintWriter getOut() {
-        return out;
+        PrintWriter bufferedOut = ConfigExecutor.getBufferedOut();
+        return bufferedOut == null ? out : bufferedOut;
     }
 
     public PrintWriter getErr() {
-        return err;
+        PrintWriter bufferedErr = ConfigExecutor.getBufferedErr();
+        return bufferedErr == null ? err : bufferedErr;
     }
 
     public String getCharset() {
@@ -149,6 +159,55 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
         return configEntryFactory;
     }
 
+    public ConfigExecutor getConfigExecutor() {
+        if (configExecutor == null) {
+            configExecutor = new ConfigExecutor(threads);
+        }
+
+        return configExecutor;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /** 设置生成配置文件时使用的线程数。 */
+    public void setThreads(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public boolean isUpdateInPlace() {
+        return updateInPlace;
+    }
+
+    /** 设置是否在原zip文件中追加生成的文件，而不是重写整个文件。 */
+    public void setUpdateInPlace(boolean updateInPlace) {
+        this.updateInPlace = updateInPlace;
+    }
+
+    public int getTemplateMemoryThreshold() {
+        return templateMemoryThreshold;
+    }
+
+    /** 设置在内存中保存模板内容的最大字节数，超过此值则保存到临时文件中。 */
+    public void setTemplateMemoryThreshold(int templateMemoryThreshold) {
+        this.templateMemoryThreshold = Math.max(0, templateMemoryThreshold);
+    }
+
+    public synchronized MemoryBudget getTemplateMemoryBudget() {
+        if (templateMemoryBudget == null) {
+            templateMemoryBudget = new MemoryBudget(templateMemoryLimit);
+        }
+
+        return templateMemoryBudget;
+    }
+
+    /** 设置所有模板在内存中保存内容的总字节数，超过此值则保存到临时文件中。 */
+    public synchronized void setTemplateMemoryLimit(long templateMemoryLimit) {
+        this.templateMemoryLimit = Math.max(0, templateMemoryLimit);
+        this.templateMemoryBudget = null;
+    }
+
     public void setDescriptorPatterns(String includes, String excludes) {
         this.descriptorPatterns = new PatternSet(includes, excludes);
     }
@@ -218,6 +277,16 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
         }
     }
 
+    /** 设置当远程资源无法访问时，是否使用本地缓存中的内容。 */
+    public void setOffline(boolean offline) {
+        getPropertiesSet().getResourceManager().setOffline(offline);
+    }
+
+    /** 设置每个远程主机的最大连接数。 */
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        getPropertiesSet().getResourceManager().setMaxConnectionsPerHost(maxConnectionsPerHost);
+    }
+
     public void setVerbose() {
         this.verbose = true;
     }
@@ -318,21 +387,36 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
                 return true;
             }
 
-            ConfigWizardLoader wizard = new ConfigWizardLoader(this, entries);
+            try {
+                ConfigWizardLoader wizard = new ConfigWizardLoader(this, entries);
 
-            // 交互式编辑props文件
-            wizard.loadAndStart();
+                // 交互式编辑props文件
+                wizard.loadAndStart();
 
-            // 生成配置文件
-            boolean allSuccess = true;
+                // 生成配置文件
+                List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(entries.size());
 
-            for (Iterator i = entries.iterator(); i.hasNext(); ) {
-                ConfigEntry entry = (ConfigEntry) i.next();
+                for (Iterator i = entries.iterator(); i.hasNext(); ) {
+                    final ConfigEntry entry = (ConfigEntry) i.next();
 
-                allSuccess &= entry.generate();
-            }
+                    tasks.add(new Callable<Boolean>() {
+                        public Boolean call() {
+                            return entry.generate();
+                        }
+                    });
+                }
 
-            return allSuccess;
+                try {
+                    return getConfigExecutor().invokeAll(tasks, this);
+                } finally {
+                    getConfigExecutor().shutdown();
+                }
+            } finally {
+                // 删除扫描时保存的临时文件，即使生成被中止
+                for (Iterator i = entries.iterator(); i.hasNext(); ) {
+                    ((ConfigEntry) i.next()).release();
+                }
+            }
         } else {
             ConfigWizardLoader wizard = new ConfigWizardLoader(this, inlineDescriptor);
 
@@ -356,6 +440,8 @@ public class ConfigRuntimeImpl implements ConfigRuntime {
 
             if (includeEmptyEntries || !entry.isEmpty()) {
                 entries.add(entry);
+            } else {
+                entry.release();
             }
         }
 
@@ -23,6 +23,7 @@ import java.io.PrintWriter;
 
 import com.alibaba.antx.config.entry.ConfigEntryFactory;
 import com.alibaba.antx.config.props.PropertiesSet;
+import com.alibaba.antx.util.MemoryBudget;
 import com.alibaba.antx.util.PatternSet;
 
 public interface ConfigSettings extends ConfigLogger {
@@ -52,5 +53,13 @@ public interface ConfigSettings extends ConfigLogger {
 
     ConfigEntryFactory getConfigEntryFactory();
 
+    ConfigExecutor getConfigExecutor();
+
+    boolean isUpdateInPlace();
+
+    int getTemplateMemoryThreshold();
+
+    MemoryBudget getTemplateMemoryBudget();
+
     String getType();
 }
@@ -48,6 +48,10 @@ public class CLIManager {
     public static final String OPT_SHARED_PROPERTIES_NAME = "n";
     public static final String OPT_OUTPUT_FILES           = "o";
     public static final String OPT_TYPE                   = "T";
+    public static final String OPT_THREADS                = "j";
+    public static final String OPT_IN_PLACE               = "a";
+    public static final String OPT_OFFLINE                = "O";
+    public static final String OPT_CONNECTIONS            = "C";
     private Options options;
 
     public CLIManager() {
@@ -97,6 +101,18 @@ public class CLIManager {
 
         options.addOption(builder.withLongOpt("type").hasArg().withDescription("文件类型，例如：war, jar, ear等")
                                  .create(OPT_TYPE));
+
+        options.addOption(builder.withLongOpt("threads").hasArg().withDescription("生成配置文件时使用的线程数，默认为1")
+                                 .create(OPT_THREADS));
+
+        options.addOption(builder.withLongOpt("in-place")
+                                 .withDescription("在原zip文件末尾追加生成的文件并重写目录，而不是重写整个文件").create(OPT_IN_PLACE));
+
+        options.addOption(builder.withLongOpt("offline").withDescription("如果无法访问远程的共享属性文件，则使用上次缓存在~/.antx/cache中的内容")
+                                 .create(OPT_OFFLINE));
+
+        options.addOption(builder.withLongOpt("connections").hasArg().withDescription("每个远程主机的最大连接数，默认为8")
+                                 .create(OPT_CONNECTIONS));
     }
 
     public CommandLine parse(String[] args) {
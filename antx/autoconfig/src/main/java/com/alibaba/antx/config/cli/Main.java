@@ -125,6 +125,33 @@ public class Main {
                                        cli.getOptionValue(CLIManager.OPT_EXCLUDE_PACKAGES));
 
         runtimeImpl.setType(cli.getOptionValue(CLIManager.OPT_TYPE));
+
+        if (cli.hasOption(CLIManager.OPT_THREADS)) {
+            try {
+                runtimeImpl.setThreads(Integer.parseInt(cli.getOptionValue(CLIManager.OPT_THREADS).trim()));
+            } catch (NumberFormatException e) {
+                throw new CLIException("Invalid number of threads: " + cli.getOptionValue(CLIManager.OPT_THREADS));
+            }
+        }
+
+        if (cli.hasOption(CLIManager.OPT_IN_PLACE)) {
+            runtimeImpl.setUpdateInPlace(true);
+        }
+
+        if (cli.hasOption(CLIManager.OPT_OFFLINE)) {
+            runtimeImpl.setOffline(true);
+        }
+
+        if (cli.hasOption(CLIManager.OPT_CONNECTIONS)) {
+            try {
+                runtimeImpl.setMaxConnectionsPerHost(Integer.parseInt(cli.getOptionValue(CLIManager.OPT_CONNECTIONS)
+                                                                         .trim()));
+            } catch (NumberFormatException e) {
+                throw new CLIException("Invalid number of connections: "
+                                       + cli.getOptionValue(CLIManager.OPT_CONNECTIONS));
+            }
+        }
+
         runtimeImpl.setDests(cli.getArgs());
 
         String[] outputs = null;
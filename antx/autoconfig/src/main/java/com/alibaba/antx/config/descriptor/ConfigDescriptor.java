@@ -34,6 +34,7 @@ import com.alibaba.antx.config.ConfigResource;
 public class ConfigDescriptor {
     private ConfigResource resource;
     private String         description;
+    private String         digest;
     private List groups    = new LinkedList();
     private List generates = new LinkedList();
     private Map  context   = new HashMap();
@@ -78,6 +79,15 @@ public class ConfigDescriptor {
         this.description = description;
     }
 
+    /** 取得descriptor内容的摘要，如果未知，则返回<code>null</code>。 */
+    public String getDigest() {
+        return digest;
+    }
+
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
     public void addGroup(ConfigGroup group) {
         group.setConfigDescriptor(this);
         groups.add(group);
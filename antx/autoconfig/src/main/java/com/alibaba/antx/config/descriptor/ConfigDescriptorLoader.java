@@ -47,11 +47,28 @@ public class ConfigDescriptorLoader {
 
         digester.push(new ConfigDescriptor(descriptorResource));
 
+        ConfigDescriptor descriptor;
+
         try {
-            return (ConfigDescriptor) digester.parse(istream);
+            descriptor = (ConfigDescriptor) digester.parse(istream);
         } catch (Exception e) {
             throw new ConfigException("Failed to load config descriptor: " + descriptorResource.getURL(), e);
         }
+
+        initValidators(descriptor);
+
+        return descriptor;
+    }
+
+    /** 初始化所有的validator，例如预先编译正则表达式，以免每次验证时重复编译。 */
+    private void initValidators(ConfigDescriptor descriptor) {
+        for (ConfigGroup group : descriptor.getGroups()) {
+            for (ConfigProperty property : group.getProperties()) {
+                for (ConfigValidator validator : property.getValidators()) {
+                    validator.init();
+                }
+            }
+        }
     }
 
     /** 取得validator的列表。 */
@@ -55,6 +55,15 @@ public abstract class ConfigValidator {
         return getConfigProperty().getName() + ": " + this;
     }
 
+    /** 在descriptor被装入后调用，以便预先完成初始化工作，例如编译正则表达式。 */
+    public void init() {
+    }
+
+    /** 取得验证该值时需要解析的域名，以便在验证前预先并行解析。如果不需要解析，则返回<code>null</code>。 */
+    public String getHostName(String value) {
+        return null;
+    }
+
     public abstract boolean validate(String value);
 
     @Override
@@ -17,9 +17,6 @@
 
 package com.alibaba.antx.config.descriptor.validator;
 
-import java.net.InetAddress;
-import java.net.UnknownHostException;
-
 import com.alibaba.antx.config.descriptor.ConfigValidator;
 import com.alibaba.antx.util.StringUtil;
 import org.slf4j.Logger;
@@ -50,13 +47,12 @@ public class HostExistValidator extends ConfigValidator {
 
         hostname = value;
 
-        try {
-            InetAddress.getByName(hostname);
-        } catch (UnknownHostException e) {
-            return false;
-        }
+        return HostResolver.exists(hostname);
+    }
 
-        return true;
+    @Override
+    public String getHostName(String value) {
+        return StringUtil.isBlank(value) ? null : value.trim();
     }
 
     @Override
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config.descriptor.validator;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 在一次验证中解析域名，并记住解析的结果。
+ * <p>
+ * 验证前，先通过<code>resolveAll()</code>并行地解析所有的域名，然后在验证时直接取得结果，同一个域名只解析一次。
+ * 超过指定时间仍未解析完成的域名，被视为不能解析，验证时不会再次解析，以免验证被无响应的DNS阻塞。
+ * </p>
+ * <p>
+ * 通过<code>bind()</code>将resolver绑定到当前线程上，validator就可以通过<code>HostResolver.exists()</code>使用它。
+ * 如果当前线程没有绑定resolver，则直接解析域名。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class HostResolver {
+    public static final  long                      DEFAULT_TIMEOUT = 10000;
+    private static final int                       MAX_THREADS     = 16;
+    private static final ThreadLocal<HostResolver> current         = new ThreadLocal<HostResolver>();
+    private static final Logger                    log             = LoggerFactory.getLogger(HostResolver.class);
+    private final long                 timeout;
+    private final Map<String, Boolean> results = new HashMap<String, Boolean>();
+
+    public HostResolver() {
+        this(DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * 创建resolver。
+     *
+     * @param timeout 解析每个域名的最长时间（毫秒）
+     */
+    public HostResolver(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /** 将resolver绑定到当前线程。 */
+    public void bind() {
+        current.set(this);
+    }
+
+    /** 解除当前线程上的resolver。 */
+    public void unbind() {
+        current.remove();
+    }
+
+    /** 判断域名或IP是否存在，如果当前线程绑定了resolver，则使用其中的结果。 */
+    public static boolean exists(String hostname) {
+        HostResolver resolver = current.get();
+
+        if (resolver == null) {
+            return resolve(hostname);
+        }
+
+        return resolver.isResolvable(hostname);
+    }
+
+    /** 判断域名是否可以被解析，如果尚未通过<code>resolveAll()</code>解析，则直接解析之。 */
+    public synchronized boolean isResolvable(String hostname) {
+        Boolean result = results.get(hostname);
+
+        if (result == null) {
+            result = Boolean.valueOf(resolve(hostname));
+            results.put(hostname, result);
+        }
+
+        return result.booleanValue();
+    }
+
+    /**
+     * 并行地解析所有尚未解析的域名。
+     * <p>
+     * 每个域名的超时时间从该域名开始解析时算起，排队等待的时间不计算在内。超时的域名被记录为不能解析。
+     * </p>
+     */
+    public synchronized void resolveAll(Collection<String> hostnames) {
+        Map<String, Lookup> lookups = new LinkedHashMap<String, Lookup>();
+        ExecutorService executor = null;
+
+        try {
+            for (String hostname : hostnames) {
+                if (hostname == null || results.containsKey(hostname) || lookups.containsKey(hostname)) {
+                    continue;
+                }
+
+                if (executor == null) {
+                    executor = createExecutor(Math.min(MAX_THREADS, hostnames.size()));
+                }
+
+                Lookup lookup = new Lookup(hostname);
+
+                lookups.put(hostname, lookup);
+                executor.execute(lookup);
+            }
+
+            for (Map.Entry<String, Lookup> entry : lookups.entrySet()) {
+                Boolean result;
+
+                try {
+                    result = entry.getValue().await(timeout);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+
+                if (result == null) {
+                    log.warn("Timed out resolving host " + entry.getKey() + " after " + timeout + "ms");
+                    result = Boolean.FALSE;
+                }
+
+                results.put(entry.getKey(), result);
+            }
+        } finally {
+            if (executor != null) {
+                // 无法中断正在进行的解析，解析线程是daemon线程，不会阻止JVM退出
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static boolean resolve(String hostname) {
+        try {
+            InetAddress.getByName(hostname);
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        final AtomicInteger count = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(Math.max(1, threads), new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "autoconfig-dns-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** 解析一个域名的任务，记录开始解析的时间。 */
+    private static class Lookup extends FutureTask<Boolean> {
+        private volatile long startTime;
+
+        public Lookup(final String hostname) {
+            super(new Callable<Boolean>() {
+                public Boolean call() {
+                    return resolve(hostname);
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            startTime = System.currentTimeMillis();
+            super.run();
+        }
+
+        /** 等待解析结果，超时从开始解析时算起。如果超时，则返回<code>null</code>。 */
+        public Boolean await(long timeout) throws InterruptedException {
+            while (true) {
+                long start = startTime;
+                long wait = start == 0 ? timeout : start + timeout - System.currentTimeMillis();
+
+                if (wait <= 0) {
+                    return isDone() ? getResult() : null;
+                }
+
+                try {
+                    return get(wait, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    // 尚未开始解析，或者已经超时，循环检查
+                } catch (ExecutionException e) {
+                    return Boolean.FALSE;
+                }
+            }
+        }
+
+        private Boolean getResult() throws InterruptedException {
+            try {
+                return get();
+            } catch (ExecutionException e) {
+                return Boolean.FALSE;
+            }
+        }
+    }
+}
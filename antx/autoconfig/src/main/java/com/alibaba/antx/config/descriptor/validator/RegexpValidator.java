@@ -30,8 +30,10 @@ import org.slf4j.LoggerFactory;
 
 public class RegexpValidator extends ConfigValidator {
     private static final Logger log = LoggerFactory.getLogger(RegexpValidator.class);
-    private String regexp;
-    private String mode;
+    private String  regexp;
+    private String  mode;
+    private String  compiledRegexp;
+    private Pattern pattern;
 
     @Override
     public Logger getLogger() {
@@ -54,6 +56,34 @@ public class RegexpValidator extends ConfigValidator {
         this.mode = mode;
     }
 
+    /** 预先编译正则表达式，如果表达式非法，则在验证时报错。 */
+    @Override
+    public void init() {
+        if (!StringUtil.isEmpty(getRegexp())) {
+            try {
+                getPattern();
+            } catch (ConfigValidatorException e) {
+            }
+        }
+    }
+
+    /** 取得编译后的正则表达式，子类可能覆盖<code>getRegexp()</code>，因此当表达式改变时重新编译。 */
+    private synchronized Pattern getPattern() {
+        String regexp = getRegexp();
+
+        if (pattern == null || !regexp.equals(compiledRegexp)) {
+            try {
+                pattern = new Perl5Compiler().compile(regexp, Perl5Compiler.READ_ONLY_MASK
+                                                              | Perl5Compiler.SINGLELINE_MASK);
+                compiledRegexp = regexp;
+            } catch (MalformedPatternException e) {
+                throw new ConfigValidatorException(e);
+            }
+        }
+
+        return pattern;
+    }
+
     @Override
     public boolean validate(String value) {
         if (StringUtil.isEmpty(getRegexp())) {
@@ -78,14 +108,7 @@ public class RegexpValidator extends ConfigValidator {
             getLogger().debug("Validating value with regexp[" + getRegexp() + "]: " + value);
         }
 
-        Pattern pattern = null;
-
-        try {
-            pattern = new Perl5Compiler().compile(getRegexp(), Perl5Compiler.READ_ONLY_MASK
-                                                               | Perl5Compiler.SINGLELINE_MASK);
-        } catch (MalformedPatternException e) {
-            throw new ConfigValidatorException(e);
-        }
+        Pattern pattern = getPattern();
 
         if (!getMode().endsWith("contain") && !getMode().endsWith("exact") && !getMode().endsWith("prefix")) {
             throw new ConfigValidatorException("Invalid regexp mode: " + getMode()
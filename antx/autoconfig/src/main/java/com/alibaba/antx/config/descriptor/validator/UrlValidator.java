@@ -17,10 +17,8 @@
 
 package com.alibaba.antx.config.descriptor.validator;
 
-import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.UnknownHostException;
 
 import com.alibaba.antx.config.descriptor.ConfigValidator;
 import com.alibaba.antx.util.StringUtil;
@@ -89,9 +87,7 @@ public class UrlValidator extends ConfigValidator {
         if (checkHostExist) {
             getLogger().info("Validating host name or IP address: " + url.getHost());
 
-            try {
-                InetAddress.getByName(url.getHost());
-            } catch (UnknownHostException e) {
+            if (!HostResolver.exists(url.getHost())) {
                 message = "非法的域名或IP：" + url.getHost();
                 return false;
             }
@@ -108,6 +104,21 @@ public class UrlValidator extends ConfigValidator {
         return true;
     }
 
+    @Override
+    public String getHostName(String value) {
+        if (!checkHostExist || StringUtil.isBlank(value)) {
+            return null;
+        }
+
+        try {
+            String host = new URL(value.trim()).getHost();
+
+            return StringUtil.isBlank(host) ? null : host;
+        } catch (MalformedURLException e) {
+            return null;
+        }
+    }
+
     private boolean validateProtocols(String protocol) {
         if (protocol == null) {
             return false;
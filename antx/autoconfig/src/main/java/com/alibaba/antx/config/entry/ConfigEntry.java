@@ -31,7 +31,6 @@ import com.alibaba.antx.config.ConfigSettings;
 import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.generator.ConfigGenerator;
 import com.alibaba.antx.util.PatternSet;
-import com.alibaba.antx.util.SelectorUtil;
 import com.alibaba.antx.util.scanner.DefaultScannerHandler;
 
 /**
@@ -176,6 +175,15 @@ public abstract class ConfigEntry {
     /** 生成配置文件。 */
     protected abstract boolean generate(InputStream istream, OutputStream ostream);
 
+    /** 释放扫描时保存的内容，例如临时文件。未生成配置文件就放弃时，也须调用此方法。 */
+    public void release() {
+        if (subEntries != null) {
+            for (ConfigEntry subEntry : subEntries) {
+                subEntry.release();
+            }
+        }
+    }
+
     /** 扫描处理器。 */
     public class Handler extends DefaultScannerHandler {
         private List subEntries = new ArrayList();
@@ -208,19 +216,7 @@ public abstract class ConfigEntry {
                 ConfigEntryFactory factory = getConfigSettings().getConfigEntryFactory();
                 ConfigEntry subEntry = createSubEntry(name, resource, factory);
 
-                InputStream istream = null;
-
-                try {
-                    istream = getScanner().getInputStream();
-                    subEntry.scan(istream);
-                } finally {
-                    if (istream != null) {
-                        try {
-                            istream.close();
-                        } catch (IOException e) {
-                        }
-                    }
-                }
+                scanSubEntry(subEntry);
 
                 if (!subEntry.isEmpty()) {
                     subEntries.add(subEntry);
@@ -228,6 +224,23 @@ public abstract class ConfigEntry {
             }
         }
 
+        /** 从当前文件的输入流中扫描嵌套的包。 */
+        protected void scanSubEntry(ConfigEntry subEntry) {
+            InputStream istream = null;
+
+            try {
+                istream = getScanner().getInputStream();
+                subEntry.scan(istream);
+            } finally {
+                if (istream != null) {
+                    try {
+                        istream.close();
+                    } catch (IOException e) {
+                    }
+                }
+            }
+        }
+
         @Override
         public void directory() {
             String name = getScanner().getPath();
@@ -267,11 +280,8 @@ public abstract class ConfigEntry {
             String name = getScanner().getPath();
             boolean followUp = false;
 
-            followUp |= SelectorUtil.matchPathPrefix(name, getDescriptorPatterns().getIncludes(),
-                                                     getDescriptorPatterns().getExcludes());
-
-            followUp |= SelectorUtil.matchPathPrefix(name, getPackagePatterns().getIncludes(), getPackagePatterns()
-                    .getExcludes());
+            followUp |= getDescriptorPatterns().matchPathPrefix(name);
+            followUp |= getPackagePatterns().matchPathPrefix(name);
 
             if (isPackageFile(name)) {
                 return false;
@@ -314,8 +324,7 @@ public abstract class ConfigEntry {
          * @return 如果符合descriptor的patterns，则返回<code>true</code>
          */
         private boolean isDescriptorFile(String name) {
-            return SelectorUtil.matchPath(name, getDescriptorPatterns().getIncludes(), getDescriptorPatterns()
-                    .getExcludes());
+            return getDescriptorPatterns().matchPath(name);
         }
 
         /**
@@ -325,7 +334,7 @@ public abstract class ConfigEntry {
          * @return 如果符合jarfile的patterns，则返回<code>true</code>
          */
         private boolean isPackageFile(String name) {
-            return SelectorUtil.matchPath(name, getPackagePatterns().getIncludes(), getPackagePatterns().getExcludes());
+            return getPackagePatterns().matchPath(name);
         }
     }
 }
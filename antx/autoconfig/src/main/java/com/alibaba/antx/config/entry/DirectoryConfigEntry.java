@@ -20,6 +20,9 @@ package com.alibaba.antx.config.entry;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
 
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.ConfigResource;
@@ -27,7 +30,6 @@ import com.alibaba.antx.config.ConfigSettings;
 import com.alibaba.antx.config.generator.ConfigGeneratorSession;
 import com.alibaba.antx.config.generator.DirectoryCallback;
 import com.alibaba.antx.util.scanner.DirectoryScanner;
-import com.alibaba.antx.util.scanner.Scanner;
 import com.alibaba.antx.util.scanner.ScannerException;
 
 /**
@@ -50,7 +52,10 @@ public class DirectoryConfigEntry extends ConfigEntry {
     @Override
     protected void scan(InputStream istream) {
         Handler handler = new Handler();
-        Scanner scanner = new DirectoryScanner(getConfigEntryResource().getFile(), handler);
+        DirectoryScanner scanner = new DirectoryScanner(getConfigEntryResource().getFile(), handler);
+
+        // 目录输出可能很大，使用和生成配置文件相同的线程数预读目录
+        scanner.setThreads(getConfigSettings().getConfigExecutor().getThreads());
 
         try {
             scanner.scan();
@@ -73,19 +78,30 @@ public class DirectoryConfigEntry extends ConfigEntry {
         // 处理自己的descriptors
         try {
             ConfigGeneratorSession session = getGenerator().startSession(getConfigSettings().getPropertiesSet());
+            DirectoryCallback callback = new DirectoryCallback(getGenerator(), getOutputFile());
+
+            // 跳过模板和properties都未改变的目标文件
+            session.setManifestSource(callback);
 
-            allSuccess &= session.generate(new DirectoryCallback(getGenerator(), getOutputFile()));
+            allSuccess &= session.generate(callback);
         } finally {
             getGenerator().closeSession();
         }
 
-        // 处理子entries
+        // 处理子entries，每个子entry生成各自的文件，故可并行处理
         ConfigEntry[] subEntries = getSubEntries();
-
-        for (ConfigEntry subEntry : subEntries) {
-            allSuccess &= subEntry.generate(null, null);
+        List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(subEntries.length);
+
+        for (final ConfigEntry subEntry : subEntries) {
+            tasks.add(new Callable<Boolean>() {
+                public Boolean call() {
+                    return subEntry.generate(null, null);
+                }
+            });
         }
 
+        allSuccess &= getConfigSettings().getConfigExecutor().invokeAll(tasks, getConfigSettings());
+
         return allSuccess;
     }
 
@@ -19,27 +19,45 @@ package com.alibaba.antx.config.entry;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
+import com.alibaba.antx.config.ConfigConstant;
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.ConfigResource;
 import com.alibaba.antx.config.ConfigSettings;
 import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.descriptor.ConfigGenerate;
 import com.alibaba.antx.config.generator.ConfigGeneratorCallback;
+import com.alibaba.antx.config.generator.ConfigManifest;
+import com.alibaba.antx.util.SpillBuffer;
+import com.alibaba.antx.util.i18n.LocaleInfo;
 import com.alibaba.antx.util.scanner.ScannerException;
 import com.alibaba.antx.util.scanner.ZipScanner;
+import com.alibaba.antx.util.zip.RawZipEntry;
+import com.alibaba.antx.util.zip.RawZipFile;
+import com.alibaba.antx.util.zip.RawZipOutputStream;
 
 /**
  * 代表一个Jar文件类型的配置项信息。
@@ -47,6 +65,13 @@ import com.alibaba.antx.util.scanner.ZipScanner;
  * @author Michael Zhou
  */
 public class ZipConfigEntry extends ConfigEntry {
+    /** 用来识别备份所属的zip文件的数据长度，即central directory之前的这些字节的校验和，原地更新时不会改变这些字节。 */
+    private static final int FINGERPRINT_LENGTH = 64 * 1024;
+
+    private SpillBuffer scannedContent;
+    private boolean     captureScannedContent = true;
+    private Boolean     upToDate;
+
     /**
      * 创建一个结点。
      *
@@ -59,28 +84,130 @@ public class ZipConfigEntry extends ConfigEntry {
 
     /**
      * 扫描结点。
+     * <p>
+     * 对于本地的zip文件，只读取其central directory，并只解压需要的entries，例如descriptor和嵌套的包。
+     * </p>
+     * <p>
+     * 对于嵌套的包，如果其中包含descriptor或嵌套的包，则将包的内容保存下来，生成配置文件时直接使用。如果外层是本地的zip文件，
+     * 则扫描完以后再从中读出需要保存的包，否则只能在扫描的同时保存包的内容。参见<code>RawZipHandler</code>。
+     * </p>
      *
      * @param istream zip文件的输入流
      */
     @Override
     protected void scan(InputStream istream) {
-        Handler handler = new Handler();
+        SpillBuffer content = null;
+        RawZipFile zipFile = null;
+
+        if (istream != null) {
+            if (captureScannedContent) {
+                content = new SpillBuffer(ConfigConstant.NESTED_PACKAGE_MEMORY_THRESHOLD);
+                istream = new TeeInputStream(istream, content);
+            }
+        } else {
+            try {
+                File file = getConfigEntryResource().getFile();
+
+                // 仅当要原地更新时，才检查上次的更新是否被中止
+                if (file != null && file.isFile() && getOutputFile() == null && getConfigSettings().isUpdateInPlace()) {
+                    recoverInPlaceUpdate(file);
+                }
+
+                zipFile = openRawZipFile(file);
+            } catch (IOException e) {
+                throw new ConfigException(e);
+            }
+        }
+
+        Handler handler = zipFile != null ? new RawZipHandler(zipFile) : new Handler();
         ZipScanner scanner = new ZipScanner(getConfigEntryResource().getURL(), handler);
 
         scanner.setInputStream(istream);
+        scanner.setZipFile(zipFile);
+
+        boolean success = false;
 
         try {
             scanner.scan();
+
+            // ZipInputStream不会读取central directory，将剩余的内容读完
+            if (content != null) {
+                byte[] buffer = new byte[8192];
+
+                while (istream.read(buffer) >= 0) {
+                }
+
+                content.close();
+            }
+
+            success = true;
         } catch (ScannerException e) {
             throw new ConfigException(e);
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        } finally {
+            if (zipFile != null) {
+                zipFile.close();
+            }
+
+            if (!success && content != null) {
+                content.delete();
+            }
         }
 
-        subEntries = handler.getSubEntries();
+        subEntries = removeSupersededEntries(handler.getSubEntries());
 
         getGenerator().init();
+
+        if (content != null) {
+            if (isEmpty()) {
+                content.delete();
+            } else {
+                scannedContent = content;
+            }
+        }
+    }
+
+    /**
+     * 如果有同名的嵌套包，则只保留最后一个，这和通过central directory读取的结果一致。
+     * <p>
+     * 在原文件中追加过entries的zip文件中，被取代的旧entries仍然可以被<code>ZipInputStream</code>读到。
+     * </p>
+     */
+    private ConfigEntry[] removeSupersededEntries(ConfigEntry[] entries) {
+        Map<String, ConfigEntry> entryMap = new LinkedHashMap<String, ConfigEntry>();
+
+        for (ConfigEntry entry : entries) {
+            ConfigEntry superseded = entryMap.remove(entry.getName());
+
+            if (superseded instanceof ZipConfigEntry) {
+                ((ZipConfigEntry) superseded).releaseScannedContent();
+            }
+
+            entryMap.put(entry.getName(), entry);
+        }
+
+        if (entryMap.size() == entries.length) {
+            return entries;
+        }
+
+        return entryMap.values().toArray(new ConfigEntry[entryMap.size()]);
     }
 
-    /** 生成配置文件。 */
+    /**
+     * 生成配置文件。
+     * <p>
+     * 如果zip文件是一个本地文件，则直接读取其central directory，除了模板、目标文件和嵌套的包以外，其余entries均原样复制压缩后的数据，
+     * 不需要解压和重新压缩。否则，用<code>ZipInputStream</code>逐个处理entries。
+     * </p>
+     * <p>
+     * 如果zip文件中所有的目标文件都是最新的，即模板和所引用的properties都没有改变，则不会重写zip文件。
+     * </p>
+     * <p>
+     * 如果设置了<code>updateInPlace</code>，对于本地的zip文件，则只在文件末尾追加生成的文件，并重写central directory，参见
+     * <code>generateInPlace()</code>。
+     * </p>
+     */
     @Override
     protected boolean generate(InputStream istream, OutputStream ostream) {
         boolean needCloseOutputStream = false;
@@ -91,8 +218,24 @@ public class ZipConfigEntry extends ConfigEntry {
 
         getConfigSettings().debug("Processing files in " + getConfigEntryResource());
 
-        ZipInputStream zis = null;
-        ZipOutputStream zos = null;
+        if (ostream == null && outputFile == null && isUpToDate()) {
+            getConfigSettings().info("<" + getConfigEntryResource().getURL() + ">\n    All files are up to date\n");
+            releaseScannedContent();
+            return true;
+        }
+
+        if (ostream == null && outputFile == null && istream == null && scannedContent == null
+            && getConfigSettings().isUpdateInPlace()) {
+            RawZipFile zipFile = openInPlaceZipFile();
+
+            if (zipFile != null) {
+                return generateInPlace(zipFile);
+            }
+        }
+
+        RawZipFile zipFile = null;
+        RawZipOutputStream zos = null;
+        FileChannel channel = null;
         Set dirs = new HashSet();
 
         boolean allSuccess = true;
@@ -112,12 +255,28 @@ public class ZipConfigEntry extends ConfigEntry {
 
                 outputFile.getParentFile().mkdirs();
 
-                ostream = new BufferedOutputStream(new FileOutputStream(outputFile), 8192);
+                FileOutputStream fos = new FileOutputStream(outputFile);
+
+                channel = fos.getChannel();
+                ostream = new BufferedOutputStream(fos, 8192);
                 needCloseOutputStream = true;
             }
 
+            if (scannedContent != null) {
+                // 对于嵌套的包，使用扫描时保存的内容
+                zipFile = openRawZipFile(scannedContent.getFile());
+
+                if (zipFile == null) {
+                    istream = scannedContent.getInputStream();
+                    needCloseInputStream = true;
+                }
+            } else if (istream == null) {
+                // 对于本地文件，直接读取central directory
+                zipFile = openRawZipFile(getConfigEntryResource().getFile());
+            }
+
             // 检查或打开istream
-            if (istream == null) {
+            if (istream == null && zipFile == null) {
                 istream = getConfigEntryResource().getURL().openStream();
 
                 if (!(istream instanceof BufferedInputStream)) {
@@ -127,15 +286,21 @@ public class ZipConfigEntry extends ConfigEntry {
                 needCloseInputStream = true;
             }
 
-            zis = new ZipInputStream(istream);
-            zos = new ZipOutputStream(ostream);
-
-            ZipEntry zipEntry;
+            zos = new RawZipOutputStream(ostream, channel, 0);
 
             getGenerator().startSession(getConfigSettings().getPropertiesSet());
 
-            while ((zipEntry = zis.getNextEntry()) != null) {
-                allSuccess &= processZipEntry(zipEntry, zis, zos, dirs);
+            if (zipFile != null) {
+                for (RawZipEntry zipEntry : zipFile.getEntries()) {
+                    allSuccess &= processRawZipEntry(zipEntry, zipFile, zos, dirs);
+                }
+            } else {
+                ZipInputStream zis = new ZipInputStream(istream);
+                ZipEntry zipEntry;
+
+                while ((zipEntry = zis.getNextEntry()) != null) {
+                    allSuccess &= processZipEntry(zipEntry, zis, zos, dirs);
+                }
             }
 
             allSuccess &= getGenerator().getSession().generateLazyItems(new ZipCallback(zos, dirs));
@@ -157,6 +322,10 @@ public class ZipConfigEntry extends ConfigEntry {
                 }
             }
 
+            if (zipFile != null) {
+                zipFile.close();
+            }
+
             // 仅当输入流是由当前entry亲自打开的，才关闭流
             if (needCloseInputStream && istream != null) {
                 try {
@@ -165,6 +334,8 @@ public class ZipConfigEntry extends ConfigEntry {
                 }
             }
 
+            releaseScannedContent();
+
             // 仅当输出流是由当前entry亲自打开的，才关闭流
             if (needCloseOutputStream && ostream != null) {
                 try {
@@ -214,12 +385,392 @@ public class ZipConfigEntry extends ConfigEntry {
         return allSuccess;
     }
 
-    private boolean processZipEntry(ZipEntry zipEntry, ZipInputStream zis, ZipOutputStream zos, Set dirs)
+    /** 打开本地zip文件，如果不是本地文件，或者是不支持的格式，则返回<code>null</code>。 */
+    private RawZipFile openRawZipFile(File file) throws IOException {
+        if (file == null || !file.isFile()) {
+            return null;
+        }
+
+        try {
+            return new RawZipFile(file);
+        } catch (ZipException e) {
+            getConfigSettings().debug("Could not read central directory of " + file + ": " + e.getMessage()
+                                      + ", processing it as a zip stream");
+            return null;
+        }
+    }
+
+    /** 打开要追加entries的本地zip文件，如果文件中被取代的旧数据过多，则返回<code>null</code>，以便重写整个文件。 */
+    private RawZipFile openInPlaceZipFile() {
+        RawZipFile zipFile;
+
+        try {
+            zipFile = openRawZipFile(getConfigEntryResource().getFile());
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+
+        if (zipFile != null && zipFile.getUnusedSpace() > zipFile.getCentralDirectoryOffset() / 2) {
+            getConfigSettings().debug("Too much unused space in " + zipFile.getFile() + ", rewriting it");
+            zipFile.close();
+            return null;
+        }
+
+        return zipFile;
+    }
+
+    /**
+     * 在原zip文件中生成配置文件。
+     * <p>
+     * 未改变的entries，包括模板，都保留在原处，目标文件、日志文件以及需要重新生成的嵌套包被追加在原central directory的位置，
+     * 最后写入新的central directory。被取代的旧entries仍留在文件中，但不再被central directory引用。 这样，对于很大的zip文件，
+     * 只需写入改变的部分，而不必重写整个文件。
+     * </p>
+     * <p>
+     * 如果生成失败，则恢复原来的central directory。为了防止进程在写入过程中被中止，在改动zip文件以前，原来的central directory被备份在
+     * <code>&lt;file&gt;.autoconfig.cen</code>中，直到新的central directory被写入磁盘以后才删除。下次原地更新时，如果备份仍然存在，
+     * 则说明上次的写入被中止，此时用它恢复zip文件。
+     * </p>
+     */
+    private boolean generateInPlace(RawZipFile zipFile) {
+        File file = zipFile.getFile();
+        File backupFile = getCentralDirectoryBackupFile(file);
+        long cenOffset = zipFile.getCentralDirectoryOffset();
+        RandomAccessFile raf = null;
+        byte[] centralDirectory = null;
+        boolean backedUp = false;
+        Set dirs = new HashSet();
+        boolean allSuccess = true;
+        boolean success = false;
+
+        getConfigSettings().debug("Updating " + file + " in place");
+
+        try {
+            raf = new RandomAccessFile(file, "rw");
+
+            // 保存原来的central directory，以便失败时恢复
+            centralDirectory = new byte[(int) (raf.length() - cenOffset)];
+            raf.seek(cenOffset);
+            raf.readFully(centralDirectory);
+
+            writeCentralDirectoryBackup(backupFile, raf, cenOffset, centralDirectory);
+            backedUp = true;
+
+            FileChannel channel = raf.getChannel();
+
+            channel.position(cenOffset);
+
+            RawZipOutputStream zos = new RawZipOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                                                                                     8192), channel, cenOffset);
+
+            // 原有的目录都被保留，生成文件时不必再创建
+            for (RawZipEntry zipEntry : zipFile.getEntries()) {
+                if (zipEntry.isDirectory()) {
+                    dirs.add(zipEntry.getName());
+                }
+            }
+
+            getGenerator().startSession(getConfigSettings().getPropertiesSet());
+
+            for (RawZipEntry zipEntry : zipFile.getEntries()) {
+                allSuccess &= updateRawZipEntry(zipEntry, zipFile, zos, dirs);
+            }
+
+            allSuccess &= getGenerator().getSession().generateLazyItems(new ZipCallback(zos, dirs));
+
+            getGenerator().getSession().checkNonprocessedTemplates();
+            getGenerator().getSession().generateLog(new ZipCallback(zos, dirs));
+
+            zos.finish();
+            channel.truncate(channel.position());
+
+            // 确保新的central directory已写入磁盘，再删除备份
+            channel.force(true);
+
+            success = true;
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        } finally {
+            getGenerator().closeSession();
+            zipFile.close();
+
+            if (raf != null) {
+                boolean restored = success;
+
+                if (!success && centralDirectory != null) {
+                    try {
+                        raf.seek(cenOffset);
+                        raf.write(centralDirectory);
+                        raf.setLength(cenOffset + centralDirectory.length);
+                        raf.getFD().sync();
+                        restored = true;
+                    } catch (IOException e) {
+                        getConfigSettings().error("Could not restore " + file, e);
+                    }
+                }
+
+                try {
+                    raf.close();
+                } catch (IOException e) {
+                }
+
+                // 如果恢复失败，则保留备份，下次打开文件时再恢复
+                if (backedUp && restored) {
+                    backupFile.delete();
+                }
+            }
+
+            releaseScannedContent();
+        }
+
+        return allSuccess;
+    }
+
+    private File getCentralDirectoryBackupFile(File file) {
+        return new File(file.getPath() + ".autoconfig.cen");
+    }
+
+    /**
+     * 将原来的central directory及其位置写入备份文件，并确保其被写入磁盘。
+     * <p>
+     * 备份中同时记录了原文件的长度，以及central directory之前一段数据的校验和，恢复时用来确认备份属于当前的zip文件。
+     * </p>
+     */
+    private void writeCentralDirectoryBackup(File backupFile, RandomAccessFile raf, long cenOffset,
+                                             byte[] centralDirectory) throws IOException {
+        long fingerprint = getFingerprint(raf, cenOffset);
+        FileOutputStream fos = new FileOutputStream(backupFile);
+
+        try {
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(fos, 8192));
+
+            dos.writeLong(raf.length());
+            dos.writeLong(cenOffset);
+            dos.writeLong(fingerprint);
+            dos.writeInt(centralDirectory.length);
+            dos.write(centralDirectory);
+            dos.flush();
+
+            fos.getFD().sync();
+        } finally {
+            try {
+                fos.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    /** 取得central directory之前一段数据的校验和，原地更新只在<code>cenOffset</code>之后写入，不会改变这些数据。 */
+    private long getFingerprint(RandomAccessFile raf, long cenOffset) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(cenOffset, FINGERPRINT_LENGTH)];
+        CRC32 crc = new CRC32();
+
+        raf.seek(cenOffset - buffer.length);
+        raf.readFully(buffer);
+        crc.update(buffer);
+
+        return crc.getValue();
+    }
+
+    /**
+     * 如果上次原地更新zip文件时被中止，则用备份的central directory恢复zip文件。
+     * <p>
+     * 备份在改动zip文件以前写入，如果备份本身不完整，则说明zip文件尚未被改动，直接删除备份即可。
+     * </p>
+     * <p>
+     * 如果备份所记录的校验和与zip文件不符，说明zip文件在此之后已被替换，例如被重新打包，此时不能改动zip文件，只删除过期的备份。
+     * </p>
+     */
+    private void recoverInPlaceUpdate(File file) throws IOException {
+        File backupFile = getCentralDirectoryBackupFile(file);
+
+        if (!backupFile.isFile()) {
+            return;
+        }
+
+        long originalLength = -1;
+        long cenOffset = -1;
+        long fingerprint = -1;
+        byte[] centralDirectory = null;
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(backupFile), 8192));
+
+        try {
+            originalLength = dis.readLong();
+            cenOffset = dis.readLong();
+            fingerprint = dis.readLong();
+
+            int length = dis.readInt();
+
+            if (length >= 0 && length <= backupFile.length()) {
+                centralDirectory = new byte[length];
+                dis.readFully(centralDirectory);
+            }
+        } catch (EOFException e) {
+            centralDirectory = null;
+        } finally {
+            try {
+                dis.close();
+            } catch (IOException e) {
+            }
+        }
+
+        if (centralDirectory != null && cenOffset >= 0 && cenOffset + centralDirectory.length == originalLength
+            && cenOffset <= file.length()) {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+            try {
+                if (getFingerprint(raf, cenOffset) == fingerprint) {
+                    raf.seek(cenOffset);
+                    raf.write(centralDirectory);
+                    raf.setLength(originalLength);
+                    raf.getFD().sync();
+
+                    getConfigSettings().warn(
+                            "Restored " + file + ", which was left incomplete by an interrupted update");
+                } else {
+                    getConfigSettings().warn("Ignored " + backupFile + ", which does not belong to " + file);
+                }
+            } finally {
+                try {
+                    raf.close();
+                } catch (IOException e) {
+                }
+            }
+        } else if (centralDirectory != null) {
+            getConfigSettings().warn("Ignored " + backupFile + ", which does not belong to " + file);
+        }
+
+        backupFile.delete();
+    }
+
+    @Override
+    public void release() {
+        releaseScannedContent();
+        super.release();
+    }
+
+    /** 删除扫描时保存的内容，包括所有嵌套的包。 */
+    private void releaseScannedContent() {
+        if (scannedContent != null) {
+            scannedContent.delete();
+            scannedContent = null;
+        }
+
+        for (ConfigEntry subEntry : getSubEntries()) {
+            if (subEntry instanceof ZipConfigEntry) {
+                ((ZipConfigEntry) subEntry).releaseScannedContent();
+            }
+        }
+    }
+
+    /** 判断zip文件中所有的目标文件，包括嵌套的包中的目标文件，是否都是最新的。 */
+    private boolean isUpToDate() {
+        if (upToDate == null) {
+            upToDate = checkUpToDate();
+        }
+
+        return upToDate;
+    }
+
+    private boolean checkUpToDate() {
+        if (getGenerator().getConfigDescriptors().length > 0) {
+            ArchiveContents contents = new ArchiveContents();
+
+            try {
+                if (!contents.load()) {
+                    return false;
+                }
+            } catch (IOException e) {
+                throw new ConfigException(e);
+            }
+
+            if (!getGenerator().isUpToDate(getConfigSettings().getPropertiesSet(), contents)) {
+                return false;
+            }
+        }
+
+        for (ConfigEntry subEntry : getSubEntries()) {
+            if (!(subEntry instanceof ZipConfigEntry) || !((ZipConfigEntry) subEntry).isUpToDate()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** 处理本地zip文件中的一个entry，普通文件以及未改变的嵌套包将被原样复制，不需要解压和重新压缩。 */
+    private boolean processRawZipEntry(RawZipEntry zipEntry, RawZipFile zipFile, RawZipOutputStream zos, Set dirs)
+            throws IOException {
+        String name = zipEntry.getName();
+        ConfigEntry subEntry = getSubEntry(name);
+
+        if (subEntry != null && ((ZipConfigEntry) subEntry).isUpToDate()) {
+            ((ZipConfigEntry) subEntry).releaseScannedContent();
+        } else if (zipEntry.isDirectory() || subEntry != null || getGenerator().isTemplateFile(name)
+                   || getGenerator().isDestFile(name) || getGenerator().isDescriptorLogFile(name)) {
+            InputStream zis = zipFile.getInputStream(zipEntry);
+
+            try {
+                return processZipEntry(zipEntry, zis, zos, dirs);
+            } finally {
+                zis.close();
+            }
+        }
+
+        // 这是一个普通文件，原样复制压缩后的数据
+        zos.putRawEntry(zipEntry, zipFile);
+
+        return true;
+    }
+
+    /** 在原zip文件中处理一个entry，除了目标文件、日志文件以及需要重新生成的嵌套包以外，其余entries均保留在原处。 */
+    private boolean updateRawZipEntry(RawZipEntry zipEntry, RawZipFile zipFile, RawZipOutputStream zos, Set dirs)
             throws IOException {
         String name = zipEntry.getName();
         ConfigEntry subEntry = getSubEntry(name);
+        boolean template = getGenerator().isTemplateFile(name) && !getGenerator().isDestFile(name);
+
+        if (subEntry != null && ((ZipConfigEntry) subEntry).isUpToDate()) {
+            ((ZipConfigEntry) subEntry).releaseScannedContent();
+        } else if (subEntry != null || getGenerator().isTemplateFile(name) || getGenerator().isDestFile(name)
+                   || getGenerator().isDescriptorLogFile(name)) {
+            InputStream zis = zipFile.getInputStream(zipEntry);
+
+            try {
+                if (!template) {
+                    return processZipEntry(zipEntry, zis, zos, dirs);
+                }
 
-        if (subEntry != null) {
+                // 模板本身不变，保留在原处，只生成目标文件
+                zos.keepEntry(zipEntry);
+
+                SpillBuffer content = bufferTemplate(zis);
+
+                try {
+                    return getGenerator().getSession().generate(name, new ZipCallback(content, zos, dirs));
+                } finally {
+                    content.delete();
+                }
+            } finally {
+                zis.close();
+            }
+        }
+
+        zos.keepEntry(zipEntry);
+
+        return true;
+    }
+
+    private boolean processZipEntry(ZipEntry zipEntry, InputStream zis, RawZipOutputStream zos, Set dirs)
+            throws IOException {
+        String name = zipEntry.getName();
+        ConfigEntry subEntry = getSubEntry(name);
+
+        if (subEntry != null && ((ZipConfigEntry) subEntry).isUpToDate()) {
+            // 这是一个嵌套的jar entry，但其中的文件都是最新的，复制即可
+            ((ZipConfigEntry) subEntry).releaseScannedContent();
+            copyFile(zipEntry, zis, zos);
+        } else if (subEntry != null) {
             // 这是一个嵌套的jar entry
             ZipEntry zipEntryToWrite = new ZipEntry(zipEntry.getName());
 
@@ -227,18 +778,29 @@ public class ZipConfigEntry extends ConfigEntry {
 
             return subEntry.generate(zis, zos);
         } else if (getGenerator().isTemplateFile(name)) {
-            // 先把流倒到内存里，因为要用多次
-            byte[] bytes = streamToBytes(zis);
+            // 先把流倒到缓冲区里，因为要用多次
+            SpillBuffer content = bufferTemplate(zis);
 
             if (getGenerator().isDestFile(name)) {
                 // 对于目标文件，假设为WEB-INF/web.xml，先保存其内容。
                 // 在最后，检查如果没有META-INF/autoconf/WEB-INF/web.xml存在，则将其视为模板并生成之。
-                getGenerator().getSession().addLazyGenerateItem(name, bytes);
+                getGenerator().getSession().addLazyGenerateItem(name, content);
                 return true;
             } else {
                 // 假设当前文件为META-INF/autoconf/**，那么复制并生成目标文件。
-                copyFile(zipEntry, new ByteArrayInputStream(bytes), zos);
-                return getGenerator().getSession().generate(name, new ZipCallback(bytes, zos, dirs));
+                try {
+                    InputStream istream = content.getInputStream();
+
+                    try {
+                        copyFile(zipEntry, istream, zos);
+                    } finally {
+                        istream.close();
+                    }
+
+                    return getGenerator().getSession().generate(name, new ZipCallback(content, zos, dirs));
+                } finally {
+                    content.delete();
+                }
             }
         } else if (getGenerator().isDestFile(name)) {
             // 这个文件将被模板生成的文件覆盖，故忽略之
@@ -255,13 +817,35 @@ public class ZipConfigEntry extends ConfigEntry {
         return true;
     }
 
-    private byte[] streamToBytes(ZipInputStream zis) throws IOException {
+    /**
+     * 将模板的内容保存到缓冲区中，超过<code>ConfigSettings.getTemplateMemoryThreshold()</code>，
+     * 或者超出所有模板共享的内存限额的内容，被保存到临时文件中。
+     * 使用完毕后须调用<code>SpillBuffer.delete()</code>。
+     */
+    private SpillBuffer bufferTemplate(InputStream zis) throws IOException {
+        SpillBuffer content = new SpillBuffer(getConfigSettings().getTemplateMemoryThreshold(),
+                                              getConfigSettings().getTemplateMemoryBudget());
+        boolean success = false;
+
+        try {
+            content.readFrom(zis).close();
+            success = true;
+        } finally {
+            if (!success) {
+                content.delete();
+            }
+        }
+
+        return content;
+    }
+
+    private byte[] streamToBytes(InputStream zis) throws IOException {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         io(zis, baos);
         return baos.toByteArray();
     }
 
-    private void mkdirs(String dir, ZipOutputStream zos, Set dirs) throws IOException {
+    private void mkdirs(String dir, RawZipOutputStream zos, Set dirs) throws IOException {
         dir = dir.replace('\\', '/');
 
         while (dir.startsWith("/")) {
@@ -282,7 +866,7 @@ public class ZipConfigEntry extends ConfigEntry {
         }
     }
 
-    private void copyFile(ZipEntry zipEntry, InputStream istream, ZipOutputStream zos) throws IOException {
+    private void copyFile(ZipEntry zipEntry, InputStream istream, RawZipOutputStream zos) throws IOException {
         zos.putNextEntry(new ZipEntry(zipEntry));
         io(istream, zos);
     }
@@ -318,28 +902,231 @@ public class ZipConfigEntry extends ConfigEntry {
         return "ZipConfigEntry[" + getConfigEntryResource() + "]";
     }
 
+    /** 扫描本地zip文件的处理器。嵌套的包在扫描时不保存其内容，只有当其中包含descriptor或嵌套的包时，才从zip文件中再次读出并保存。 */
+    private class RawZipHandler extends Handler {
+        private final RawZipFile zipFile;
+
+        public RawZipHandler(RawZipFile zipFile) {
+            this.zipFile = zipFile;
+        }
+
+        @Override
+        protected void scanSubEntry(ConfigEntry subEntry) {
+            if (!(subEntry instanceof ZipConfigEntry)) {
+                super.scanSubEntry(subEntry);
+                return;
+            }
+
+            ZipConfigEntry zipSubEntry = (ZipConfigEntry) subEntry;
+
+            zipSubEntry.captureScannedContent = false;
+            super.scanSubEntry(subEntry);
+
+            if (subEntry.isEmpty()) {
+                return;
+            }
+
+            SpillBuffer content = new SpillBuffer(ConfigConstant.NESTED_PACKAGE_MEMORY_THRESHOLD);
+            boolean success = false;
+
+            try {
+                InputStream istream = zipFile.getInputStream((RawZipEntry) ((ZipScanner) getScanner()).getZipEntry());
+
+                try {
+                    content.readFrom(istream).close();
+                } finally {
+                    istream.close();
+                }
+
+                success = true;
+            } catch (IOException e) {
+                throw new ConfigException(e);
+            } finally {
+                if (!success) {
+                    content.delete();
+                }
+            }
+
+            zipSubEntry.scannedContent = content;
+        }
+    }
+
+    /** 将读出的数据同时写入缓冲区的输入流。 */
+    private static class TeeInputStream extends FilterInputStream {
+        private final OutputStream copy;
+
+        public TeeInputStream(InputStream in, OutputStream copy) {
+            super(in);
+            this.copy = copy;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+
+            if (b >= 0) {
+                copy.write(b);
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = in.read(b, off, len);
+
+            if (count > 0) {
+                copy.write(b, off, count);
+            }
+
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(n, 8192)];
+            long skipped = 0;
+            int count;
+
+            while (skipped < n && (count = read(buffer, 0, (int) Math.min(buffer.length, n - skipped))) > 0) {
+                skipped += count;
+            }
+
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+
+    /** 读取zip文件中上次生成的日志、模板和目标文件的校验和，用来判断目标文件是否为最新。 */
+    private final class ArchiveContents implements ConfigManifest.Source {
+        private final Map<String, byte[]> contents  = new HashMap<String, byte[]>();
+        private final Map<String, String> checksums = new HashMap<String, String>();
+
+        /** 读取zip文件，如果不能读取，则返回<code>false</code>。 */
+        public boolean load() throws IOException {
+            Set<String> names = new HashSet<String>();
+
+            for (ConfigDescriptor descriptor : getGenerator().getConfigDescriptors()) {
+                names.add(getGenerator().getDescriptorLogFile(descriptor));
+
+                for (ConfigGenerate generate : descriptor.getGenerates()) {
+                    names.add(generate.getTemplateBase() + generate.getTemplate());
+                    names.add(generate.getTemplate());
+                }
+            }
+
+            File file = scannedContent != null ? scannedContent.getFile() : getConfigEntryResource().getFile();
+            RawZipFile zipFile = openRawZipFile(file);
+
+            if (zipFile != null) {
+                try {
+                    for (RawZipEntry zipEntry : zipFile.getEntries()) {
+                        String name = zipEntry.getName();
+
+                        checksums.put(name, ConfigManifest.toChecksum(zipEntry.getCrc()));
+
+                        if (names.contains(name)) {
+                            InputStream istream = zipFile.getInputStream(zipEntry);
+
+                            try {
+                                contents.put(name, streamToBytes(istream));
+                            } finally {
+                                istream.close();
+                            }
+                        }
+                    }
+                } finally {
+                    zipFile.close();
+                }
+
+                return true;
+            }
+
+            InputStream istream;
+
+            if (scannedContent != null) {
+                istream = scannedContent.getInputStream();
+            } else if (file != null && file.isFile()) {
+                istream = new FileInputStream(file);
+            } else {
+                return false;
+            }
+
+            ZipInputStream zis = new ZipInputStream(new BufferedInputStream(istream, 8192));
+
+            try {
+                ZipEntry zipEntry;
+
+                while ((zipEntry = zis.getNextEntry()) != null) {
+                    String name = zipEntry.getName();
+
+                    if (names.contains(name)) {
+                        contents.put(name, streamToBytes(zis));
+                    }
+
+                    // 读完entry以后，才能取得crc
+                    zis.closeEntry();
+                    checksums.put(name, ConfigManifest.toChecksum(zipEntry.getCrc()));
+                }
+            } finally {
+                zis.close();
+            }
+
+            return true;
+        }
+
+        public String getLogContent(ConfigDescriptor descriptor, String logfileName) throws IOException {
+            byte[] bytes = contents.get(logfileName);
+            return bytes == null ? null : new String(bytes, LocaleInfo.getDefault().getCharset());
+        }
+
+        public byte[] getTemplateContent(ConfigGenerate generate) {
+            byte[] bytes = contents.get(generate.getTemplateBase() + generate.getTemplate());
+            return bytes == null ? contents.get(generate.getTemplate()) : bytes;
+        }
+
+        public String getDestfileChecksum(ConfigGenerate generate) {
+            return checksums.get(generate.getDestfile());
+        }
+    }
+
     /** 用来生成目标文件的callback。 */
     private final class ZipCallback implements ConfigGeneratorCallback {
-        private final byte[]          bytes;
-        private final ZipOutputStream zos;
-        private final Set             dirs;
+        private final SpillBuffer        content;
+        private final RawZipOutputStream zos;
+        private final Set                dirs;
+        private       InputStream        istream;
 
-        private ZipCallback(ZipOutputStream zos, Set dirs) {
+        private ZipCallback(RawZipOutputStream zos, Set dirs) {
             this(null, zos, dirs);
         }
 
-        private ZipCallback(byte[] bytes, ZipOutputStream zos, Set dirs) {
-            this.bytes = bytes;
+        private ZipCallback(SpillBuffer content, RawZipOutputStream zos, Set dirs) {
+            this.content = content;
             this.zos = zos;
             this.dirs = dirs;
         }
 
         public String nextEntry(String template, ConfigGenerate generate) {
-            nextEntry(generate.getConfigDescriptor(), new ByteArrayInputStream(bytes), generate.getDestfile());
+            InputStream is;
+
+            try {
+                is = content.getInputStream();
+            } catch (IOException e) {
+                throw new ConfigException(e);
+            }
+
+            nextEntry(generate.getConfigDescriptor(), is, generate.getDestfile());
             return template;
         }
 
         public void nextEntry(ConfigDescriptor descriptor, InputStream is, String dest) {
+            istream = is;
+
             try {
                 makeParentDirs(dest);
                 zos.putNextEntry(new ZipEntry(dest));
@@ -363,7 +1150,15 @@ public class ZipConfigEntry extends ConfigEntry {
         }
 
         public void closeEntry() {
-            // 不需要关闭流，因为是zip stream。
+            // 只关闭模板的输入流，不需要关闭输出流，因为是zip stream。
+            if (istream != null) {
+                try {
+                    istream.close();
+                } catch (IOException e) {
+                }
+
+                istream = null;
+            }
         }
 
         private void makeParentDirs(String name) throws IOException {
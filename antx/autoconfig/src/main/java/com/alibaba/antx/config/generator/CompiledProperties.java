@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.alibaba.antx.config.generator.expr.CompositeExpression;
+import com.alibaba.antx.config.generator.expr.Expression;
+import com.alibaba.antx.config.generator.expr.ExpressionContext;
+import com.alibaba.antx.config.generator.expr.ReferenceExpression;
+import com.alibaba.antx.util.StringUtil;
+
+/**
+ * 合并后的properties，可以预先计算所有表达式的值。
+ * <p>
+ * 第一次取值时，分析所有表达式之间的引用关系，按拓扑顺序计算出所有的值并缓存起来，以后取值时不必重复计算。
+ * 处于循环引用中的值，以及引用了循环的值，其结果和取值的起点有关，故不会被缓存，仍然每次动态计算。
+ * </p>
+ * <p>
+ * 修改properties将使缓存失效，下次取值时重新计算。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class CompiledProperties extends HashMap {
+    private static final long serialVersionUID = -2427207417591470493L;
+
+    private static final int UNVISITED = 0;
+    private static final int VISITING  = 1;
+    private static final int ACYCLIC   = 2;
+    private static final int CYCLIC    = 3;
+
+    private transient volatile Map<String, Object> values;
+
+    /** 取值并计算。 */
+    public Object evaluate(String name) {
+        Map<String, Object> values = this.values;
+
+        if (values == null) {
+            values = compile();
+        }
+
+        if (values.containsKey(name)) {
+            return values.get(name);
+        }
+
+        // 不存在的值，或处于循环引用中的值
+        return PropertiesLoader.evaluateReference(name, this);
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        values = null;
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map map) {
+        values = null;
+        super.putAll(map);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        values = null;
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        values = null;
+        super.clear();
+    }
+
+    /**
+     * 分析引用关系，并计算所有不涉及循环引用的值。
+     * <p>
+     * 引用关系图的结点是key的合法标识符形式，这和<code>ReferenceExpression</code>中防止无限递归的判断是一致的：
+     * 只要从某个结点出发不能到达任何循环，那么计算它的值时就不会触发该判断，其结果是确定的。
+     * </p>
+     */
+    private synchronized Map<String, Object> compile() {
+        if (values != null) {
+            return values;
+        }
+
+        Map<String, List<String>> keysByNode = new HashMap<String, List<String>>();
+        Map<String, Set<String>> references = new HashMap<String, Set<String>>();
+
+        for (Iterator i = entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) i.next();
+            String key = (String) entry.getKey();
+            String node = StringUtil.getValidIdentifier(key);
+            List<String> keys = keysByNode.get(node);
+
+            if (keys == null) {
+                keys = new LinkedList<String>();
+                keysByNode.put(node, keys);
+            }
+
+            keys.add(key);
+
+            if (entry.getValue() instanceof Expression) {
+                Set<String> refs = references.get(node);
+
+                if (refs == null) {
+                    refs = new HashSet<String>();
+                    references.put(node, refs);
+                }
+
+                collectReferences((Expression) entry.getValue(), refs);
+            }
+        }
+
+        // 按拓扑顺序计算，被引用的值总是先于引用者被计算
+        final Map<String, Object> values = new HashMap<String, Object>();
+        ExpressionContext context = new ExpressionContext() {
+            public Object get(String key) {
+                return values.get(key);
+            }
+
+            public void put(String key, Object value) {
+            }
+        };
+
+        for (String node : sort(keysByNode.keySet(), references)) {
+            List<String> keys = keysByNode.get(node);
+
+            if (keys == null) {
+                continue;
+            }
+
+            for (String key : keys) {
+                Object value = super.get(key);
+
+                if (value instanceof Expression) {
+                    value = ((Expression) value).evaluate(context);
+                }
+
+                values.put(key, value);
+            }
+        }
+
+        this.values = values;
+
+        return values;
+    }
+
+    /** 用深度优先遍历对引用关系图排序，返回所有不涉及循环引用的结点，被引用者在前。 */
+    private static List<String> sort(Set<String> nodes, Map<String, Set<String>> references) {
+        Map<String, Integer> states = new HashMap<String, Integer>();
+        List<String> sorted = new ArrayList<String>(nodes.size());
+        LinkedList<Object[]> stack = new LinkedList<Object[]>(); // [node, iterator of references]
+
+        for (String start : nodes) {
+            if (states.containsKey(start)) {
+                continue;
+            }
+
+            push(start, references, states, stack);
+
+            while (!stack.isEmpty()) {
+                Object[] frame = stack.getFirst();
+                String node = (String) frame[0];
+                Iterator<?> refs = (Iterator<?>) frame[1];
+
+                if (refs.hasNext()) {
+                    String ref = (String) refs.next();
+                    Integer state = states.get(ref);
+
+                    if (state == null) {
+                        push(ref, references, states, stack);
+                    } else if (state == VISITING || state == CYCLIC) {
+                        // 回到了正在遍历的结点，说明存在循环
+                        states.put(node, CYCLIC);
+                    }
+
+                    continue;
+                }
+
+                stack.removeFirst();
+
+                if (states.get(node) == VISITING) {
+                    states.put(node, ACYCLIC);
+                    sorted.add(node);
+                }
+
+                // 引用了循环的结点，其值也不确定
+                if (!stack.isEmpty() && states.get(node) == CYCLIC) {
+                    states.put((String) stack.getFirst()[0], CYCLIC);
+                }
+            }
+        }
+
+        return sorted;
+    }
+
+    private static void push(String node, Map<String, Set<String>> references, Map<String, Integer> states,
+                             LinkedList<Object[]> stack) {
+        Set<String> refs = references.get(node);
+
+        states.put(node, VISITING);
+        stack.addFirst(new Object[] { node, refs == null ? new HashSet<String>().iterator() : refs.iterator() });
+    }
+
+    /** 取得表达式直接引用的所有结点。 */
+    private static void collectReferences(Expression expression, Set<String> refs) {
+        if (expression instanceof ReferenceExpression) {
+            String ref = ((ReferenceExpression) expression).getReference();
+
+            if (!StringUtil.isBlank(ref)) {
+                refs.add(StringUtil.getValidIdentifier(ref));
+            }
+        } else if (expression instanceof CompositeExpression) {
+            for (Expression subexpression : ((CompositeExpression) expression).getExpressions()) {
+                collectReferences(subexpression, refs);
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.security.DigestInputStream;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -80,9 +81,21 @@ public class ConfigGenerator {
             throw new IllegalStateException("Cannot add config descriptors after initialization");
         }
 
+        // 计算descriptor内容的摘要，descriptor改变时，manifest中记录的目标文件都将被重新生成
+        DigestInputStream dis = new DigestInputStream(istream, ConfigManifest.newDigest());
         ConfigDescriptorLoader loader = new ConfigDescriptorLoader();
-        ConfigDescriptor descriptor = loader.load(descriptorResource, istream);
+        ConfigDescriptor descriptor = loader.load(descriptorResource, dis);
 
+        try {
+            byte[] buffer = new byte[8192];
+
+            while (dis.read(buffer) >= 0) {
+            }
+        } catch (IOException e) {
+            // 流已被XML parser读完并关闭
+        }
+
+        descriptor.setDigest(ConfigManifest.toHexString(dis.getMessageDigest().digest()));
         configDescriptors.add(descriptor);
 
         return descriptor;
@@ -204,6 +217,42 @@ public class ConfigGenerator {
         return false;
     }
 
+    /** 读取descriptor上次生成的manifest，如果日志文件不存在，则返回<code>null</code>。 */
+    public ConfigManifest loadManifest(ConfigDescriptor descriptor, ConfigManifest.Source source) {
+        String logContent;
+
+        try {
+            logContent = source.getLogContent(descriptor, getDescriptorLogFile(descriptor));
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+
+        return logContent == null ? null : ConfigManifest.parse(logContent);
+    }
+
+    /** 判断所有descriptor生成的目标文件是否都是最新的。 */
+    public boolean isUpToDate(PropertiesSet propSet, ConfigManifest.Source source) {
+        ensureInitialized();
+
+        Map props = propSet.getMergedProperties();
+
+        for (ConfigDescriptor descriptor : configDescriptors) {
+            ConfigManifest manifest = loadManifest(descriptor, source);
+
+            if (manifest == null) {
+                return false;
+            }
+
+            for (ConfigGenerate generate : descriptor.getGenerates()) {
+                if (!manifest.isUpToDate(generate, source, props)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
     public ConfigGeneratorSession getSession() {
         ensureInitialized();
 
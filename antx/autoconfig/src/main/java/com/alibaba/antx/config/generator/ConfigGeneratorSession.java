@@ -29,6 +29,8 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -36,13 +38,17 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.descriptor.ConfigGenerate;
 import com.alibaba.antx.config.props.PropertiesSet;
+import com.alibaba.antx.util.SpillBuffer;
 import com.alibaba.antx.util.StreamUtil;
 import com.alibaba.antx.util.StringUtil;
 import com.alibaba.antx.util.i18n.LocaleInfo;
@@ -57,6 +63,11 @@ public class ConfigGeneratorSession {
     private final   Map<String, Object[]>         descriptorLogs;
     private final   Set<String>                   processedDestfiles;
     private final   Map<String, LazyGenerateItem> lazyGenerateItems;
+    private final   Map<String, ConfigManifest>   manifests;
+    private final   Map<String, ConfigManifest>   previousManifests;
+    private         ConfigManifest.Source         manifestSource;
+    private         boolean                       modified;
+    private         Set<String>                   currentRefs;
     private         ConfigGenerate                currentGenerate;
     private         InputStream                   currentInputStream;
     private         OutputStream                  currentOutputStream;
@@ -67,6 +78,8 @@ public class ConfigGeneratorSession {
         this.descriptorLogs = new HashMap<String, Object[]>();
         this.processedDestfiles = new HashSet<String>();
         this.lazyGenerateItems = new HashMap<String, LazyGenerateItem>();
+        this.manifests = new HashMap<String, ConfigManifest>();
+        this.previousManifests = new HashMap<String, ConfigManifest>();
 
         // 初始化日志，将被写入到和descriptor并列的目录中。
         ConfigDescriptor[] descriptors = generator.getConfigDescriptors();
@@ -78,6 +91,7 @@ public class ConfigGeneratorSession {
             PrintWriter log = new PrintWriter(logBuffer, true);
 
             descriptorLogs.put(descriptorName, new Object[] { logBuffer, log, descriptor });
+            manifests.put(descriptorName, new ConfigManifest());
 
             // 初始日志内容
             log.println("Last Configured at: " + now);
@@ -99,17 +113,25 @@ public class ConfigGeneratorSession {
         this.currentOutputStream = ostream;
     }
 
+    /** 设置用来读取上次生成结果的source。设置以后，模板和所引用的properties都没有改变的目标文件将被跳过。 */
+    public void setManifestSource(ConfigManifest.Source manifestSource) {
+        this.manifestSource = manifestSource;
+    }
+
     /** 取得velocity context。 */
     public Context getVelocityContext() {
         if (currentGenerate == null) {
             throw new IllegalStateException("Have not call nextEntry method yet");
         }
 
+        // 记录模板所引用的properties
+        final Set<String> refs = currentRefs;
+
         final Map descriptorProps = new HashMap(currentGenerate.getConfigDescriptor().getContext());
 
         EventCartridge eventCartridge = new EventCartridge();
         eventCartridge.addEventHandler(new PropertiesReferenceInsertionHandler(currentGenerate.getConfigDescriptor(),
-                                                                               props));
+                                                                               props, refs));
 
         Context context = new AbstractContext() {
             @Override
@@ -134,13 +156,25 @@ public class ConfigGeneratorSession {
                 if (descriptorProps.containsKey(key)) {
                     return descriptorProps.get(key);
                 } else {
+                    if (refs != null) {
+                        refs.add(key);
+                    }
+
                     return PropertiesLoader.evaluate(key, props);
                 }
             }
 
             @Override
             public boolean internalContainsKey(Object key) {
-                return descriptorProps.containsKey(key) || props.containsKey(key);
+                if (descriptorProps.containsKey(key)) {
+                    return true;
+                } else {
+                    if (refs != null) {
+                        refs.add(String.valueOf(key));
+                    }
+
+                    return props.containsKey(key);
+                }
             }
         };
 
@@ -158,7 +192,10 @@ public class ConfigGeneratorSession {
             allSuccess &= generate(template, callback);
         }
 
-        generateLog(callback);
+        // 如果所有的目标文件都是最新的，则不必重写日志
+        if (isModified()) {
+            generateLog(callback);
+        }
 
         return allSuccess;
     }
@@ -174,6 +211,10 @@ public class ConfigGeneratorSession {
         boolean allSuccess = true;
 
         for (ConfigGenerate generate : generates) {
+            if (isUpToDate(generate)) {
+                continue;
+            }
+
             try {
                 currentGenerate = generate;
 
@@ -198,9 +239,69 @@ public class ConfigGeneratorSession {
         return allSuccess;
     }
 
+    /** 判断目标文件是否为最新的，如果是，则沿用上次的manifest记录。 */
+    private boolean isUpToDate(ConfigGenerate generate) {
+        ConfigDescriptor descriptor = generate.getConfigDescriptor();
+        ConfigManifest previousManifest = getPreviousManifest(descriptor);
+        String destfile = generate.getDestfile();
+
+        if (previousManifest == null || !previousManifest.isUpToDate(generate, manifestSource, props)) {
+            return false;
+        }
+
+        processedDestfiles.add(destfile);
+        manifests.get(descriptor.getName()).addItem(destfile, previousManifest.getItem(destfile));
+
+        PrintWriter descriptorLog = (PrintWriter) descriptorLogs.get(descriptor.getName())[1];
+
+        descriptorLog.println("Up to date: " + destfile);
+        generator.logger.info("<" + descriptor.getBaseURL() + ">\n    Up to date: " + destfile + "\n");
+
+        return true;
+    }
+
+    /** 取得上次生成的manifest，如果未设置source或日志文件不存在，则返回<code>null</code>。 */
+    private ConfigManifest getPreviousManifest(ConfigDescriptor descriptor) {
+        if (manifestSource == null) {
+            return null;
+        }
+
+        String descriptorName = descriptor.getName();
+
+        if (!previousManifests.containsKey(descriptorName)) {
+            previousManifests.put(descriptorName, generator.loadManifest(descriptor, manifestSource));
+        }
+
+        return previousManifests.get(descriptorName);
+    }
+
+    /** 是否有文件被重新生成，或者有descriptor从未生成过日志。 */
+    private boolean isModified() {
+        if (modified) {
+            return true;
+        }
+
+        for (ConfigDescriptor descriptor : generator.getConfigDescriptors()) {
+            if (getPreviousManifest(descriptor) == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     private boolean generate(String template, ConfigGenerate generate, InputStream istream, OutputStream ostream) {
         // 记录处理过的destfiles
         processedDestfiles.add(generate.getDestfile());
+        modified = true;
+
+        // 计算模板和生成结果的摘要，记录在manifest中
+        MessageDigest templateDigest = ConfigManifest.newDigest();
+        CRC32 destfileChecksum = new CRC32();
+        Set<String> refs = new TreeSet<String>();
+
+        istream = new DigestInputStream(istream, templateDigest);
+        ostream = new CheckedOutputStream(ostream, destfileChecksum);
 
         String charset = generate.getCharset();
         String outputCharset = generate.getOutputCharset();
@@ -221,6 +322,7 @@ public class ConfigGeneratorSession {
 
         Reader reader = null;
         Writer writer = null;
+        boolean success;
 
         try {
             reader = new BufferedReader(new InputStreamReader(istream, charset)) {
@@ -242,8 +344,12 @@ public class ConfigGeneratorSession {
             generator.logger.info("<" + generate.getConfigDescriptor().getBaseURL() + ">\n    Generating " + template
                                   + " [" + charset + "] => " + generate.getDestfile() + " [" + outputCharset + "]\n");
 
-            return VelocityTemplateEngine.getInstance().render(getVelocityContext(), reader, writer, template,
-                                                               generate.getConfigDescriptor().getName(), generate.getConfigDescriptor().getBaseURL());
+            currentRefs = refs;
+
+            success = VelocityTemplateEngine.getInstance().render(getVelocityContext(), reader, writer, template,
+                                                                  generate.getConfigDescriptor().getName(), generate.getConfigDescriptor().getBaseURL());
+
+            writer.flush();
         } catch (Exception e) {
             if (e instanceof RuntimeException) {
                 throw (RuntimeException) e;
@@ -251,6 +357,8 @@ public class ConfigGeneratorSession {
                 throw new ConfigException(e);
             }
         } finally {
+            currentRefs = null;
+
             if (writer != null) {
                 try {
                     writer.flush();
@@ -258,6 +366,16 @@ public class ConfigGeneratorSession {
                 }
             }
         }
+
+        // 未成功生成的文件不记录manifest，以便下次重新生成
+        if (success) {
+            manifests.get(generate.getConfigDescriptor().getName()).addItem(
+                    generate.getDestfile(),
+                    ConfigManifest.Item.create(ConfigManifest.getTemplateDigest(templateDigest, generate), refs, props,
+                                               ConfigManifest.toChecksum(destfileChecksum.getValue())));
+        }
+
+        return success;
     }
 
     private final static Pattern encodingPattern = Pattern.compile("encoding\\s*=\\s*[\\\"|']([^\\\"|']+)[\\\"|']");
@@ -302,6 +420,8 @@ public class ConfigGeneratorSession {
 
                 callback.logEntry(descriptor, logfile);
 
+                manifests.get(descriptor.getName()).write(log);
+
                 String logContent = logBuffer.toString();
                 Writer writer = null;
 
@@ -338,9 +458,14 @@ public class ConfigGeneratorSession {
         }
     }
 
-    public void addLazyGenerateItem(String name, byte[] bytes) {
-        lazyGenerateItems.put(name,
-                              new LazyGenerateItem(name, generator.generateTemplateFilesIncludingMetaInfos.get(name), bytes));
+    /** 保存目标文件的内容，以便在最后将其作为模板生成。session关闭时，<code>content</code>将被删除。 */
+    public void addLazyGenerateItem(String name, SpillBuffer content) {
+        LazyGenerateItem previous = lazyGenerateItems.put(name, new LazyGenerateItem(name,
+                generator.generateTemplateFilesIncludingMetaInfos.get(name), content));
+
+        if (previous != null) {
+            previous.release();
+        }
     }
 
     public boolean generateLazyItems(ConfigGeneratorCallback callback) {
@@ -420,5 +545,10 @@ public class ConfigGeneratorSession {
 
     /** 关闭session，善后工作。 */
     public void close() {
+        for (LazyGenerateItem item : lazyGenerateItems.values()) {
+            item.release();
+        }
+
+        lazyGenerateItems.clear();
     }
 }
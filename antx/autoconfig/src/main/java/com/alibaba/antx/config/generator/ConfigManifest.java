@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config.generator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.alibaba.antx.config.ConfigException;
+import com.alibaba.antx.config.descriptor.ConfigDescriptor;
+import com.alibaba.antx.config.descriptor.ConfigGenerate;
+import com.alibaba.antx.util.StringUtil;
+
+/**
+ * 记录每个目标文件生成时所用的模板和descriptor、所引用的properties的值，以及生成结果的摘要，用来判断目标文件是否需要重新生成。
+ * <p>
+ * Manifest被写在descriptor的日志文件的末尾，每个目标文件一行。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class ConfigManifest {
+    private static final String MANIFEST_PREFIX = "Manifest: ";
+    private static final String NULL_VALUE      = "\0";
+    private final Map<String, Item> items = new TreeMap<String, Item>();
+
+    /** 从日志文件的内容中读取manifest。 */
+    public static ConfigManifest parse(String logContent) {
+        ConfigManifest manifest = new ConfigManifest();
+        BufferedReader reader = new BufferedReader(new StringReader(logContent));
+
+        try {
+            for (String line; (line = reader.readLine()) != null; ) {
+                if (!line.startsWith(MANIFEST_PREFIX)) {
+                    continue;
+                }
+
+                String[] fields = line.substring(MANIFEST_PREFIX.length()).split("\t", -1);
+
+                // 忽略格式不正确的行，这样的目标文件将被重新生成
+                if (fields.length != 5) {
+                    continue;
+                }
+
+                String[] refs = fields[4].length() == 0 ? new String[0] : fields[4].split(",");
+
+                manifest.items.put(fields[0], new Item(fields[1], fields[2], fields[3], refs));
+            }
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+
+        return manifest;
+    }
+
+    /** 取得指定目标文件的记录，如果不存在，则返回<code>null</code>。 */
+    public Item getItem(String destfile) {
+        return items.get(destfile);
+    }
+
+    /** 添加一个目标文件的记录。 */
+    public void addItem(String destfile, Item item) {
+        items.put(destfile, item);
+    }
+
+    /** 判断指定的目标文件是否为最新，即模板、descriptor、所引用的properties的值以及目标文件本身都没有改变。 */
+    public boolean isUpToDate(ConfigGenerate generate, Source source, Map props) {
+        Item item = items.get(generate.getDestfile());
+
+        if (item == null) {
+            return false;
+        }
+
+        try {
+            String destfileChecksum = source.getDestfileChecksum(generate);
+
+            if (destfileChecksum == null || !destfileChecksum.equals(item.destfileChecksum)) {
+                return false;
+            }
+
+            byte[] template = source.getTemplateContent(generate);
+
+            if (template == null) {
+                return false;
+            }
+
+            MessageDigest digest = newDigest();
+
+            digest.update(template);
+
+            return getTemplateDigest(digest, generate).equals(item.templateDigest)
+                   && getPropertiesDigest(item.refs, props).equals(item.propertiesDigest);
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    /** 将manifest写到日志中。 */
+    public void write(PrintWriter log) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        log.println();
+
+        for (Map.Entry<String, Item> entry : items.entrySet()) {
+            Item item = entry.getValue();
+
+            log.println(MANIFEST_PREFIX + entry.getKey() + "\t" + item.templateDigest + "\t" + item.propertiesDigest
+                        + "\t" + item.destfileChecksum + "\t" + StringUtil.join(item.refs, ","));
+        }
+    }
+
+    /** 创建用来计算模板摘要的对象。 */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    /**
+     * 取得模板的摘要，模板的内容已经被更新到digest中。此外，descriptor的内容，例如模板和目标文件的对应关系、charset的设置，
+     * 也会影响生成的结果。
+     */
+    public static String getTemplateDigest(MessageDigest digest, ConfigGenerate generate) {
+        update(digest, generate.getConfigDescriptor().getDigest());
+        update(digest, generate.getCharset());
+        update(digest, generate.getOutputCharset());
+
+        return toHexString(digest.digest());
+    }
+
+    /** 取得所引用的properties的值的摘要。 */
+    public static String getPropertiesDigest(String[] refs, Map props) {
+        MessageDigest digest = newDigest();
+
+        for (String ref : refs) {
+            Object value = PropertiesLoader.evaluate(ref, props);
+
+            update(digest, ref);
+            update(digest, value == null ? NULL_VALUE : String.valueOf(value));
+        }
+
+        return toHexString(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        try {
+            digest.update((value == null ? NULL_VALUE : value).getBytes("UTF-8"));
+            digest.update((byte) 0);
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        }
+    }
+
+    /** 取得CRC32校验和的字符串表示。 */
+    public static String toChecksum(long crc) {
+        return Long.toHexString(crc);
+    }
+
+    /** 将字节数组转换成十六进制字符串。 */
+    public static String toHexString(byte[] bytes) {
+        StringBuilder buf = new StringBuilder(bytes.length * 2);
+
+        for (byte b : bytes) {
+            buf.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return buf.toString();
+    }
+
+    /** 代表一个目标文件的记录。 */
+    public static class Item {
+        private final String   templateDigest;
+        private final String   propertiesDigest;
+        private final String   destfileChecksum;
+        private final String[] refs;
+
+        public Item(String templateDigest, String propertiesDigest, String destfileChecksum, String[] refs) {
+            this.templateDigest = templateDigest;
+            this.propertiesDigest = propertiesDigest;
+            this.destfileChecksum = destfileChecksum;
+            this.refs = refs;
+        }
+
+        /** 根据所引用的properties，创建记录。 */
+        public static Item create(String templateDigest, Set<String> refs, Map props, String destfileChecksum) {
+            String[] refArray = refs.toArray(new String[refs.size()]);
+
+            return new Item(templateDigest, getPropertiesDigest(refArray, props), destfileChecksum, refArray);
+        }
+    }
+
+    /** 用来读取上次生成的结果，以便和manifest比较。 */
+    public interface Source {
+        /** 取得上次生成的descriptor日志文件的内容，如果不存在，则返回<code>null</code>。 */
+        String getLogContent(ConfigDescriptor descriptor, String logfileName) throws IOException;
+
+        /** 取得模板的内容，如果不存在，则返回<code>null</code>。 */
+        byte[] getTemplateContent(ConfigGenerate generate) throws IOException;
+
+        /** 取得目标文件的CRC32校验和，如果不存在，则返回<code>null</code>。 */
+        String getDestfileChecksum(ConfigGenerate generate) throws IOException;
+    }
+}
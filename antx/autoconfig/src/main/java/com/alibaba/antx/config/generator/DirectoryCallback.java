@@ -26,18 +26,23 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.zip.CRC32;
 
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.descriptor.ConfigGenerate;
 import com.alibaba.antx.util.StreamUtil;
+import com.alibaba.antx.util.i18n.LocaleInfo;
 
 /**
  * 在目录中生成文件的callback。
+ * <p>
+ * 同时，该callback也可以读取上次生成的日志、模板和目标文件，以便跳过未改变的目标文件。
+ * </p>
  *
  * @author Michael Zhou
  */
-public class DirectoryCallback implements ConfigGeneratorCallback {
+public class DirectoryCallback implements ConfigGeneratorCallback, ConfigManifest.Source {
     private final ConfigGenerator generator;
     private       File            destfileBase;
     private       InputStream     istream;
@@ -145,6 +150,59 @@ public class DirectoryCallback implements ConfigGeneratorCallback {
         generator.getSession().setOutputStream(ostream);
     }
 
+    public String getLogContent(ConfigDescriptor descriptor, String logfileName) throws IOException {
+        File logfile = new File(getDestfileBase(descriptor), logfileName);
+
+        if (!logfile.isFile()) {
+            return null;
+        }
+
+        return StreamUtil.readText(new FileInputStream(logfile), LocaleInfo.getDefault().getCharset(), true);
+    }
+
+    public byte[] getTemplateContent(ConfigGenerate generate) throws IOException {
+        File templateBase = generate.getConfigDescriptor().getBaseFile();
+        File templateFile = new File(templateBase, generate.getTemplateBase() + generate.getTemplate());
+
+        // 和nextEntry相同，优先使用META-INF/autoconf下的模板
+        if (!templateFile.isFile()) {
+            templateFile = new File(templateBase, generate.getTemplate());
+
+            if (!templateFile.isFile()) {
+                return null;
+            }
+        }
+
+        return StreamUtil.readBytes(new FileInputStream(templateFile), true).toByteArray();
+    }
+
+    public String getDestfileChecksum(ConfigGenerate generate) throws IOException {
+        File destFile = new File(getDestfileBase(generate.getConfigDescriptor()), generate.getDestfile());
+
+        if (!destFile.isFile()) {
+            return null;
+        }
+
+        InputStream istream = new FileInputStream(destFile);
+        CRC32 crc = new CRC32();
+
+        try {
+            byte[] buffer = new byte[8192];
+
+            for (int count; (count = istream.read(buffer)) >= 0; ) {
+                crc.update(buffer, 0, count);
+            }
+        } finally {
+            istream.close();
+        }
+
+        return ConfigManifest.toChecksum(crc.getValue());
+    }
+
+    private File getDestfileBase(ConfigDescriptor descriptor) {
+        return destfileBase == null ? descriptor.getBaseFile() : destfileBase;
+    }
+
     public void closeEntry() {
         if (istream != null) {
             try {
@@ -17,48 +17,35 @@
 
 package com.alibaba.antx.config.generator;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
 
+import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.descriptor.ConfigGenerate;
+import com.alibaba.antx.util.SpillBuffer;
 
 public class LazyGenerateItem {
     private final String               templateName;
     private final List<ConfigGenerate> generates;
-    private final byte[]               savedTemplateContent;
+    private final SpillBuffer          savedTemplateContent;
 
-    public LazyGenerateItem(String templateName, List<ConfigGenerate> generates, byte[] savedTemplateContent) {
+    /**
+     * 创建一个延迟生成的项。模板内容保存在<code>SpillBuffer</code>中，超过其阈值或共享内存限额的部分被保存在临时文件中，
+     * 使用完毕后须调用<code>release()</code>。
+     */
+    public LazyGenerateItem(String templateName, List<ConfigGenerate> generates, SpillBuffer savedTemplateContent) {
         this.templateName = templateName;
         this.generates = generates;
-        this.savedTemplateContent = compress(savedTemplateContent);
+        this.savedTemplateContent = savedTemplateContent;
     }
 
-    private byte[] compress(byte[] bytes) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        DeflaterOutputStream dos = new DeflaterOutputStream(baos);
-
+    public InputStream getTemplateContentStream() {
         try {
-            dos.write(bytes);
-            dos.flush();
+            return savedTemplateContent.getInputStream();
         } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            try {
-                dos.close();
-            } catch (IOException e) {
-            }
+            throw new ConfigException(e);
         }
-
-        return baos.toByteArray();
-    }
-
-    public InputStream getTemplateContentStream() {
-        return new InflaterInputStream(new ByteArrayInputStream(savedTemplateContent));
     }
 
     public String getTemplateName() {
@@ -68,4 +55,9 @@ public class LazyGenerateItem {
     public List<ConfigGenerate> getGenerates() {
         return generates;
     }
+
+    /** 释放内存，删除临时文件。 */
+    public void release() {
+        savedTemplateContent.delete();
+    }
 }
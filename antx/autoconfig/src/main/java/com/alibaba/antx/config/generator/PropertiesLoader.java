@@ -115,8 +115,17 @@ public abstract class PropertiesLoader {
         }
     }
 
-    /** 取值并计算。 */
-    public static Object evaluate(String name, final Map props) {
+    /** 取值并计算，如果是<code>CompiledProperties</code>，则使用预先计算的值。 */
+    public static Object evaluate(String name, Map props) {
+        if (props instanceof CompiledProperties) {
+            return ((CompiledProperties) props).evaluate(name);
+        }
+
+        return evaluateReference(name, props);
+    }
+
+    /** 取值并动态计算，所有被引用的值都将被重新计算。 */
+    static Object evaluateReference(String name, final Map props) {
         return new ReferenceExpression(name).evaluate(new ExpressionContext() {
             public Object get(String key) {
                 return props.get(key);
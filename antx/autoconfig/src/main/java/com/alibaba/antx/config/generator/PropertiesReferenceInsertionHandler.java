@@ -39,9 +39,20 @@ public class PropertiesReferenceInsertionHandler implements ReferenceInsertionEv
     private Context              context;
     private Map<String, Boolean> definedProperties;
     private Map<String, String>  props;
+    private Set<String>          refs;
 
     public PropertiesReferenceInsertionHandler(ConfigDescriptor configDescriptor, Map props) {
+        this(configDescriptor, props, null);
+    }
+
+    /**
+     * 创建handler。
+     *
+     * @param refs 如果不为<code>null</code>，则记录所有从props中取值的名称
+     */
+    public PropertiesReferenceInsertionHandler(ConfigDescriptor configDescriptor, Map props, Set<String> refs) {
         this.props = props;
+        this.refs = refs;
         this.definedProperties = new HashMap<String, Boolean>();
 
         for (ConfigGroup group : configDescriptor.getGroups()) {
@@ -61,6 +72,10 @@ public class PropertiesReferenceInsertionHandler implements ReferenceInsertionEv
         String normalizedRef = normalizeReference(reference);
 
         // 从props中取值，也就是从antx.properties中取值。
+        if (refs != null) {
+            refs.add(normalizedRef);
+        }
+
         value = PropertiesLoader.evaluate(normalizedRef, props);
 
         // 假如${placeholder被定义，必定是合法值（因为已经验证过了）。
@@ -18,19 +18,29 @@
 package com.alibaba.antx.config.generator;
 
 import java.io.Reader;
+import java.io.StringReader;
 import java.io.Writer;
 import java.net.URL;
+import java.security.MessageDigest;
 import java.util.Formatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
 import com.alibaba.antx.config.ConfigConstant;
 import com.alibaba.antx.config.ConfigException;
-import org.apache.velocity.app.VelocityEngine;
+import com.alibaba.antx.util.StreamUtil;
+import org.apache.velocity.VelocityContext;
 import org.apache.velocity.context.Context;
+import org.apache.velocity.context.InternalContextAdapterImpl;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.exception.TemplateInitException;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
 import org.apache.velocity.runtime.RuntimeServices;
 import org.apache.velocity.runtime.log.LogChute;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,9 +53,10 @@ import org.slf4j.LoggerFactory;
 public class VelocityTemplateEngine {
     private static Logger log = LoggerFactory.getLogger(VelocityTemplateEngine.class);
     private static VelocityTemplateEngine instance;
-    private VelocityEngine engine = new VelocityEngine();
+    private RuntimeInstance engine        = new RuntimeInstance();
+    private TemplateCache   templateCache = new TemplateCache(ConfigConstant.VELOCITY_TEMPLATE_CACHE_SIZE);
 
-    public static VelocityTemplateEngine getInstance() {
+    public static synchronized VelocityTemplateEngine getInstance() {
         if (instance == null) {
             instance = new VelocityTemplateEngine();
         }
@@ -81,6 +92,9 @@ public class VelocityTemplateEngine {
 
     /**
      * 渲染模板.
+     * <p>
+     * 解析后的模板按内容的摘要缓存起来，同样内容的模板不会被重复解析。
+     * </p>
      *
      * @param context 上下文信息
      * @param reader  模板源
@@ -91,12 +105,18 @@ public class VelocityTemplateEngine {
      */
     public boolean render(Context context, Reader reader, Writer writer, String templateName, String configName,
                           URL baseURL) throws Exception {
+        SimpleNode nodeTree = getNodeTree(reader, templateName);
         Set<String> unknwonRefs = new TreeSet<String>();
         context.put(ConfigConstant.UNKNWON_REFS_KEY, unknwonRefs);
 
+        InternalContextAdapterImpl ica = new InternalContextAdapterImpl(context);
+
+        ica.pushCurrentTemplateName(templateName);
+
         try {
-            engine.evaluate(context, writer, templateName, reader);
+            nodeTree.render(ica, writer);
         } finally {
+            ica.popCurrentTemplateName();
             context.remove(ConfigConstant.UNKNWON_REFS_KEY);
         }
 
@@ -124,6 +144,71 @@ public class VelocityTemplateEngine {
         return true;
     }
 
+    /**
+     * 取得解析并初始化后的模板，如果缓存中有同名且相同内容的模板，则直接返回之。
+     * <p>
+     * 模板名称被记录在解析后的模板中，并出现在错误信息里，因此内容相同但名称不同的模板不能共享缓存。
+     * </p>
+     */
+    private SimpleNode getNodeTree(Reader reader, String templateName) throws Exception {
+        String content = StreamUtil.readText(reader, false);
+        String key = templateName + "\n" + digest(content);
+        SimpleNode nodeTree;
+
+        synchronized (templateCache) {
+            nodeTree = templateCache.get(key);
+        }
+
+        if (nodeTree == null) {
+            nodeTree = engine.parse(new StringReader(content), templateName);
+
+            InternalContextAdapterImpl ica = new InternalContextAdapterImpl(new VelocityContext());
+
+            ica.pushCurrentTemplateName(templateName);
+
+            try {
+                nodeTree.init(ica, engine);
+            } catch (TemplateInitException e) {
+                throw new ParseErrorException(e);
+            } finally {
+                ica.popCurrentTemplateName();
+            }
+
+            synchronized (templateCache) {
+                templateCache.put(key, nodeTree);
+            }
+        }
+
+        return nodeTree;
+    }
+
+    private static String digest(String content) throws Exception {
+        byte[] digest = MessageDigest.getInstance("MD5").digest(content.getBytes("UTF-8"));
+        StringBuilder buf = new StringBuilder(digest.length * 2);
+
+        for (byte b : digest) {
+            buf.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return buf.toString();
+    }
+
+    /** 按LRU算法淘汰的模板缓存。 */
+    private static class TemplateCache extends LinkedHashMap<String, SimpleNode> {
+        private static final long serialVersionUID = -2469432915307347460L;
+        private final int maxSize;
+
+        public TemplateCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SimpleNode> eldest) {
+            return size() > maxSize;
+        }
+    }
+
     /** Velocity Logger */
     private class LogSystem implements LogChute {
         public void init(RuntimeServices runtimeServices) {
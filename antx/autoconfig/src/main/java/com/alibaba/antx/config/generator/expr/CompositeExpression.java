@@ -49,6 +49,15 @@ public class CompositeExpression implements Expression {
         return expr;
     }
 
+    /**
+     * 取得组成该表达式的子表达式。
+     *
+     * @return 子表达式列表
+     */
+    public Expression[] getExpressions() {
+        return expressions.clone();
+    }
+
     /**
      * 在指定的上下文中计算表达式。
      *
@@ -56,7 +65,7 @@ public class CompositeExpression implements Expression {
      * @return 表达式的计算结果
      */
     public Object evaluate(ExpressionContext context) {
-        StringBuffer buffer = new StringBuffer();
+        StringBuilder buffer = new StringBuilder();
 
         for (Expression expression : expressions) {
             Object value = expression.evaluate(context);
@@ -31,6 +31,11 @@ public class ReferenceExpression implements Expression {
         this.ref = ref;
     }
 
+    /** 取得被引用的名称。 */
+    public String getReference() {
+        return ref;
+    }
+
     public String getExpressionText() {
         return "${" + ref + "}";
     }
@@ -75,8 +75,14 @@ public class PropertiesFile extends PropertiesResource {
 
     @Override
     protected void onLoad() {
-        Map propsFromFile = PropertiesLoader.loadPropertiesFile(getResource().getInputStream(), getCharset(), getURI()
-                .toString());
+        Map propsFromFile;
+
+        try {
+            propsFromFile = PropertiesLoader.loadPropertiesFile(getResource().getInputStream(), getCharset(), getURI()
+                    .toString());
+        } finally {
+            getResource().close();
+        }
 
         keys = new TreeSet(propsFromFile.keySet());
         props = new HashMap();
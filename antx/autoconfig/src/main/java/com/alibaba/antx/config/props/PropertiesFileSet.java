@@ -55,10 +55,17 @@ public class PropertiesFileSet extends PropertiesResource {
         return files;
     }
 
+    /** 预先装载目录，并取得其中的文件。如果失败，则返回空表，待合并时再报告错误。 */
+    List prefetchPropertiesFiles() {
+        return prefetch() ? files : new ArrayList();
+    }
+
     @Override
     protected void onLoad() {
         List subresources = getResource().list();
 
+        files.clear();
+
         for (Iterator i = subresources.iterator(); i.hasNext(); ) {
             Resource subres = (Resource) i.next();
 
@@ -26,12 +26,15 @@ import com.alibaba.antx.config.resource.ResourceNotFoundException;
 import com.alibaba.antx.util.i18n.LocaleInfo;
 
 public abstract class PropertiesResource {
-    protected final ResourceManager manager;
-    private         boolean         allowNonExistence;
-    private         boolean         loaded;
-    private         Resource        resource;
-    private         URI             uri;
-    private         String          charset;
+    protected final ResourceManager  manager;
+    private         boolean          allowNonExistence;
+    private         boolean          loaded;
+    private         boolean          logged;
+    private         boolean          notExists;
+    private         RuntimeException failure;
+    private         Resource         resource;
+    private         URI              uri;
+    private         String           charset;
 
     public PropertiesResource(ResourceManager manager) {
         this(manager, false);
@@ -82,34 +85,76 @@ public abstract class PropertiesResource {
         this.allowNonExistence = allowNonExistence;
     }
 
-    public final void reload() {
+    public final synchronized void reload() {
         loaded = false;
+        logged = false;
+        notExists = false;
+        failure = null;
         load();
     }
 
-    protected final void load() {
+    /**
+     * 装载资源，并输出日志。
+     * <p>
+     * 如果资源已被<code>prefetch()</code>装载，则只输出日志；如果预先装载失败，则在此抛出当时的异常，而不再重新装载。
+     * 这样，日志和异常总是按照调用<code>load()</code>的顺序出现。
+     * </p>
+     */
+    protected final synchronized void load() {
+        if (!logged) {
+            logged = true;
+
+            if (manager != null) {
+                manager.log("Loading " + uri);
+            }
+
+            prefetch();
+
+            if (notExists && manager != null) {
+                manager.log("Not exists: " + uri);
+            }
+        }
+
+        // 异常只被抛出一次
+        if (failure != null) {
+            RuntimeException e = failure;
+
+            failure = null;
+            throw e;
+        }
+    }
+
+    /**
+     * 预先装载资源，但不输出日志。
+     * <p>
+     * 该方法可被多个线程同时调用，但资源只被装载一次。如果装载失败，则记下异常，待调用<code>load()</code>时再抛出。
+     * </p>
+     *
+     * @return 如果装载成功，则返回<code>true</code>
+     */
+    final synchronized boolean prefetch() {
         if (!loaded) {
             loaded = true;
 
             try {
-                if (manager != null) {
-                    if (resource == null && uri != null) {
-                        resource = manager.getResource(uri);
-                    }
-
-                    manager.log("Loading " + uri);
+                if (manager != null && resource == null && uri != null) {
+                    resource = manager.getResource(uri);
                 }
 
                 onLoad();
             } catch (ResourceNotFoundException e) {
                 if (!allowNonExistence) {
-                    throw e;
+                    failure = e;
                 } else if (manager != null) {
-                    manager.log("Not exists: " + uri);
+                    notExists = true;
                     onError();
                 }
+            } catch (RuntimeException e) {
+                failure = e;
             }
         }
+
+        return failure == null && !notExists;
     }
 
     protected void onLoad() {
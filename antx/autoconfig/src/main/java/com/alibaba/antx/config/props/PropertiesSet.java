@@ -30,8 +30,16 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.alibaba.antx.config.ConfigException;
+import com.alibaba.antx.config.generator.CompiledProperties;
 import com.alibaba.antx.config.generator.PropertiesLoader;
 import com.alibaba.antx.config.generator.expr.Expression;
 import com.alibaba.antx.config.resource.ResourceManager;
@@ -52,7 +60,8 @@ import org.slf4j.LoggerFactory;
  * @author Michael Zhou
  */
 public class PropertiesSet {
-    private static final Logger log = LoggerFactory.getLogger(PropertiesSet.class);
+    private static final Logger log                      = LoggerFactory.getLogger(PropertiesSet.class);
+    public static final  int    DEFAULT_PREFETCH_THREADS = 8;
     private final ResourceManager      manager;
     private final SystemProperties     systemProps;
     private       boolean              inited;
@@ -63,6 +72,7 @@ public class PropertiesSet {
     private       String               sharedName;
     private       Map                  mergedProps;
     private       Set                  mergedKeys;
+    private       int                  prefetchThreads = DEFAULT_PREFETCH_THREADS;
 
     public PropertiesSet() {
         this(null, null);
@@ -76,6 +86,10 @@ public class PropertiesSet {
         manager.setOut(out);
     }
 
+    public ResourceManager getResourceManager() {
+        return manager;
+    }
+
     public SystemProperties getSystemProperties() {
         return systemProps;
     }
@@ -124,6 +138,16 @@ public class PropertiesSet {
         this.sharedName = StringUtil.isEmpty(sharedName) ? null : sharedName;
     }
 
+    /** 取得并行装载shared properties时所用的线程数。 */
+    public int getPrefetchThreads() {
+        return prefetchThreads;
+    }
+
+    /** 设置并行装载shared properties时所用的线程数，小于等于1则按顺序装载。 */
+    public void setPrefetchThreads(int prefetchThreads) {
+        this.prefetchThreads = prefetchThreads;
+    }
+
     public Map getMergedProperties() {
         init();
         return mergedProps;
@@ -330,7 +354,8 @@ public class PropertiesSet {
     }
 
     private void loadUserProperties(boolean reload) {
-        mergedProps = new HashMap();
+        // 重新合并properties，表达式的值将在第一次取值时重新计算
+        mergedProps = new CompiledProperties();
         mergedKeys = new TreeSet();
 
         // system properties
@@ -340,6 +365,8 @@ public class PropertiesSet {
         // shared properties
         List expandedFiles = new LinkedList();
 
+        prefetch(getSharedPropertiesFiles());
+
         for (int i = 0; i < getSharedPropertiesFiles().length; i++) {
             loadResource(getSharedPropertiesFiles()[i], mergedProps, mergedKeys, expandedFiles);
         }
@@ -454,6 +481,82 @@ public class PropertiesSet {
         return names;
     }
 
+    /**
+     * 并行装载所有的shared properties文件，以及目录中的文件列表。
+     * <p>
+     * 此处只是预先装载，properties的合并仍然由<code>loadResource()</code>按原来的顺序完成。
+     * 预先装载时不输出日志，装载失败的异常也被记下，直到合并时才按原来的顺序输出日志和抛出异常，失败的资源不会被再次装载。
+     * </p>
+     */
+    private void prefetch(PropertiesResource[] resources) {
+        if (prefetchThreads <= 1 || resources.length == 0
+            || resources.length == 1 && resources[0] instanceof PropertiesFile) {
+            return;
+        }
+
+        final AtomicInteger count = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(prefetchThreads, new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "autoconfig-prefetch-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        try {
+            List<Future<List>> listings = new ArrayList<Future<List>>(resources.length);
+            List<Future<List>> loadings = new ArrayList<Future<List>>();
+
+            // 取得目录列表，同时装载单独的文件
+            for (PropertiesResource resource : resources) {
+                listings.add(pool.submit(new PrefetchTask(resource)));
+            }
+
+            // 目录列表一旦取得，就开始装载其中的文件
+            for (Future<List> listing : listings) {
+                for (Iterator i = waitFor(listing).iterator(); i.hasNext(); ) {
+                    loadings.add(pool.submit(new PrefetchTask((PropertiesResource) i.next())));
+                }
+            }
+
+            for (Future<List> loading : loadings) {
+                waitFor(loading);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** 等待预装载任务结束，并返回目录中的文件。如果装载失败，则返回空表。 */
+    private List waitFor(Future<List> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConfigException(e);
+        } catch (ExecutionException e) {
+            return new ArrayList();
+        }
+    }
+
+    /** 装载一个properties资源，如果是目录，则返回目录中的文件。 */
+    private static class PrefetchTask implements Callable<List> {
+        private final PropertiesResource resource;
+
+        public PrefetchTask(PropertiesResource resource) {
+            this.resource = resource;
+        }
+
+        public List call() {
+            if (resource instanceof PropertiesFileSet) {
+                return ((PropertiesFileSet) resource).prefetchPropertiesFiles();
+            } else {
+                resource.prefetch();
+                return new ArrayList();
+            }
+        }
+    }
+
     private void loadResource(PropertiesResource resource, Map mergedProperties, Set mergedKeys, List expandedFiles) {
         if (resource instanceof PropertiesFile) {
             PropertiesFile file = (PropertiesFile) resource;
@@ -44,7 +44,8 @@ public class DefaultAuthenticationHandler implements AuthenticationHandler {
         this.passwordFile = new File(System.getProperty("user.home"), "passwd.antxconfig");
     }
 
-    public UsernamePassword authenticate(String message, URI uri, String username, boolean visited) {
+    /** 多个线程可能同时要求验证，每次只询问一个，其余的线程可以直接使用刚保存的密码。 */
+    public synchronized UsernamePassword authenticate(String message, URI uri, String username, boolean visited) {
         // 如果这个URI的密码从未被询问过，则试着从password文件中取得密码
         if (!visited) {
             UsernamePassword userPass = loadPassword(uri);
@@ -60,6 +60,10 @@ public abstract class Resource implements Comparable {
 
     public abstract List list();
 
+    /** 释放资源内容所占用的内存或临时文件。此后仍可读取资源，但可能需要重新装载。 */
+    public void close() {
+    }
+
     /** 目录排在文件前面，然后按文件名排序。 */
     public int compareTo(Object other) {
         if (other instanceof Resource) {
@@ -18,6 +18,7 @@
 package com.alibaba.antx.config.resource;
 
 import java.io.BufferedReader;
+import java.io.File;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.net.URI;
@@ -28,6 +29,7 @@ import java.util.Map;
 
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.resource.file.FileResourceDriver;
+import com.alibaba.antx.config.resource.http.HttpCache;
 import com.alibaba.antx.config.resource.http.HttpResourceDriver;
 import com.alibaba.antx.config.resource.ssh.SshResourceDriver;
 
@@ -38,6 +40,9 @@ public class ResourceManager {
     private AuthenticationHandler authHandler;
     private PrintWriter           out;
     private BufferedReader        in;
+    private File                  cacheDirectory     = HttpCache.getDefaultDirectory();
+    private boolean               offline;
+    private int                   maxConnectionsPerHost = 8;
 
     public ResourceManager() {
         registerDefaultDrivers();
@@ -58,6 +63,34 @@ public class ResourceManager {
         this.authHandler = authHandler;
     }
 
+    /** 取得缓存远程资源的目录，如果为<code>null</code>，则不缓存。 */
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    public void setCacheDirectory(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /** 如果远程服务器无法访问，是否使用缓存中的资源。 */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    /** 取得每个远程主机的最大连接数。 */
+    public int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /** 设置每个远程主机的最大连接数，必须在读取第一个资源之前设置。 */
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = Math.max(1, maxConnectionsPerHost);
+    }
+
     public Resource getResource(URI uri) {
         Session session = getSession(uri.getScheme());
 
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config.resource.http;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Properties;
+
+import com.alibaba.antx.util.StreamUtil;
+
+/**
+ * 将通过HTTP读取的资源保存在本地目录中，以便用<code>If-None-Match</code>和<code>If-Modified-Since</code>发出条件请求。
+ * <p>
+ * 每个URI对应一个文件<code>&lt;md5&gt;.cache</code>，文件头保存ETag、Last-Modified等信息，其后是内容。
+ * 文件先写入临时文件再改名，因此多个进程共用同一个目录时，也不会读到不完整的内容，或是和内容不匹配的ETag。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class HttpCache {
+    private static final String URI           = "uri";
+    private static final String ETAG          = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final String CONTENT_TYPE  = "content-type";
+    private static final String CHARSET       = "charset";
+    private static final int    MAX_HEADER    = 64 * 1024;
+    private final File directory;
+
+    public HttpCache(File directory) {
+        this.directory = directory;
+    }
+
+    /** 取得默认的缓存目录：<code>~/.antx/cache</code>。 */
+    public static File getDefaultDirectory() {
+        return new File(new File(System.getProperty("user.home"), ".antx"), "cache");
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /** 取得URI对应的缓存项，如果不存在或已损坏，则返回<code>null</code>。 */
+    public Entry get(String uri) {
+        File file = new File(directory, getKey(uri) + ".cache");
+
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try {
+            byte[] header;
+            DataInputStream istream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 8192));
+
+            try {
+                header = readHeader(istream);
+            } finally {
+                istream.close();
+            }
+
+            Properties props = new Properties();
+
+            props.load(new ByteArrayInputStream(header));
+
+            // 不同的URI可能有相同的MD5，虽然几乎不可能
+            if (!uri.equals(props.getProperty(URI))) {
+                return null;
+            }
+
+            Entry entry = new Entry(props.getProperty(ETAG), props.getProperty(LAST_MODIFIED),
+                                    props.getProperty(CONTENT_TYPE), props.getProperty(CHARSET));
+
+            entry.file = file;
+            entry.header = header;
+
+            return entry;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /** 保存URI对应的内容，如果失败，则忽略之，下次将重新读取。输入流将被关闭。 */
+    public void put(String uri, Entry entry, InputStream content) {
+        Properties props = new Properties();
+
+        props.setProperty(URI, uri);
+        setProperty(props, ETAG, entry.getETag());
+        setProperty(props, LAST_MODIFIED, entry.getLastModified());
+        setProperty(props, CONTENT_TYPE, entry.getContentType());
+        setProperty(props, CHARSET, entry.getCharset());
+
+        try {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+
+            props.store(header, null);
+
+            directory.mkdirs();
+            writeFile(new File(directory, getKey(uri) + ".cache"), header.toByteArray(), content);
+        } catch (IOException e) {
+        } finally {
+            try {
+                content.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    private void setProperty(Properties props, String name, String value) {
+        if (value != null) {
+            props.setProperty(name, value);
+        }
+    }
+
+    /** 读取文件头，即properties的长度和内容。 */
+    private static byte[] readHeader(DataInputStream istream) throws IOException {
+        int length = istream.readInt();
+
+        if (length < 0 || length > MAX_HEADER) {
+            throw new IOException("Invalid cache file header");
+        }
+
+        byte[] header = new byte[length];
+
+        istream.readFully(header);
+
+        return header;
+    }
+
+    /**
+     * 将文件头和内容写入临时文件，然后改名，这样文件头和内容总是同时被替换。
+     * <p>
+     * 缓存的内容可能包含密码，并且离线时无须验证即可读取，因此在写入内容之前，先将临时文件设置为只有当前用户可读写。
+     * </p>
+     */
+    private void writeFile(File file, byte[] header, InputStream content) throws IOException {
+        File tmpfile = File.createTempFile(file.getName(), ".tmp", directory);
+        boolean success = false;
+
+        try {
+            restrictToOwner(tmpfile);
+
+            DataOutputStream ostream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpfile),
+                                                                                     8192));
+
+            try {
+                ostream.writeInt(header.length);
+                ostream.write(header);
+                StreamUtil.io(content, ostream, false, false);
+            } finally {
+                ostream.close();
+            }
+
+            // 在windows下，目标文件存在时不能改名
+            if (!tmpfile.renameTo(file)) {
+                file.delete();
+
+                if (!tmpfile.renameTo(file)) {
+                    throw new IOException("Could not rename " + tmpfile + " to " + file);
+                }
+            }
+
+            success = true;
+        } finally {
+            if (!success) {
+                tmpfile.delete();
+            }
+        }
+    }
+
+    /** 将文件设置为只有当前用户可读写。在不支持这些权限的文件系统（如windows）上，此操作不起作用。 */
+    private static void restrictToOwner(File file) {
+        file.setReadable(false, false);
+        file.setReadable(true, true);
+        file.setWritable(false, false);
+        file.setWritable(true, true);
+    }
+
+    private String getKey(String uri) {
+        byte[] digest;
+
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(uri.getBytes("UTF-8"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 不应发生
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e); // 不应发生
+        }
+
+        StringBuilder buf = new StringBuilder(digest.length * 2);
+
+        for (byte b : digest) {
+            buf.append(Character.forDigit(b >> 4 & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return buf.toString();
+    }
+
+    /** 代表一个缓存项。 */
+    public static class Entry {
+        private       File   file;
+        private       byte[] header;
+        private final String etag;
+        private final String lastModified;
+        private final String contentType;
+        private final String charset;
+
+        public Entry(String etag, String lastModified, String contentType, String charset) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.charset = charset;
+        }
+
+        /**
+         * 读取缓存的内容。
+         * <p>
+         * 如果缓存文件在<code>get()</code>以后被其它进程替换，则读到的文件头和本缓存项不同，此时抛出<code>IOException</code>，
+         * 以免返回和ETag不匹配的内容。
+         * </p>
+         */
+        public InputStream getInputStream() throws IOException {
+            DataInputStream istream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 8192));
+            boolean success = false;
+
+            try {
+                if (!Arrays.equals(header, readHeader(istream))) {
+                    throw new IOException("Cache file has been changed by another process: " + file);
+                }
+
+                success = true;
+            } finally {
+                if (!success) {
+                    istream.close();
+                }
+            }
+
+            return istream;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getCharset() {
+            return charset;
+        }
+    }
+}
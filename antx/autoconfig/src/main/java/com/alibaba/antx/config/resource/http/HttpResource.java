@@ -23,7 +23,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.zip.GZIPInputStream;
 
+import com.alibaba.antx.config.ConfigConstant;
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.resource.Resource;
 import com.alibaba.antx.config.resource.ResourceNotFoundException;
@@ -33,14 +35,19 @@ import com.alibaba.antx.config.resource.util.IndexPageParser;
 import com.alibaba.antx.config.resource.util.ResourceContext;
 import com.alibaba.antx.config.resource.util.ResourceKey;
 import com.alibaba.antx.config.resource.util.SvnIndexPageParser;
+import com.alibaba.antx.config.resource.util.TextBasedPageParser;
+import com.alibaba.antx.util.SpillBuffer;
+import com.alibaba.antx.util.StreamUtil;
 import org.apache.commons.httpclient.Header;
 import org.apache.commons.httpclient.HttpStatus;
 import org.apache.commons.httpclient.methods.GetMethod;
 
 public class HttpResource extends Resource {
-    private byte[] content;
-    private String charset;
-    private String contentType;
+    private SpillBuffer content;
+    private byte[]      bytes;
+    private boolean     loaded;
+    private String      charset;
+    private String      contentType;
 
     public HttpResource(HttpSession session, ResourceURI uri) {
         super(session, uri);
@@ -63,59 +70,185 @@ public class HttpResource extends Resource {
         return charset;
     }
 
+    /** 取得资源的内容，内容被保存在内存中，以后读取时不必再次装载。 */
     @Override
     public byte[] getContent() {
         load();
-        return content;
+
+        if (bytes == null) {
+            try {
+                bytes = StreamUtil.readBytes(takeContent(), true).toByteArray();
+            } catch (IOException e) {
+                throw new ConfigException(e);
+            }
+        }
+
+        return bytes;
     }
 
+    /**
+     * 读取资源。
+     * <p>
+     * 内容超过<code>ConfigConstant.RESOURCE_MEMORY_THRESHOLD</code>时被转存到临时文件中，以免大文件占用过多的内存。
+     * </p>
+     * <p>
+     * 如果本地缓存中有该资源，则发出条件请求，服务器返回<code>304 Not Modified</code>时直接使用缓存中的内容。
+     * 如果设置了offline，当服务器无法访问时，也使用缓存中的内容。
+     * </p>
+     */
     private void load() {
-        if (content != null) {
+        if (loaded) {
             return;
         }
 
-        GetMethod httpget = new GetMethod(getURI().toString());
+        String uri = getURI().toString();
+        HttpCache cache = ((HttpSession) getSession()).getCache();
+        HttpCache.Entry cached = cache == null ? null : cache.get(uri);
+        GetMethod httpget = new GetMethod(uri);
         httpget.setDoAuthentication(true);
-        InputStream stream = null;
+        httpget.setRequestHeader("Accept-Encoding", "gzip");
+
+        if (cached != null) {
+            if (cached.getETag() != null) {
+                httpget.setRequestHeader("If-None-Match", cached.getETag());
+            }
+
+            if (cached.getLastModified() != null) {
+                httpget.setRequestHeader("If-Modified-Since", cached.getLastModified());
+            }
+        }
 
         try {
             ResourceContext.get().setCurrentURI(getURI().getURI());
 
-            ((HttpSession) getSession()).getClient().executeMethod(httpget);
+            int statusCode;
+
+            try {
+                statusCode = ((HttpSession) getSession()).getClient().executeMethod(httpget);
+            } catch (IOException e) {
+                if (!isOfflineAvailable(cached)) {
+                    throw e;
+                }
+
+                useCachedContent(cached, e.toString());
+                return;
+            }
+
+            if (statusCode == HttpStatus.SC_NOT_MODIFIED && cached != null) {
+                useCachedContent(cached, null);
+                return;
+            }
+
+            if (statusCode >= 500 && isOfflineAvailable(cached)) {
+                useCachedContent(cached, HttpStatus.getStatusText(statusCode));
+                return;
+            }
 
-            if (httpget.getStatusCode() != 200) {
-                throw new ResourceNotFoundException(HttpStatus.getStatusText(httpget.getStatusCode()));
+            if (statusCode != 200) {
+                throw new ResourceNotFoundException(HttpStatus.getStatusText(statusCode));
             }
 
             // 成功就清除，以避免重复提示输入密码
             ResourceContext.get().getVisitedURIs().remove(new ResourceKey(new ResourceURI(getURI().getURI())));
 
-            content = httpget.getResponseBody();
+            SpillBuffer buffer = new SpillBuffer(ConfigConstant.RESOURCE_MEMORY_THRESHOLD);
+            InputStream stream = httpget.getResponseBodyAsStream();
+
+            if (stream != null) {
+                if ("gzip".equalsIgnoreCase(getHeaderValue(httpget, "Content-Encoding"))) {
+                    stream = new GZIPInputStream(stream);
+                }
+
+                buffer.readFrom(stream);
+            }
+
+            content = buffer;
+            loaded = true;
             charset = httpget.getResponseCharSet();
 
             Header contentTypeHeader = httpget.getResponseHeader("Content-Type");
             contentType = contentTypeHeader == null ? null : contentTypeHeader.getValue();
+
+            if (cache != null) {
+                String etag = getHeaderValue(httpget, "ETag");
+                String lastModified = getHeaderValue(httpget, "Last-Modified");
+
+                cache.put(uri, new HttpCache.Entry(etag, lastModified, contentType, charset), content.getInputStream());
+            }
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
             throw new ConfigException(e);
         } finally {
             ResourceContext.get().setCurrentURI(null);
+            httpget.releaseConnection();
+        }
+    }
 
-            if (stream != null) {
-                try {
-                    stream.close();
-                } catch (IOException e) {
-                }
-            }
+    private boolean isOfflineAvailable(HttpCache.Entry cached) {
+        return cached != null && getSession().getResourceManager().isOffline();
+    }
 
-            httpget.releaseConnection();
+    private void useCachedContent(HttpCache.Entry cached, String failure) throws IOException {
+        if (failure != null) {
+            getSession().getResourceManager().log("Could not access " + getURI() + " (" + failure
+                                                  + "), using the cached copy in " + ((HttpSession) getSession())
+                    .getCache().getDirectory());
         }
+
+        content = new SpillBuffer(ConfigConstant.RESOURCE_MEMORY_THRESHOLD).readFrom(cached.getInputStream());
+        loaded = true;
+        charset = cached.getCharset();
+        contentType = cached.getContentType();
+    }
+
+    private String getHeaderValue(GetMethod httpget, String name) {
+        Header header = httpget.getResponseHeader(name);
+        return header == null ? null : header.getValue();
     }
 
     @Override
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(getContent());
+        load();
+
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        return takeContent();
+    }
+
+    /**
+     * 取得内容的输入流。
+     * <p>
+     * 内容只能被读取一次，输入流被关闭时，释放内存并删除临时文件。如果内容已被读取或释放，则重新装载资源，这时通常会使用本地缓存。
+     * </p>
+     */
+    private InputStream takeContent() {
+        if (content == null) {
+            loaded = false;
+            load();
+        }
+
+        SpillBuffer buffer = content;
+
+        content = null;
+
+        try {
+            return buffer.getInputStreamAndDelete();
+        } catch (IOException e) {
+            buffer.delete();
+            throw new ConfigException(e);
+        }
+    }
+
+    /** 释放尚未读取的内容。 */
+    @Override
+    public void close() {
+        if (content != null) {
+            content.delete();
+            content = null;
+        }
     }
 
     @Override
@@ -132,17 +265,11 @@ public class HttpResource extends Resource {
     public List list() {
         if (isDirectory()) {
             String overridingCharset = getURI().getOption("charset");
-            IndexPageParser[] parsers = new IndexPageParser[] { new SvnIndexPageParser(),
-                                                                new ApacheIndexPageParser(overridingCharset) };
-            List items = null;
+            TextBasedPageParser[] parsers = new TextBasedPageParser[] { new SvnIndexPageParser(),
+                                                                        new ApacheIndexPageParser(overridingCharset) };
 
-            for (IndexPageParser parser : parsers) {
-                items = parser.parse(this);
-
-                if (items != null) {
-                    break;
-                }
-            }
+            // 页面只被扫描一次，同时交给所有的解析器
+            List items = TextBasedPageParser.parse(this, parsers);
 
             if (items != null) {
                 for (ListIterator i = items.listIterator(); i.hasNext(); ) {
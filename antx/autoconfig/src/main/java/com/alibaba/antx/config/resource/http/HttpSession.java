@@ -18,6 +18,8 @@
 package com.alibaba.antx.config.resource.http;
 
 import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import com.alibaba.antx.config.resource.AuthenticationHandler.UsernamePassword;
@@ -29,6 +31,7 @@ import com.alibaba.antx.config.resource.util.ResourceContext;
 import com.alibaba.antx.config.resource.util.ResourceKey;
 import org.apache.commons.httpclient.Credentials;
 import org.apache.commons.httpclient.HttpClient;
+import org.apache.commons.httpclient.MultiThreadedHttpConnectionManager;
 import org.apache.commons.httpclient.UsernamePasswordCredentials;
 import org.apache.commons.httpclient.auth.AuthScheme;
 import org.apache.commons.httpclient.auth.CredentialsNotAvailableException;
@@ -36,11 +39,23 @@ import org.apache.commons.httpclient.auth.CredentialsProvider;
 
 public class HttpSession extends Session {
     private final HttpClient client;
+    private final HttpCache  cache;
+    private final Map        credentials = new HashMap(); // ResourceKey -> UsernamePassword
 
     public HttpSession(ResourceDriver driver) {
         super(driver);
 
-        client = new HttpClient();
+        // 资源可能被多个线程同时装载，所以使用线程安全的connection manager。
+        // 读完响应后，连接被放回池中，供同一主机的后续请求使用（HTTP/1.1 keep-alive）。
+        MultiThreadedHttpConnectionManager connectionManager = new MultiThreadedHttpConnectionManager();
+        int maxConnectionsPerHost = getResourceManager().getMaxConnectionsPerHost();
+
+        connectionManager.getParams().setDefaultMaxConnectionsPerHost(maxConnectionsPerHost);
+        connectionManager.getParams().setMaxTotalConnections(maxConnectionsPerHost * 4);
+
+        client = new HttpClient(connectionManager);
+        cache = getResourceManager().getCacheDirectory() == null ? null : new HttpCache(getResourceManager()
+                .getCacheDirectory());
 
         client.getParams().setAuthenticationPreemptive(true);
         client.getParams().setParameter(CredentialsProvider.PROVIDER, new CredentialsProvider() {
@@ -49,18 +64,33 @@ public class HttpSession extends Session {
                 URI uri = ResourceContext.get().getCurrentURI();
                 String username = ResourceContext.get().getCurrentUsername();
                 Set visitedURIs = ResourceContext.get().getVisitedURIs();
+                Map usedCredentials = ResourceContext.get().getUsedCredentials();
                 ResourceKey key = new ResourceKey(new ResourceURI(uri));
-                String message;
+                boolean visited = visitedURIs.contains(key);
+                UsernamePassword up;
+
+                // 多个线程可能同时要求验证同一个主机，只询问一次，其它线程直接使用结果。
+                // 如果当前线程用过的密码被拒绝，而其它线程尚未更新密码，才重新询问。
+                synchronized (credentials) {
+                    up = (UsernamePassword) credentials.get(key);
+
+                    if (up == null || visited && up == usedCredentials.get(key)) {
+                        String message;
+
+                        message = "\n";
+                        message += "Authentication required.\n";
+                        message += "realm: " + scheme.getRealm() + "\n";
+                        message += "  uri: " + uri + "\n";
 
-                message = "\n";
-                message += "Authentication required.\n";
-                message += "realm: " + scheme.getRealm() + "\n";
-                message += "  uri: " + uri + "\n";
+                        up = getResourceManager().getAuthenticationHandler().authenticate(message, uri, username,
+                                                                                          visited);
 
-                UsernamePassword up = getResourceManager().getAuthenticationHandler().authenticate(message, uri,
-                                                                                                   username, visitedURIs.contains(key));
+                        credentials.put(key, up);
+                    }
+                }
 
                 visitedURIs.add(key);
+                usedCredentials.put(key, up);
 
                 return new UsernamePasswordCredentials(up.getUsername(), up.getPassword());
             }
@@ -71,6 +101,11 @@ public class HttpSession extends Session {
         return client;
     }
 
+    /** 取得本地缓存，如果未设置缓存目录，则返回<code>null</code>。 */
+    public HttpCache getCache() {
+        return cache;
+    }
+
     @Override
     public boolean acceptOption(String optionName) {
         if ("charset".equals(optionName)) {
@@ -80,6 +115,11 @@ public class HttpSession extends Session {
         return false;
     }
 
+    @Override
+    public void close() {
+        ((MultiThreadedHttpConnectionManager) client.getHttpConnectionManager()).shutdown();
+    }
+
     @Override
     public Resource getResource(final ResourceURI uri) {
         return new HttpResource(this, uri);
@@ -17,44 +17,37 @@
 
 package com.alibaba.antx.config.resource.ssh;
 
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.resource.Resource;
 import com.alibaba.antx.config.resource.ResourceURI;
-import com.alibaba.antx.config.resource.Session;
 import com.alibaba.antx.util.StreamUtil;
 import com.jcraft.jsch.ChannelSftp;
-import com.jcraft.jsch.ChannelSftp.LsEntry;
 import com.jcraft.jsch.SftpATTRS;
 import com.jcraft.jsch.SftpException;
 
 public class SshResource extends Resource {
-    private final ChannelSftp channel;
-    private final SftpATTRS   attrs;
+    private final SftpATTRS attrs;
 
-    public SshResource(Session session, ChannelSftp channel, ResourceURI uri, SftpATTRS attrs) {
+    public SshResource(SshSession session, ResourceURI uri, SftpATTRS attrs) {
         super(session, uri);
 
-        this.channel = channel;
         this.attrs = attrs;
     }
 
     @Override
     public Resource getRelatedResource(String suburi) {
-        return new SshResource(getSession(), channel, getURI().getSubURI(suburi), null);
+        return new SshResource((SshSession) getSession(), getURI().getSubURI(suburi), null);
     }
 
     @Override
     public byte[] getContent() {
-        assertFile();
-
         try {
             return StreamUtil.readBytes(getInputStream(), true).toByteArray();
         } catch (IOException e) {
@@ -62,24 +55,45 @@ public class SshResource extends Resource {
         }
     }
 
+    /**
+     * 读取文件的全部内容，然后释放channel。
+     * <p>
+     * 内容超过<code>ConfigConstant.RESOURCE_MEMORY_THRESHOLD</code>时被转存到临时文件中，关闭输入流时删除临时文件。
+     * </p>
+     */
     @Override
     public InputStream getInputStream() {
         assertFile();
 
-        try {
-            return channel.get(getURI().getPath());
-        } catch (SftpException e) {
-            throw new ConfigException(e);
-        }
+        return ((SshSession) getSession()).read(getURI(), attrs == null ? -1 : attrs.getSize());
     }
 
+    /** 写文件时独占一个channel，直到输出流被关闭。 */
     @Override
     public OutputStream getOutputStream() {
         assertFile();
 
+        final SshSession session = (SshSession) getSession();
+        final ChannelSftp channel = session.borrowChannel(getURI());
+
         try {
-            return channel.put(getURI().getPath());
+            return new FilterOutputStream(channel.put(getURI().getPath())) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        session.releaseChannel(getURI(), channel);
+                    }
+                }
+            };
         } catch (SftpException e) {
+            session.releaseChannel(getURI(), channel);
             throw new ConfigException(e);
         }
     }
@@ -107,27 +121,7 @@ public class SshResource extends Resource {
     public List list() {
         assertDirectory();
 
-        List entries;
-
-        try {
-            entries = channel.ls(getURI().getPath());
-        } catch (SftpException e) {
-            throw new ConfigException(e);
-        }
-
-        List result = new ArrayList(entries.size());
-
-        for (Iterator i = entries.iterator(); i.hasNext(); ) {
-            LsEntry entry = (LsEntry) i.next();
-            String name = entry.getFilename();
-
-            if (".".equals(name) || "..".equals(name)) {
-                continue;
-            }
-
-            result.add(new SshResource(getSession(), channel, getURI().getSubURI(name, entry.getAttrs().isDir()), entry
-                    .getAttrs()));
-        }
+        List result = ((SshSession) getSession()).list(getURI());
 
         Collections.sort(result);
 
@@ -17,13 +17,27 @@
 
 package com.alibaba.antx.config.resource.ssh;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.alibaba.antx.config.ConfigConstant;
 import com.alibaba.antx.config.ConfigException;
 import com.alibaba.antx.config.resource.AuthenticationHandler.UsernamePassword;
 import com.alibaba.antx.config.resource.Resource;
@@ -32,21 +46,33 @@ import com.alibaba.antx.config.resource.ResourceURI;
 import com.alibaba.antx.config.resource.Session;
 import com.alibaba.antx.config.resource.util.ResourceContext;
 import com.alibaba.antx.config.resource.util.ResourceKey;
+import com.alibaba.antx.util.SpillBuffer;
 import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.ChannelSftp.LsEntry;
 import com.jcraft.jsch.JSch;
 import com.jcraft.jsch.JSchException;
 import com.jcraft.jsch.SftpATTRS;
 import com.jcraft.jsch.SftpException;
 import com.jcraft.jsch.UserInfo;
 
+/**
+ * 通过sftp访问资源。
+ * <p>
+ * 每个主机只建立一个ssh连接，在其上打开多个sftp channel，channel的个数不超过
+ * <code>ResourceManager.getMaxConnectionsPerHost()</code>。channel不是线程安全的，每次操作都从池中取出一个channel独占使用。
+ * 大文件被分成若干段，通过多个channel同时读取。如果连接断开，则重新连接，旧连接上的channel被丢弃。
+ * </p>
+ */
 public class SshSession extends Session {
-    private final JSch jsch;
-    private final Map  channels;
+    private static final int                           SEGMENT_SIZE = 512 * 1024;
+    private final        JSch                          jsch;
+    private final        Map<ResourceKey, ChannelPool> pools;
+    private              ExecutorService               executor;
 
     public SshSession(SshResourceDriver driver) {
         super(driver);
         this.jsch = new JSch();
-        this.channels = Collections.synchronizedMap(new HashMap());
+        this.pools = Collections.synchronizedMap(new HashMap<ResourceKey, ChannelPool>());
     }
 
     @Override
@@ -60,119 +86,416 @@ public class SshSession extends Session {
 
     @Override
     public Resource getResource(ResourceURI uri) {
+        ChannelPool pool = getChannelPool(uri);
+        ChannelSftp channel = pool.borrow(uri);
+        SftpATTRS stat;
+
         try {
-            ChannelSftp channel = getOrCreateChannel(uri);
-            SftpATTRS stat;
+            stat = channel.stat(uri.getPath());
+        } catch (SftpException e) {
+            throw new ResourceNotFoundException(e);
+        } finally {
+            pool.release(channel);
+        }
 
-            try {
-                stat = channel.stat(uri.getPath());
-            } catch (SftpException e) {
-                throw new ResourceNotFoundException(e);
+        return new SshResource(this, uri, stat);
+    }
+
+    /** 列出目录中的所有文件和子目录，子资源带有<code>ls</code>返回的属性，因此不需要再逐个取得其属性。 */
+    @SuppressWarnings("unchecked")
+    List<Resource> list(ResourceURI uri) {
+        ChannelPool pool = getChannelPool(uri);
+        ChannelSftp channel = pool.borrow(uri);
+        List<LsEntry> entries;
+
+        try {
+            entries = channel.ls(uri.getPath()); // JSch返回raw Vector，其中的元素为LsEntry
+        } catch (SftpException e) {
+            throw new ConfigException(e);
+        } finally {
+            pool.release(channel);
+        }
+
+        List<Resource> result = new ArrayList<Resource>(entries.size());
+
+        for (LsEntry entry : entries) {
+            String name = entry.getFilename();
+
+            if (".".equals(name) || "..".equals(name)) {
+                continue;
+            }
+
+            result.add(new SshResource(this, uri.getSubURI(name, entry.getAttrs().isDir()), entry.getAttrs()));
+        }
+
+        return result;
+    }
+
+    /**
+     * 读取文件，关闭返回的输入流时删除临时文件。
+     * <p>
+     * 如果文件的长度已知，则被分成<code>min(channel的上限, 长度 / 512K)</code>段，即每段至少512K，且段数不超过channel的上限。
+     * 如果超过一段，则每段通过一个channel同时读取，以减少高延迟网络上逐个请求的等待时间。
+     * </p>
+     */
+    InputStream read(final ResourceURI uri, long size) {
+        final ChannelPool pool = getChannelPool(uri);
+        int segments = (int) Math.min(pool.getMaxChannels(), size / SEGMENT_SIZE);
+
+        if (segments <= 1) {
+            return getInputStream(readSegment(pool, uri, 0, -1));
+        }
+
+        long segmentSize = (size + segments - 1) / segments;
+        List<Future<SpillBuffer>> futures = new ArrayList<Future<SpillBuffer>>(segments);
+        List<InputStream> streams = new ArrayList<InputStream>(segments);
+        boolean success = false;
+
+        try {
+            for (int i = 0; i < segments; i++) {
+                final long offset = i * segmentSize;
+
+                // 最后一段读到文件末尾，以防文件在stat之后被改变
+                final long length = i == segments - 1 ? -1 : segmentSize;
+
+                futures.add(getExecutor().submit(new Callable<SpillBuffer>() {
+                    public SpillBuffer call() {
+                        return readSegment(pool, uri, offset, length);
+                    }
+                }));
+            }
+
+            for (Future<SpillBuffer> future : futures) {
+                future.get(); // 等待所有的段读完
+            }
+
+            for (Future<SpillBuffer> future : futures) {
+                streams.add(getInputStream(future.get()));
             }
 
-            return new SshResource(this, channel, uri, stat);
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
+            success = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new ConfigException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new ConfigException(cause);
+            }
+        } finally {
+            if (!success) {
+                deleteSegments(futures);
+            }
         }
+
+        return new SequenceInputStream(Collections.enumeration(streams));
     }
 
-    protected ChannelSftp getOrCreateChannel(ResourceURI uri) {
-        final ResourceKey key = new ResourceKey(uri);
-        ChannelSftp channel;
+    /** 取消尚未开始读取的段，等待正在读取的段结束，并删除所有已读取的段的临时文件。 */
+    private void deleteSegments(List<Future<SpillBuffer>> futures) {
+        boolean interrupted = false;
 
-        synchronized (channels) {
-            channel = (ChannelSftp) channels.get(key);
+        for (Future<SpillBuffer> future : futures) {
+            if (future.cancel(false)) {
+                continue;
+            }
 
-            if (channel == null) {
+            while (true) {
                 try {
-                    ResourceContext.get().setCurrentURI(uri.getURI());
-
-                    com.jcraft.jsch.Session session = jsch.getSession(key.getUser(), key.getHost(), key.getPort());
+                    future.get().delete();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    break; // 读取失败的段已被删除
+                }
+            }
+        }
 
-                    session.setUserInfo(new UserInfo() {
-                        private UsernamePassword up;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-                        public String getPassphrase() {
-                            return null;
-                        }
+    /** 从指定位置读取文件，如果<code>length</code>为负数，则读到文件末尾。 */
+    private SpillBuffer readSegment(ChannelPool pool, ResourceURI uri, long offset, long length) {
+        SpillBuffer buffer = new SpillBuffer(ConfigConstant.RESOURCE_MEMORY_THRESHOLD);
+        ChannelSftp channel = pool.borrow(uri);
+        boolean success = false;
 
-                        public boolean promptPassphrase(String message) {
-                            return true;
-                        }
+        try {
+            InputStream istream = channel.get(uri.getPath(), null, offset);
 
-                        public String getPassword() {
-                            return up == null ? null : up.getPassword();
-                        }
+            try {
+                byte[] bytes = new byte[8192];
+                long remaining = length < 0 ? Long.MAX_VALUE : length;
+                int count;
 
-                        public boolean promptPassword(String message) {
-                            URI uri = ResourceContext.get().getCurrentURI();
-                            String username = ResourceContext.get().getCurrentUsername();
-                            Set visitedURIs = ResourceContext.get().getVisitedURIs();
+                while (remaining > 0 && (count = istream.read(bytes, 0, (int) Math.min(bytes.length, remaining))) >= 0) {
+                    buffer.write(bytes, 0, count);
+                    remaining -= count;
+                }
+            } finally {
+                try {
+                    istream.close();
+                } catch (IOException e) {
+                }
+            }
 
-                            message = "\nAuthentication required: \n" + uri + "\n";
+            success = true;
+        } catch (SftpException e) {
+            throw new ConfigException(e);
+        } catch (IOException e) {
+            throw new ConfigException(e);
+        } finally {
+            pool.release(channel);
 
-                            up = getResourceManager().getAuthenticationHandler().authenticate(message, uri, username,
-                                                                                              visitedURIs.contains(key));
+            if (!success) {
+                buffer.delete();
+            }
+        }
 
-                            visitedURIs.add(key);
+        return buffer;
+    }
 
-                            return up != null;
-                        }
+    private InputStream getInputStream(SpillBuffer buffer) {
+        try {
+            return buffer.getInputStreamAndDelete();
+        } catch (IOException e) {
+            buffer.delete();
+            throw new ConfigException(e);
+        }
+    }
 
-                        public boolean promptYesNo(String str) {
-                            return true;
-                        }
+    /** 取得一个独占的channel，用完后须调用<code>releaseChannel()</code>归还。 */
+    ChannelSftp borrowChannel(ResourceURI uri) {
+        return getChannelPool(uri).borrow(uri);
+    }
 
-                        public void showMessage(String message) {
-                        }
-                    });
+    void releaseChannel(ResourceURI uri, ChannelSftp channel) {
+        getChannelPool(uri).release(channel);
+    }
 
-                    session.connect();
+    private ChannelPool getChannelPool(ResourceURI uri) {
+        ResourceKey key = new ResourceKey(uri);
 
-                    channel = (ChannelSftp) session.openChannel("sftp");
-                    channel.connect();
+        synchronized (pools) {
+            ChannelPool pool = pools.get(key);
 
-                    String charset = uri.getOption("charset");
+            if (pool == null) {
+                pool = new ChannelPool(key, getResourceManager().getMaxConnectionsPerHost());
+                pools.put(key, pool);
+            }
 
-                    if (charset != null) {
-                        channel.setFilenameEncoding(charset);
-                    }
+            return pool;
+        }
+    }
 
-                    channels.put(key, channel);
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            final AtomicInteger count = new AtomicInteger();
 
-                    // 成功就清除，以避免重复提示输入密码
-                    ResourceContext.get().getVisitedURIs().remove(new ResourceKey(new ResourceURI(uri.getURI())));
-                } catch (RuntimeException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new ConfigException(e);
-                } finally {
-                    ResourceContext.get().setCurrentURI(null);
+            executor = Executors.newCachedThreadPool(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "autoconfig-sftp-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
                 }
-            }
+            });
         }
 
-        return channel;
+        return executor;
     }
 
     @Override
     public void close() {
-        synchronized (channels) {
-            for (Iterator i = channels.values().iterator(); i.hasNext(); ) {
-                ChannelSftp channel = (ChannelSftp) i.next();
+        synchronized (pools) {
+            for (Iterator<ChannelPool> i = pools.values().iterator(); i.hasNext(); ) {
+                ChannelPool pool = i.next();
 
                 i.remove();
+                pool.close();
+            }
+        }
 
-                if (channel != null) {
-                    channel.quit();
+        synchronized (this) {
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+    }
+
+    /** 同一个主机的channel池，所有的channel共用一个ssh连接。 */
+    private class ChannelPool {
+        private final ResourceKey              key;
+        private final int                      maxChannels;
+        private final LinkedList<ChannelSftp>  idleChannels = new LinkedList<ChannelSftp>();
+        private final List<ChannelSftp>        allChannels  = new ArrayList<ChannelSftp>();
+        private       com.jcraft.jsch.Session  session;
+
+        public ChannelPool(ResourceKey key, int maxChannels) {
+            this.key = key;
+            this.maxChannels = Math.max(1, maxChannels);
+        }
+
+        public int getMaxChannels() {
+            return maxChannels;
+        }
 
-                    try {
-                        channel.getSession().disconnect();
-                    } catch (JSchException e) {
+        /** 取得一个空闲的channel，如果没有空闲的channel，并且channel的数量已达上限，则等待。 */
+        public synchronized ChannelSftp borrow(ResourceURI uri) {
+            try {
+                while (true) {
+                    while (idleChannels.isEmpty() && allChannels.size() >= maxChannels) {
+                        wait();
+                    }
+
+                    if (idleChannels.isEmpty()) {
+                        break;
                     }
+
+                    ChannelSftp channel = idleChannels.removeFirst();
+
+                    if (isUsable(channel)) {
+                        return channel;
+                    }
+
+                    discard(channel);
+                }
+
+                // 只有第一次连接时才需要验证，其它线程在此等待，然后共用这个连接。
+                // 重新连接时，旧连接上所有空闲的channel都已失效，须丢弃。
+                if (session == null || !session.isConnected()) {
+                    while (!idleChannels.isEmpty()) {
+                        discard(idleChannels.removeFirst());
+                    }
+
+                    session = connect(uri);
+                }
+
+                ChannelSftp channel = (ChannelSftp) session.openChannel("sftp");
+                channel.connect();
+
+                String charset = uri.getOption("charset");
+
+                if (charset != null) {
+                    channel.setFilenameEncoding(charset);
                 }
+
+                allChannels.add(channel);
+
+                return channel;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConfigException(e);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new ConfigException(e);
+            }
+        }
+
+        /** 归还channel，已断开的channel，以及旧连接上的channel将被丢弃。 */
+        public synchronized void release(ChannelSftp channel) {
+            if (isUsable(channel)) {
+                idleChannels.addFirst(channel);
+            } else {
+                discard(channel);
+            }
+
+            notifyAll();
+        }
+
+        /** 判断channel是否仍然连接，并且属于当前的ssh连接。 */
+        private boolean isUsable(ChannelSftp channel) {
+            if (!channel.isConnected() || session == null || !session.isConnected()) {
+                return false;
+            }
+
+            try {
+                return channel.getSession() == session;
+            } catch (JSchException e) {
+                return false;
+            }
+        }
+
+        private void discard(ChannelSftp channel) {
+            allChannels.remove(channel);
+            channel.disconnect();
+        }
+
+        public synchronized void close() {
+            for (Iterator<ChannelSftp> i = allChannels.iterator(); i.hasNext(); ) {
+                ChannelSftp channel = i.next();
+
+                i.remove();
+                channel.quit();
+            }
+
+            idleChannels.clear();
+
+            if (session != null) {
+                session.disconnect();
+                session = null;
+            }
+        }
+
+        private com.jcraft.jsch.Session connect(ResourceURI uri) throws JSchException {
+            try {
+                ResourceContext.get().setCurrentURI(uri.getURI());
+
+                com.jcraft.jsch.Session session = jsch.getSession(key.getUser(), key.getHost(), key.getPort());
+
+                session.setUserInfo(new UserInfo() {
+                    private UsernamePassword up;
+
+                    public String getPassphrase() {
+                        return null;
+                    }
+
+                    public boolean promptPassphrase(String message) {
+                        return true;
+                    }
+
+                    public String getPassword() {
+                        return up == null ? null : up.getPassword();
+                    }
+
+                    public boolean promptPassword(String message) {
+                        URI uri = ResourceContext.get().getCurrentURI();
+                        String username = ResourceContext.get().getCurrentUsername();
+                        Set visitedURIs = ResourceContext.get().getVisitedURIs();
+
+                        message = "\nAuthentication required: \n" + uri + "\n";
+
+                        up = getResourceManager().getAuthenticationHandler().authenticate(message, uri, username,
+                                                                                          visitedURIs.contains(key));
+
+                        visitedURIs.add(key);
+
+                        return up != null;
+                    }
+
+                    public boolean promptYesNo(String str) {
+                        return true;
+                    }
+
+                    public void showMessage(String message) {
+                    }
+                });
+
+                session.connect();
+
+                // 成功就清除，以避免重复提示输入密码
+                ResourceContext.get().getVisitedURIs().remove(new ResourceKey(new ResourceURI(uri.getURI())));
+
+                return session;
+            } finally {
+                ResourceContext.get().setCurrentURI(null);
             }
         }
     }
@@ -17,15 +17,10 @@
 
 package com.alibaba.antx.config.resource.util;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 import com.alibaba.antx.config.resource.Resource;
-import org.dom4j.Document;
-import org.dom4j.Node;
 
 public class ApacheIndexPageParser extends TextBasedPageParser {
     public ApacheIndexPageParser() {
@@ -36,37 +31,40 @@ public class ApacheIndexPageParser extends TextBasedPageParser {
         super(overridingCharset);
     }
 
-    public List parse(Resource resource) {
-        Document doc = getHtmlDocument(resource);
+    /** 标题以Index of开头的页面，取得<code>pre</code>中第一个形如<code>[DIR]</code>的图标之后的所有链接。 */
+    @Override
+    protected HtmlHandler createHtmlHandler(final Resource resource) {
+        return new HtmlHandler() {
+            private final List    hrefs = new ArrayList();
+            private       boolean listing;
 
-        if (doc != null) {
-            Node title = doc.selectSingleNode("//head/title");
+            @Override
+            public void startElement(HtmlTokenizer tokenizer, String name) {
+                super.startElement(tokenizer, name);
 
-            if (title != null && title.getText() != null && title.getText().startsWith("Index of")) {
-                List nodes = doc
-                        .selectNodes("//pre/img[starts-with(@alt,'[') and ends-with(@alt,']')]/following::a/@href");
-                List items = new ArrayList(nodes.size());
+                if (!listing && name.equals("img") && tokenizer.isInside("pre")) {
+                    String alt = tokenizer.getAttribute("alt");
 
-                for (Iterator i = nodes.iterator(); i.hasNext(); ) {
-                    Node node = (Node) i.next();
-                    String name = node.getText();
+                    listing = alt != null && alt.startsWith("[") && alt.endsWith("]");
+                } else if (listing && name.equals("a")) {
+                    String href = tokenizer.getRawAttribute("href");
 
-                    try {
-                        name = URLDecoder.decode(name, getCharset(resource));
-                    } catch (UnsupportedEncodingException e) {
+                    if (href != null) {
+                        hrefs.add(href);
                     }
+                }
+            }
 
-                    Item item = getItem(name);
+            @Override
+            public List getItems() {
+                String title = getTitle();
 
-                    if (item != null) {
-                        items.add(item);
-                    }
+                if (title != null && title.startsWith("Index of")) {
+                    return ApacheIndexPageParser.this.getItems(resource, hrefs);
                 }
 
-                return items;
+                return null;
             }
-        }
-
-        return null;
+        };
     }
 }
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.config.resource.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一个简单的流式HTML tokenizer，用来从目录索引页中提取链接。
+ * <p>
+ * 和<code>Tidy</code>不同，它不建立DOM，只将页面顺序扫描一遍，并将所有的开始标签、结束标签和文本依次通知给一组
+ * <code>Handler</code>，因此多个index页面格式可以共享同一次扫描。tokenizer维护一个当前打开的元素栈，用来判断元素的上下级关系，
+ * 没有结束标签的空元素（如<code>img</code>、<code>br</code>）不入栈，未关闭的元素在其父元素结束时被隐含关闭，
+ * 新的<code>li</code>会隐含关闭前一个<code>li</code>。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class HtmlTokenizer {
+    private static final String[] VOID_ELEMENTS = { "area", "base", "br", "col", "embed", "hr", "img", "input",
+                                                    "link", "meta", "param", "source", "wbr" };
+
+    private final Reader        reader;
+    private final char[]        buffer       = new char[8192];
+    private final List<String>  openElements = new ArrayList<String>();
+    private final List<String>  attrNames    = new ArrayList<String>();
+    private final List<String>  attrValues   = new ArrayList<String>();
+    private final StringBuilder token        = new StringBuilder();
+    private       int           pos;
+    private       int           limit;
+
+    public HtmlTokenizer(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** 扫描整个页面，并将事件依次通知给所有的handlers。 */
+    public void parse(Handler[] handlers) throws IOException {
+        int c = read();
+
+        while (c >= 0) {
+            if (c != '<') {
+                c = readText(c, handlers);
+                continue;
+            }
+
+            c = read();
+
+            if (c == '!' || c == '?') {
+                skipDeclaration(c);
+            } else if (c == '/') {
+                readEndTag(handlers);
+            } else if (isNameStart(c)) {
+                readStartTag(c, handlers);
+            } else {
+                // 不是标签，作为文本处理
+                char[] lt = { '<' };
+
+                for (Handler handler : handlers) {
+                    handler.characters(this, lt, 0, 1);
+                }
+
+                continue;
+            }
+
+            c = read();
+        }
+
+        for (int i = openElements.size() - 1; i >= 0; i--) {
+            String name = openElements.remove(i);
+
+            for (Handler handler : handlers) {
+                handler.endElement(this, name);
+            }
+        }
+    }
+
+    /** 取得当前开始标签的属性值，实体已被解码。如果不存在，则返回<code>null</code>。 */
+    public String getAttribute(String name) {
+        String value = getRawAttribute(name);
+        return value == null ? null : decodeEntities(value);
+    }
+
+    /**
+     * 取得当前开始标签的属性值，实体未被解码。如果不存在，则返回<code>null</code>。
+     * <p>
+     * 如果页面不是以其实际的charset读取的，调用者须先按实际的charset重新解码，然后再解码实体，否则实体所代表的字符会被错误地解码。
+     * </p>
+     */
+    public String getRawAttribute(String name) {
+        for (int i = 0; i < attrNames.size(); i++) {
+            if (attrNames.get(i).equals(name)) {
+                return attrValues.get(i);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 取得当前打开的元素名，<code>0</code>代表最内层的元素。在<code>startElement</code>中，即为当前元素的父元素。
+     * 如果不存在，则返回<code>null</code>。
+     */
+    public String getOpenElement(int level) {
+        int index = openElements.size() - 1 - level;
+        return index >= 0 ? openElements.get(index) : null;
+    }
+
+    /** 判断指定的元素是否被打开。 */
+    public boolean isInside(String name) {
+        return openElements.lastIndexOf(name) >= 0;
+    }
+
+    private int readText(int c, Handler[] handlers) throws IOException {
+        while (c >= 0 && c != '<') {
+            int start = pos - 1;
+
+            while (pos < limit && buffer[pos] != '<') {
+                pos++;
+            }
+
+            for (Handler handler : handlers) {
+                handler.characters(this, buffer, start, pos - start);
+            }
+
+            c = read();
+        }
+
+        return c;
+    }
+
+    /** 跳过注释、DOCTYPE、CDATA和处理指令。 */
+    private void skipDeclaration(int c) throws IOException {
+        if (c == '!') {
+            c = read();
+
+            if (c == '-') {
+                c = read();
+
+                if (c == '-') {
+                    skipUntil("-->");
+                    return;
+                }
+            }
+        }
+
+        while (c >= 0 && c != '>') {
+            c = read();
+        }
+    }
+
+    private void readEndTag(Handler[] handlers) throws IOException {
+        int c = read();
+
+        token.setLength(0);
+
+        while (c >= 0 && isNameChar(c)) {
+            token.append(Character.toLowerCase((char) c));
+            c = read();
+        }
+
+        while (c >= 0 && c != '>') {
+            c = read();
+        }
+
+        String name = token.toString();
+        int index = openElements.lastIndexOf(name);
+
+        // 关闭该元素，以及所有未关闭的子元素；忽略没有对应开始标签的结束标签
+        if (index >= 0) {
+            closeElements(index, handlers);
+        }
+    }
+
+    private void readStartTag(int c, Handler[] handlers) throws IOException {
+        token.setLength(0);
+
+        while (c >= 0 && isNameChar(c)) {
+            token.append(Character.toLowerCase((char) c));
+            c = read();
+        }
+
+        String name = token.toString();
+        boolean selfClosing = false;
+
+        attrNames.clear();
+        attrValues.clear();
+
+        // 读取属性
+        while (c >= 0 && c != '>') {
+            if (c == '/') {
+                selfClosing = true;
+                c = read();
+            } else if (Character.isWhitespace((char) c)) {
+                c = read();
+            } else {
+                selfClosing = false;
+                c = readAttribute(c);
+            }
+        }
+
+        if (name.equals("li")) {
+            int index = openElements.lastIndexOf("li");
+
+            if (index >= 0 && index > Math.max(openElements.lastIndexOf("ul"), openElements.lastIndexOf("ol"))) {
+                closeElements(index, handlers);
+            }
+        }
+
+        for (Handler handler : handlers) {
+            handler.startElement(this, name);
+        }
+
+        if (selfClosing || isVoidElement(name)) {
+            for (Handler handler : handlers) {
+                handler.endElement(this, name);
+            }
+        } else if (name.equals("script") || name.equals("style")) {
+            // 忽略脚本和样式的内容
+            skipUntil("</" + name);
+
+            while ((c = read()) >= 0 && c != '>') {
+            }
+
+            for (Handler handler : handlers) {
+                handler.endElement(this, name);
+            }
+        } else {
+            openElements.add(name);
+        }
+    }
+
+    /** 读取一个属性，返回属性后的第一个字符。 */
+    private int readAttribute(int c) throws IOException {
+        token.setLength(0);
+
+        while (c >= 0 && c != '=' && c != '>' && c != '/' && !Character.isWhitespace((char) c)) {
+            token.append(Character.toLowerCase((char) c));
+            c = read();
+        }
+
+        String name = token.toString();
+
+        while (c >= 0 && Character.isWhitespace((char) c)) {
+            c = read();
+        }
+
+        String value = "";
+
+        if (c == '=') {
+            c = read();
+
+            while (c >= 0 && Character.isWhitespace((char) c)) {
+                c = read();
+            }
+
+            token.setLength(0);
+
+            if (c == '"' || c == '\'') {
+                int quote = c;
+
+                while ((c = read()) >= 0 && c != quote) {
+                    token.append((char) c);
+                }
+
+                c = read();
+            } else {
+                while (c >= 0 && c != '>' && !Character.isWhitespace((char) c)) {
+                    token.append((char) c);
+                    c = read();
+                }
+            }
+
+            value = token.toString();
+        }
+
+        attrNames.add(name);
+        attrValues.add(value);
+
+        return c;
+    }
+
+    private void closeElements(int index, Handler[] handlers) {
+        for (int i = openElements.size() - 1; i >= index; i--) {
+            String name = openElements.remove(i);
+
+            for (Handler handler : handlers) {
+                handler.endElement(this, name);
+            }
+        }
+    }
+
+    /** 跳过直到指定的字符串（不区分大小写）之后。 */
+    private void skipUntil(String end) throws IOException {
+        int matched = 0;
+        int c;
+
+        while (matched < end.length() && (c = read()) >= 0) {
+            if (Character.toLowerCase((char) c) == end.charAt(matched)) {
+                matched++;
+            } else {
+                matched = Character.toLowerCase((char) c) == end.charAt(0) ? 1 : 0;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            pos = 0;
+
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+
+        return buffer[pos++];
+    }
+
+    private static boolean isNameStart(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isNameChar(int c) {
+        return isNameStart(c) || c >= '0' && c <= '9' || c == '-' || c == ':' || c == '_';
+    }
+
+    private static boolean isVoidElement(String name) {
+        for (String element : VOID_ELEMENTS) {
+            if (element.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /** 解码字符实体，包括<code>&amp;amp;</code>、<code>&amp;lt;</code>、<code>&amp;#nnn;</code>等。 */
+    static String decodeEntities(CharSequence value) {
+        int amp = -1;
+
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '&') {
+                amp = i;
+                break;
+            }
+        }
+
+        if (amp < 0) {
+            return value.toString();
+        }
+
+        StringBuilder buf = new StringBuilder(value.length());
+
+        buf.append(value, 0, amp);
+
+        for (int i = amp; i < value.length(); i++) {
+            char c = value.charAt(i);
+            int semicolon;
+
+            if (c == '&' && (semicolon = indexOf(value, ';', i + 1, i + 10)) > 0) {
+                String entity = value.subSequence(i + 1, semicolon).toString();
+                int decoded = decodeEntity(entity);
+
+                if (decoded >= 0 && decoded <= Character.MAX_CODE_POINT) {
+                    buf.appendCodePoint(decoded);
+                    i = semicolon;
+                    continue;
+                }
+            }
+
+            buf.append(c);
+        }
+
+        return buf.toString();
+    }
+
+    private static int decodeEntity(String entity) {
+        if (entity.startsWith("#")) {
+            try {
+                if (entity.startsWith("#x") || entity.startsWith("#X")) {
+                    return Integer.parseInt(entity.substring(2), 16);
+                } else {
+                    return Integer.parseInt(entity.substring(1));
+                }
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        } else if (entity.equals("amp")) {
+            return '&';
+        } else if (entity.equals("lt")) {
+            return '<';
+        } else if (entity.equals("gt")) {
+            return '>';
+        } else if (entity.equals("quot")) {
+            return '"';
+        } else if (entity.equals("apos")) {
+            return '\'';
+        } else if (entity.equals("nbsp")) {
+            return 0xA0;
+        }
+
+        return -1;
+    }
+
+    private static int indexOf(CharSequence value, char c, int from, int to) {
+        for (int i = from; i < Math.min(to, value.length()); i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /** 接收tokenizer事件的回调。 */
+    public interface Handler {
+        /** 开始一个元素，可通过<code>tokenizer.getAttribute()</code>取得属性。 */
+        void startElement(HtmlTokenizer tokenizer, String name);
+
+        /** 结束一个元素。 */
+        void endElement(HtmlTokenizer tokenizer, String name);
+
+        /** 元素中的文本，未解码实体。 */
+        void characters(HtmlTokenizer tokenizer, char[] ch, int start, int length);
+    }
+}
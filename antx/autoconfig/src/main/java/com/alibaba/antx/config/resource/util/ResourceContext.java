@@ -18,7 +18,9 @@
 package com.alibaba.antx.config.resource.util;
 
 import java.net.URI;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public final class ResourceContext {
@@ -26,6 +28,7 @@ public final class ResourceContext {
     private URI    currentURI;
     private String currentUsername;
     private Set visitedURIs = new HashSet();
+    private Map usedCredentials = new HashMap();
 
     private ResourceContext() {
     }
@@ -61,4 +64,9 @@ public final class ResourceContext {
     public Set getVisitedURIs() {
         return visitedURIs;
     }
+
+    /** 取得当前线程最近一次使用的用户名和密码：ResourceKey -> UsernamePassword。 */
+    public Map getUsedCredentials() {
+        return usedCredentials;
+    }
 }
@@ -17,8 +17,6 @@
 
 package com.alibaba.antx.config.resource.util;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -29,55 +27,53 @@ import org.dom4j.DocumentType;
 import org.dom4j.Node;
 
 public class SvnIndexPageParser extends TextBasedPageParser {
-    public List parse(Resource resource) {
-        Document doc;
-        boolean xml = true;
+    @Override
+    protected List parseXml(Resource resource, Document doc) {
+        DocumentType docType = doc.getDocType();
 
-        doc = getXmlDocument(resource);
+        if (docType != null && "svn".equalsIgnoreCase(docType.getName())) {
+            List items = new ArrayList();
 
-        if (doc == null) {
-            doc = getHtmlDocument(resource);
-            xml = false;
-        }
-
-        List items = null;
-
-        if (doc != null && xml) {
-            DocumentType docType = doc.getDocType();
+            addNodes(items, doc.selectNodes("//dir/@name"), true);
+            addNodes(items, doc.selectNodes("//file/@name"), false);
 
-            if (docType != null && "svn".equalsIgnoreCase(docType.getName())) {
-                items = new ArrayList();
+            return items;
+        }
 
-                addNodes(items, doc.selectNodes("//dir/@name"), true);
-                addNodes(items, doc.selectNodes("//file/@name"), false);
-            }
-        } else if (doc != null && !xml) {
-            Node title = doc.selectSingleNode("//head/title");
+        return null;
+    }
 
-            if (title != null && title.getText() != null && title.getText().indexOf("Revision") > 0) {
-                List nodes = doc.selectNodes("//ul/li/a/@href");
+    /** 标题中包含Revision的页面，取得<code>ul/li/a</code>的链接。 */
+    @Override
+    protected HtmlHandler createHtmlHandler(final Resource resource) {
+        return new HtmlHandler() {
+            private final List hrefs = new ArrayList();
 
-                items = new ArrayList();
+            @Override
+            public void startElement(HtmlTokenizer tokenizer, String name) {
+                super.startElement(tokenizer, name);
 
-                for (Iterator i = nodes.iterator(); i.hasNext(); ) {
-                    Node node = (Node) i.next();
-                    String name = node.getText();
+                if (name.equals("a") && "li".equals(tokenizer.getOpenElement(0))
+                    && "ul".equals(tokenizer.getOpenElement(1))) {
+                    String href = tokenizer.getRawAttribute("href");
 
-                    try {
-                        name = URLDecoder.decode(name, getCharset(resource));
-                    } catch (UnsupportedEncodingException e) {
+                    if (href != null) {
+                        hrefs.add(href);
                     }
+                }
+            }
 
-                    Item item = getItem(name);
+            @Override
+            public List getItems() {
+                String title = getTitle();
 
-                    if (item != null) {
-                        items.add(item);
-                    }
+                if (title != null && title.indexOf("Revision") > 0) {
+                    return SvnIndexPageParser.this.getItems(resource, hrefs);
                 }
-            }
-        }
 
-        return items;
+                return null;
+            }
+        };
     }
 
     private void addNodes(List items, List listOfNodes, boolean directory) {
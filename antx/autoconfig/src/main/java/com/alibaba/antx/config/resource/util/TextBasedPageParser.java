@@ -17,15 +17,26 @@
 
 package com.alibaba.antx.config.resource.util;
 
-import java.io.PrintWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import com.alibaba.antx.config.resource.Resource;
-import com.alibaba.antx.util.ByteArrayOutputStream;
 import org.dom4j.Document;
-import org.dom4j.io.DOMReader;
 import org.dom4j.io.SAXReader;
-import org.w3c.tidy.Tidy;
 
+/**
+ * 基于文本的index页面解析器。
+ * <p>
+ * HTML页面由<code>HtmlTokenizer</code>顺序扫描，而不建立DOM。通过<code>parse(resource, parsers)</code>，
+ * 多个解析器可以共享同一次扫描。
+ * </p>
+ */
 public abstract class TextBasedPageParser implements IndexPageParser {
     private String overridingCharset;
 
@@ -40,34 +51,95 @@ public abstract class TextBasedPageParser implements IndexPageParser {
         this.overridingCharset = charset;
     }
 
-    /** 取得xml文档。 */
-    protected Document getXmlDocument(Resource resource) {
+    public List parse(Resource resource) {
+        return parse(resource, new TextBasedPageParser[] { this });
+    }
+
+    /**
+     * 依次用指定的解析器解析页面，返回第一个非<code>null</code>的结果。
+     * <p>
+     * 不论有多少个解析器，页面都只被读取和扫描一次。扫描完以后，页面的内容被释放。
+     * </p>
+     */
+    public static List parse(Resource resource, TextBasedPageParser[] parsers) {
+        try {
+            return parsePage(resource, parsers);
+        } finally {
+            resource.close();
+        }
+    }
+
+    private static List parsePage(Resource resource, TextBasedPageParser[] parsers) {
+        Document doc = getXmlDocument(resource);
+
+        if (doc != null) {
+            for (TextBasedPageParser parser : parsers) {
+                List items = parser.parseXml(resource, doc);
+
+                if (items != null) {
+                    return items;
+                }
+            }
+
+            return null;
+        }
+
         String contentType = resource.getContentType();
 
-        if (contentType != null && contentType.startsWith("text/xml")) {
-            try {
-                return new SAXReader().read(resource.getInputStream());
-            } catch (Exception e) {
+        if (contentType == null || !contentType.startsWith("text/html")) {
+            return null;
+        }
+
+        HtmlHandler[] handlers = new HtmlHandler[parsers.length];
+
+        for (int i = 0; i < parsers.length; i++) {
+            handlers[i] = parsers[i].createHtmlHandler(resource);
+        }
+
+        InputStream istream = null;
+
+        try {
+            istream = resource.getInputStream();
+
+            // 标签都是ASCII字符，用ISO-8859-1读取，不会改变原始的字节，参见decodeName()
+            new HtmlTokenizer(new InputStreamReader(istream, "ISO-8859-1")).parse(handlers);
+        } catch (Exception e) {
+            return null;
+        } finally {
+            if (istream != null) {
+                try {
+                    istream.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+
+        for (HtmlHandler handler : handlers) {
+            List items = handler.getItems();
+
+            if (items != null) {
+                return items;
             }
         }
 
         return null;
     }
 
-    /** 取得html文档。 */
-    protected Document getHtmlDocument(Resource resource) {
-        String contentType = resource.getContentType();
+    /** 解析xml页面，如果不能识别，则返回<code>null</code>。 */
+    protected List parseXml(Resource resource, Document doc) {
+        return null;
+    }
 
-        if (contentType != null && contentType.startsWith("text/html")) {
-            try {
-                Tidy tidy = new Tidy();
-                tidy.setQuiet(true);
-                tidy.setXmlOut(true);
-                tidy.setErrout(new PrintWriter(new ByteArrayOutputStream()));
+    /** 创建用来扫描html页面的handler。 */
+    protected abstract HtmlHandler createHtmlHandler(Resource resource);
 
-                org.w3c.dom.Document dom = tidy.parseDOM(resource.getInputStream(), null);
+    /** 取得xml文档。 */
+    protected static Document getXmlDocument(Resource resource) {
+        String contentType = resource.getContentType();
 
-                return new DOMReader().read(dom);
+        if (contentType != null && contentType.startsWith("text/xml")) {
+            try {
+                return new SAXReader().read(resource.getInputStream());
             } catch (Exception e) {
             }
         }
@@ -85,6 +157,51 @@ public abstract class TextBasedPageParser implements IndexPageParser {
         }
     }
 
+    /** 将页面中的链接转换成items。 */
+    protected List getItems(Resource resource, List hrefs) {
+        List items = new ArrayList(hrefs.size());
+
+        for (Iterator i = hrefs.iterator(); i.hasNext(); ) {
+            Item item = getItem(decodeName((String) i.next(), resource));
+
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        return items;
+    }
+
+    /**
+     * 解码链接中的名字，<code>name</code>为未解码实体的原始属性值。页面是以ISO-8859-1读取的，
+     * 未经URL编码的非ASCII字符须先按照页面实际的charset重新解码，然后才能解码实体，以免实体所代表的字符被当作字节重新解码。
+     */
+    protected String decodeName(String name, Resource resource) {
+        String charset = getCharset(resource);
+
+        try {
+            if (!isAscii(name)) {
+                name = new String(name.getBytes("ISO-8859-1"), charset);
+            }
+
+            name = HtmlTokenizer.decodeEntities(name);
+            name = URLDecoder.decode(name, charset);
+        } catch (UnsupportedEncodingException e) {
+        }
+
+        return name;
+    }
+
+    private static boolean isAscii(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /** 根据名字取得item。 */
     protected Item getItem(String name) {
         if (name == null) {
@@ -104,4 +221,37 @@ public abstract class TextBasedPageParser implements IndexPageParser {
 
         return new Item(name, directory);
     }
+
+    /** 扫描html页面的handler，并取得页面的标题。 */
+    protected abstract static class HtmlHandler implements HtmlTokenizer.Handler {
+        private StringBuilder title;
+        private boolean       inTitle;
+
+        public void startElement(HtmlTokenizer tokenizer, String name) {
+            if (title == null && name.equals("title")) {
+                title = new StringBuilder();
+                inTitle = true;
+            }
+        }
+
+        public void endElement(HtmlTokenizer tokenizer, String name) {
+            if (name.equals("title")) {
+                inTitle = false;
+            }
+        }
+
+        public void characters(HtmlTokenizer tokenizer, char[] ch, int start, int length) {
+            if (inTitle) {
+                title.append(ch, start, length);
+            }
+        }
+
+        /** 取得页面的标题，如果不存在，则返回<code>null</code>。 */
+        protected String getTitle() {
+            return title == null ? null : HtmlTokenizer.decodeEntities(title).trim();
+        }
+
+        /** 扫描完成后，取得页面中的items，如果不能识别页面，则返回<code>null</code>。 */
+        public abstract List getItems();
+    }
 }
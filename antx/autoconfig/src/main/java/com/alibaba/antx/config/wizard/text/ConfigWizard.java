@@ -28,6 +28,7 @@ import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -37,6 +38,7 @@ import com.alibaba.antx.config.descriptor.ConfigDescriptor;
 import com.alibaba.antx.config.descriptor.ConfigGroup;
 import com.alibaba.antx.config.descriptor.ConfigProperty;
 import com.alibaba.antx.config.descriptor.ConfigValidator;
+import com.alibaba.antx.config.descriptor.validator.HostResolver;
 import com.alibaba.antx.config.generator.expr.CompositeExpression;
 import com.alibaba.antx.config.generator.expr.Expression;
 import com.alibaba.antx.config.generator.expr.ExpressionContext;
@@ -121,6 +123,45 @@ public class ConfigWizard {
      * @return 如果满足要求，则返回true
      */
     public boolean validate() {
+        HostResolver resolver = new HostResolver();
+
+        resolver.bind();
+
+        try {
+            resolver.resolveAll(getHostNames());
+            return doValidate();
+        } finally {
+            resolver.unbind();
+        }
+    }
+
+    /** 取得所有validator需要解析的域名，以便预先并行解析。 */
+    private Set getHostNames() {
+        Set hostnames = new LinkedHashSet();
+        int savedStep = step;
+
+        for (int i = 0; i < groups.length; i++) {
+            setStep(i);
+
+            for (ConfigProperty prop : props) {
+                String value = evaluatePropertyValue(prop, false);
+
+                for (ConfigValidator validator : prop.getValidators()) {
+                    String hostname = validator.getHostName(value);
+
+                    if (hostname != null) {
+                        hostnames.add(hostname);
+                    }
+                }
+            }
+        }
+
+        setStep(savedStep);
+
+        return hostnames;
+    }
+
+    private boolean doValidate() {
         for (int i = 0; i < groups.length; i++) {
             setStep(i);
 
@@ -27,15 +27,32 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
 
 import com.alibaba.antx.util.FileObject;
 import com.alibaba.antx.util.FileUtil;
+import com.alibaba.antx.util.SpillBuffer;
 import com.alibaba.antx.util.ZipUtil;
+import com.alibaba.antx.util.zip.RawZipEntry;
+import com.alibaba.antx.util.zip.RawZipFile;
 import org.apache.commons.digester.Digester;
 import org.xml.sax.SAXException;
 
@@ -51,9 +68,21 @@ public class Expander {
     private boolean expandEjbjar       = false;
     private boolean overwrite          = false;
     private boolean keepRedundantFiles = false;
-    private File srcfile;
-    private File destdir;
-    private Set  expandedFiles;
+    private boolean checkContent       = false;
+    private int     threads            = 1;
+    private File           srcfile;
+    private File           destdir;
+    private ExpanderPathTree expandedFiles;
+    private List<Object[]>   directoryTimes; // List of [File, Long]
+    private ExpanderIndex    index;
+
+    /** 每个线程复用一个缓冲区。 */
+    private final ThreadLocal<byte[]> buffers = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[ExpanderConstant.BUFFER_SIZE];
+        }
+    };
 
     public Expander(ExpanderLogger log) {
         this.log = log;
@@ -79,6 +108,14 @@ public class Expander {
         return keepRedundantFiles;
     }
 
+    public boolean isCheckContent() {
+        return checkContent;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
     public File getSourceFile() {
         return srcfile;
     }
@@ -129,6 +166,28 @@ public class Expander {
         this.keepRedundantFiles = keepRedundantFiles;
     }
 
+    /**
+     * 设置是否按内容判断文件是否为最新。
+     *
+     * @param checkContent 如果为<code>true</code>，则比较zip文件中的项和上次展开时所记录的CRC和大小，而不是比较修改时间
+     */
+    public void setCheckContent(boolean checkContent) {
+        this.checkContent = checkContent;
+    }
+
+    /**
+     * 设置展开时所用的线程数，默认为1。
+     *
+     * @param threads 线程数，如果为1，则在当前线程中依次展开所有文件
+     */
+    public void setThreads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be greater than 0: " + threads);
+        }
+
+        this.threads = threads;
+    }
+
     private void init() {
         // srcfile
         if (srcfile == null) {
@@ -175,20 +234,48 @@ public class Expander {
         log.info("Expanding: " + srcfile + "\n       To: " + destdir.getAbsolutePath());
 
         // 清除文件列表
-        expandedFiles = new HashSet();
+        expandedFiles = new ExpanderPathTree();
+        directoryTimes = Collections.synchronizedList(new ArrayList<Object[]>());
 
         // 开始展开
         InputStream istream = null;
+        RawZipFile zipFile = null;
 
         try {
-            istream = new BufferedInputStream(new FileInputStream(srcfile), 8192);
-            getExpanderHandler(srcfile.toURI().toURL()).expand(istream, destdir);
-            removeRedundantFiles(destdir);
+            ExpanderHandler handler = getExpanderHandler(srcfile.toURI().toURL());
+
+            // 装入上次展开时的索引，如果不按内容判断，则删除之，因为下面展开的文件将使其失效
+            if (checkContent) {
+                index = new ExpanderIndex(destdir);
+                index.load();
+            } else {
+                new ExpanderIndex(destdir).getIndexFile().delete();
+            }
+
+            zipFile = openRawZipFile(srcfile);
+
+            if (zipFile != null) {
+                handler.expand(zipFile, destdir);
+            } else {
+                istream = new BufferedInputStream(new FileInputStream(srcfile), 8192);
+                handler.expand(istream, destdir);
+            }
+
+            removeRedundantFiles(destdir, expandedFiles.getRoot(), "");
+            restoreDirectoryTimes();
+
+            if (index != null) {
+                index.save();
+            }
 
             log.info("done.");
         } catch (IOException e) {
             throw new ExpanderException(e);
         } finally {
+            if (zipFile != null) {
+                zipFile.close();
+            }
+
             if (istream != null) {
                 try {
                     istream.close();
@@ -197,33 +284,63 @@ public class Expander {
             }
 
             expandedFiles = null;
+            directoryTimes = null;
+            index = null;
+        }
+    }
+
+    /** 打开zip文件的central directory，如果是不支持的格式，则返回<code>null</code>。 */
+    private RawZipFile openRawZipFile(File file) throws IOException {
+        try {
+            return new RawZipFile(file);
+        } catch (ZipException e) {
+            log.debug("Could not read central directory of " + file + ": " + e.getMessage()
+                      + ", expanding it as a zip stream");
+            return null;
+        }
+    }
+
+    /**
+     * 设置目录的最后修改时间。
+     * <p>
+     * 在目录中创建或删除文件会改变目录的修改时间，故必须在所有文件都展开以后，从最深的目录开始设置。
+     * </p>
+     */
+    private void restoreDirectoryTimes() {
+        Collections.sort(directoryTimes, new Comparator<Object[]>() {
+            public int compare(Object[] o1, Object[] o2) {
+                return ((File) o2[0]).getPath().length() - ((File) o1[0]).getPath().length();
+            }
+        });
+
+        for (Object[] directoryTime : directoryTimes) {
+            File dir = (File) directoryTime[0];
+
+            if (dir.isDirectory()) {
+                dir.setLastModified((Long) directoryTime[1]);
+            }
         }
     }
 
     /**
      * 删除多余的文件。
+     * <p>
+     * 按照<code>expandedFiles</code>中的路径树遍历目标目录一次，已展开的文件不必再访问文件系统，未展开的文件和目录被删除。
+     * </p>
      *
-     * @param todir     展开到此目录
-     * @param zipStream 压缩流
-     * @param zipEntry  zip结点
-     * @param url       递归展开的url前缀
-     * @param output    XML输出
-     * @throws IOException 读写文件失败，或Zip格式错误
+     * @param fileOrDir 要检查的文件或目录
+     * @param node      文件或目录在路径树中对应的结点，如果为<code>null</code>，表示该文件或目录未被展开
+     * @param path      相对于目标目录的路径
      */
-    protected void removeRedundantFiles(File fileOrDir) throws IOException {
+    protected void removeRedundantFiles(File fileOrDir, ExpanderPathTree.Node node, String path) {
         if (isKeepRedundantFiles()) {
             return;
         }
 
-        if (!fileOrDir.exists()) {
-            return;
-        }
-
-        // 如果是文件，并且在expandedFiles中不存在该文件，则删除之
+        // 如果是文件，并且未被展开，则删除之
         if (!fileOrDir.isDirectory()) {
-            if (!expandedFiles.contains(fileOrDir.getCanonicalPath())) {
-                log.info("- " + getPathRelativeToDestdir(fileOrDir) + " - "
-                         + (fileOrDir.delete() ? "deleted" : "can't delete"));
+            if (node == null && fileOrDir.exists()) {
+                log.info("- " + path + " - " + (fileOrDir.delete() ? "deleted" : "can't delete"));
             }
 
             return;
@@ -232,13 +349,40 @@ public class Expander {
         // 深度优先地删除目录中的文件和子目录
         File[] files = fileOrDir.listFiles();
 
-        for (File file : files) {
-            removeRedundantFiles(file);
+        if (files != null) {
+            String prefix = path.length() == 0 ? "" : path + "/";
+            Set<String> names = null;
+
+            for (File file : files) {
+                // 保留目标目录中的索引文件
+                if (path.length() == 0 && ExpanderConstant.INDEX_FILE_NAME.equals(file.getName())) {
+                    continue;
+                }
+
+                ExpanderPathTree.Node child = node == null ? null : node.getChild(file.getName());
+
+                // 在不区分大小写的文件系统中，entry可能被写入已存在的、大小写不同的文件或目录中
+                if (child == null && node != null && node.hasChildren()) {
+                    if (names == null) {
+                        names = new HashSet<String>();
+
+                        for (File f : files) {
+                            names.add(f.getName());
+                        }
+                    }
+
+                    child = node.getChildIgnoreCase(file.getName(), names);
+                }
+
+                if (child == null || !child.isLeafFile()) {
+                    removeRedundantFiles(file, child, prefix + file.getName());
+                }
+            }
         }
 
-        // 如果目录为空，并且在expandedFiles中不存在该目录，则删除目录本身
-        if (!expandedFiles.contains(fileOrDir.getCanonicalPath()) && fileOrDir.delete()) {
-            log.info("- " + getPathRelativeToDestdir(fileOrDir) + " - success");
+        // 如果目录未被展开，则删除目录本身，此时目录中的文件已被全部删除
+        if (node == null && fileOrDir.delete()) {
+            log.info("- " + path + " - success");
         }
     }
 
@@ -254,12 +398,159 @@ public class Expander {
         }
     }
 
+    /**
+     * 取得索引中的路径，即zip entry相对于目标目录的路径，目录以“<code>/</code>”结尾。
+     * <p>
+     * 路径和写文件时一样被解析：“<code>.</code>”和“<code>..</code>”被逐级解析，“<code>\</code>”只在Windows上被视作分隔符。
+     * 绝对路径，以及越过目标目录的路径被视作非法。
+     * </p>
+     */
+    private String getIndexPath(String url, String entryName, boolean directory) {
+        if (new File(entryName).isAbsolute()) {
+            throw new ExpanderException("Illegal entry name, absolute path is not allowed: " + entryName);
+        }
+
+        String path = url == null ? entryName : url + "/" + entryName;
+
+        if (File.separatorChar == '\\') {
+            path = path.replace('\\', '/');
+        }
+
+        LinkedList<String> names = new LinkedList<String>();
+
+        for (String name : path.split("/")) {
+            if (name.length() == 0 || ".".equals(name)) {
+                continue;
+            }
+
+            if ("..".equals(name)) {
+                if (names.isEmpty()) {
+                    throw new ExpanderException("Illegal entry name, path is outside of destdir: " + entryName);
+                }
+
+                names.removeLast();
+            } else {
+                names.add(name);
+            }
+        }
+
+        StringBuilder buf = new StringBuilder(path.length() + 1);
+
+        for (String name : names) {
+            if (buf.length() > 0) {
+                buf.append('/');
+            }
+
+            buf.append(name);
+        }
+
+        return directory ? buf.append('/').toString() : buf.toString();
+    }
+
     private String getPathRelativeToDestdir(File file) {
         return new FileObject(destdir).newFileObject(file).getRelativePath();
     }
 
     /** 处理不同类型的jar包的接口。 */
     private abstract class ExpanderHandler {
+        /**
+         * 展开本地的ear文件到指定目录。
+         * <p>
+         * 直接读取zip文件的central directory，嵌套的war/rar包以及较大的文件被交给后台线程展开，其余的文件在当前线程中展开。
+         * </p>
+         *
+         * @param zipFile zip文件
+         * @param todir   展开目录
+         * @throws IOException 读写文件失败，或Zip格式错误
+         */
+        protected void expand(final RawZipFile zipFile, final File todir) throws IOException {
+            ExecutorService executor = null;
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+
+            if (threads > 1) {
+                executor = Executors.newFixedThreadPool(threads, new ExpanderThreadFactory());
+            }
+
+            try {
+                for (final RawZipEntry zipEntry : zipFile.getEntries()) {
+                    boolean background = executor != null && !zipEntry.isDirectory()
+                                         && (needToExpand(zipEntry.getName())
+                                             || zipEntry.getSize() >= ExpanderConstant.PARALLEL_ENTRY_THRESHOLD);
+
+                    if (background) {
+                        futures.add(executor.submit(new Callable<Object>() {
+                            public Object call() throws IOException {
+                                extractFile(todir, zipFile, zipEntry);
+                                return null;
+                            }
+                        }));
+                    } else {
+                        extractFile(todir, zipFile, zipEntry);
+                    }
+                }
+
+                for (Future<?> future : futures) {
+                    waitFor(future);
+                }
+            } finally {
+                if (executor != null) {
+                    executor.shutdownNow();
+
+                    // 出错时，须等待后台线程结束，再将异常抛给调用者，以免后台线程仍在改写目标目录
+                    awaitTermination(executor);
+                }
+            }
+        }
+
+        private void awaitTermination(ExecutorService executor) {
+            boolean interrupted = false;
+
+            while (true) {
+                try {
+                    if (executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void extractFile(File todir, RawZipFile zipFile, RawZipEntry zipEntry) throws IOException {
+            InputStream istream = new EntryInputStream(zipFile, zipEntry);
+
+            try {
+                extractFile(todir, istream, zipEntry, null);
+            } finally {
+                istream.close();
+            }
+        }
+
+        private void waitFor(Future<?> future) throws IOException {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExpanderException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw new ExpanderException(cause);
+                }
+            }
+        }
+
         /**
          * 展开ear文件到指定目录
          *
@@ -310,15 +601,25 @@ public class Expander {
                 expandFile = needToExpand(zipEntry.getName());
             }
 
-            if (!expandFile && !overwrite && targetFile.exists() && targetFile.lastModified() >= entryDate.getTime()) {
-                log.debug(". " + getPathRelativeToDestdir(targetFile) + " - up-to-date");
-                expandedFiles.add(targetFile.getCanonicalPath());
+            String path = getIndexPath(url, entryName, isDirectory || expandFile);
+
+            if (!expandFile && !overwrite && isUpToDate(targetFile, zipEntry, path)) {
+                upToDate(targetFile, zipEntry, path);
                 return;
             }
 
             if (isDirectory) {
-                expandedFiles.add(targetFile.getCanonicalPath());
+                expandedFiles.add(path);
                 targetFile.mkdirs();
+
+                // 目录的修改时间在所有文件展开以后再设置
+                directoryTimes.add(new Object[] { targetFile, entryDate.getTime() });
+
+                if (index != null) {
+                    index.add(path, -1, -1, entryDate.getTime());
+                }
+
+                return;
             } else {
                 File dir = targetFile.getParentFile();
 
@@ -326,6 +627,12 @@ public class Expander {
 
                 // 如果是war或rar文件，则展开到同名的目录中
                 if (expandFile) {
+                    // 如果包的内容和上次展开时相同，且展开后的文件都没有被改动，则跳过整个包
+                    if (!overwrite && isArchiveUnchanged(targetFile, zipEntry, path)) {
+                        log.info("= " + getPathRelativeToDestdir(targetFile) + " - unchanged");
+                        return;
+                    }
+
                     log.info("X " + getPathRelativeToDestdir(targetFile));
 
                     if (targetFile.exists() && !targetFile.isDirectory()) {
@@ -338,6 +645,8 @@ public class Expander {
                         throw new ExpanderException("could not create directory: " + targetFile);
                     }
 
+                    expandedFiles.add(path);
+
                     ZipInputStream zis = new ZipInputStream(zipStream);
                     ZipEntry subEntry = null;
 
@@ -345,8 +654,6 @@ public class Expander {
                         extractFile(targetFile, zis, subEntry, entryName);
                     }
                 } else {
-                    log.debug("+ " + getPathRelativeToDestdir(targetFile));
-
                     if (targetFile.exists() && targetFile.isDirectory()) {
                         FileUtil.deleteDirectory(targetFile);
                     }
@@ -355,30 +662,131 @@ public class Expander {
                         throw new ExpanderException("could not create file: " + targetFile + ", it's a directory");
                     }
 
-                    byte[] buffer = new byte[8192];
-                    int length = 0;
-                    OutputStream ostream = null;
+                    ExpanderIndex.Record record = index == null || overwrite ? null : index.getUnchangedRecord(path,
+                                                                                                              targetFile);
+                    SpillBuffer content = null;
 
                     try {
-                        expandedFiles.add(targetFile.getCanonicalPath());
+                        // 如果CRC未知（使用data descriptor的entry），则先读到缓冲区中，读完以后就可以比较CRC了
+                        if (record != null && zipEntry.getCrc() == -1) {
+                            content = new SpillBuffer(ExpanderConstant.CONTENT_BUFFER_THRESHOLD).readFrom(zipStream);
 
-                        ostream = new BufferedOutputStream(new FileOutputStream(targetFile), 8192);
+                            if (record.matches(zipEntry.getCrc(), zipEntry.getSize())) {
+                                upToDate(targetFile, zipEntry, path);
+                                return;
+                            }
 
-                        while ((length = zipStream.read(buffer)) >= 0) {
-                            ostream.write(buffer, 0, length);
+                            zipStream = content.getInputStream();
                         }
+
+                        log.debug("+ " + getPathRelativeToDestdir(targetFile));
+
+                        expandedFiles.add(path);
+                        writeFile(zipStream, targetFile);
                     } finally {
-                        if (ostream != null) {
-                            try {
-                                ostream.close();
-                            } catch (IOException e) {
-                            }
+                        if (content != null) {
+                            content.delete();
                         }
                     }
                 }
             }
 
-            targetFile.setLastModified(entryDate.getTime());
+            if (expandFile) {
+                directoryTimes.add(new Object[] { targetFile, entryDate.getTime() });
+            } else {
+                targetFile.setLastModified(entryDate.getTime());
+            }
+
+            if (index != null) {
+                index.add(path, zipEntry.getCrc(), zipEntry.getSize(), expandFile ? entryDate.getTime()
+                                                                                   : targetFile.lastModified());
+            }
+        }
+
+        private void writeFile(InputStream zipStream, File targetFile) throws IOException {
+            byte[] buffer = buffers.get();
+            int length = 0;
+            OutputStream ostream = null;
+
+            try {
+                ostream = new BufferedOutputStream(new FileOutputStream(targetFile), 8192);
+
+                while ((length = zipStream.read(buffer)) >= 0) {
+                    ostream.write(buffer, 0, length);
+                }
+            } finally {
+                if (ostream != null) {
+                    try {
+                        ostream.close();
+                    } catch (IOException e) {
+                    }
+                }
+            }
+        }
+
+        /** 判断文件或目录是否为最新。如果使用索引，则比较文件的CRC和大小，否则比较修改时间。 */
+        private boolean isUpToDate(File targetFile, ZipEntry zipEntry, String path) {
+            if (index == null || zipEntry.isDirectory()) {
+                return targetFile.exists() && targetFile.lastModified() >= zipEntry.getTime();
+            }
+
+            ExpanderIndex.Record record = index.getUnchangedRecord(path, targetFile);
+
+            return record != null && record.matches(zipEntry.getCrc(), zipEntry.getSize());
+        }
+
+        /** 跳过已是最新的文件或目录。 */
+        private void upToDate(File targetFile, ZipEntry zipEntry, String path) {
+            log.debug(". " + getPathRelativeToDestdir(targetFile) + " - up-to-date");
+            expandedFiles.add(path);
+
+            // 删除多余的文件会改变目录的修改时间，故仍需在最后设置
+            if (zipEntry.isDirectory()) {
+                directoryTimes.add(new Object[] { targetFile, zipEntry.getTime() });
+            }
+
+            if (index != null) {
+                // 内容未变，但entry的时间可能不同，只需修改时间即可
+                if (!zipEntry.isDirectory() && targetFile.lastModified() != zipEntry.getTime()) {
+                    targetFile.setLastModified(zipEntry.getTime());
+                }
+
+                index.add(path, zipEntry.getCrc(), zipEntry.getSize(), targetFile.lastModified());
+            }
+        }
+
+        /** 判断war/rar包是否和上次展开时相同，且展开后的文件都没有被改动过。如果是，则沿用上次展开的所有文件。 */
+        private boolean isArchiveUnchanged(File targetFile, ZipEntry zipEntry, String path) {
+            if (index == null) {
+                return false;
+            }
+
+            ExpanderIndex.Record record = index.getUnchangedRecord(path, targetFile);
+
+            if (record == null || !record.matches(zipEntry.getCrc(), zipEntry.getSize())) {
+                return false;
+            }
+
+            List<String> paths = index.getUnchangedPaths(path, destdir);
+
+            if (paths == null) {
+                return false;
+            }
+
+            for (String unchangedPath : paths) {
+                expandedFiles.add(unchangedPath);
+                index.keep(unchangedPath);
+
+                if (unchangedPath.endsWith("/") && !unchangedPath.equals(path)) {
+                    directoryTimes.add(new Object[] { FileUtil.getFile(destdir, unchangedPath), index.getPreviousRecord(unchangedPath).getLastModified() });
+                }
+            }
+
+            // 包的内容未变，但entry的时间可能不同
+            directoryTimes.add(new Object[] { targetFile, zipEntry.getTime() });
+            index.add(path, zipEntry.getCrc(), zipEntry.getSize(), zipEntry.getTime());
+
+            return true;
         }
 
         /** 判断是否需要进一步展开。 */
@@ -398,6 +806,56 @@ public class Expander {
     private class WarExpanderHandler extends ExpanderHandler {
     }
 
+    /** 第一次读取时才解压的entry输入流，这样已是最新的entry就不必解压了。 */
+    private static class EntryInputStream extends InputStream {
+        private final RawZipFile  zipFile;
+        private final RawZipEntry zipEntry;
+        private       InputStream istream;
+
+        public EntryInputStream(RawZipFile zipFile, RawZipEntry zipEntry) {
+            this.zipFile = zipFile;
+            this.zipEntry = zipEntry;
+        }
+
+        private InputStream getInputStream() throws IOException {
+            if (istream == null) {
+                istream = zipFile.getInputStream(zipEntry);
+            }
+
+            return istream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return getInputStream().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return getInputStream().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (istream != null) {
+                istream.close();
+            }
+        }
+    }
+
+    /** 创建后台展开线程。 */
+    private static class ExpanderThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "autoexpand-" + count.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
     private class EarExpanderHandler extends ExpanderHandler {
         private URL earURL;
         private URL applicationXmlURL;
@@ -23,4 +23,15 @@ package com.alibaba.antx.expand;
  * @author Michael Zhou
  */
 public interface ExpanderConstant {
+    /** 展开文件时，每个线程所用的缓冲区的大小。 */
+    int BUFFER_SIZE = 64 * 1024;
+
+    /** 按内容判断文件是否为最新时，CRC未知的entry被读入内存中比较，超过此大小的entry将被暂存在临时文件中。 */
+    int CONTENT_BUFFER_THRESHOLD = 1024 * 1024;
+
+    /** 超过此大小的entry将被交给后台线程展开。 */
+    int PARALLEL_ENTRY_THRESHOLD = 256 * 1024;
+
+    /** 保存在目标目录中的索引文件名，删除多余的文件时，该文件被保留。 */
+    String INDEX_FILE_NAME = ".autoexpand-index";
 }
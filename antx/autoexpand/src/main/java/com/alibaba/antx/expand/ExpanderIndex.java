@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.expand;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.alibaba.antx.util.FileUtil;
+
+/**
+ * 记录展开后的每个文件的CRC、大小和修改时间，用来按内容判断文件是否需要重新展开。
+ * <p>
+ * 索引被保存在目标目录中的隐藏文件<code>.autoexpand-index</code>中，目录的路径以“<code>/</code>”结尾，被展开的war/rar包也被记作目录，并记录包本身的CRC和大小。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class ExpanderIndex {
+    private static final String                    HEADER   = "# autoexpand index";
+    private final        File                      indexFile;
+    private final        SortedMap<String, Record> previous = new TreeMap<String, Record>();
+    private final        Map<String, Record>       current  = Collections.synchronizedMap(new TreeMap<String, Record>());
+
+    public ExpanderIndex(File destdir) {
+        this.indexFile = new File(destdir, ExpanderConstant.INDEX_FILE_NAME);
+    }
+
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    /** 读取上次展开时保存的索引，如果索引不存在或格式错误，则视作空索引。 */
+    public void load() throws IOException {
+        previous.clear();
+
+        if (!indexFile.isFile()) {
+            return;
+        }
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(indexFile), "UTF-8"));
+
+        try {
+            if (!HEADER.equals(reader.readLine())) {
+                return;
+            }
+
+            for (String line; (line = reader.readLine()) != null; ) {
+                String[] fields = line.split("\t");
+
+                if (fields.length != 4) {
+                    continue;
+                }
+
+                try {
+                    previous.put(fields[0], new Record(Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                                                       Long.parseLong(fields[3])));
+                } catch (NumberFormatException e) {
+                    // 忽略格式错误的行，这样的文件将被重新展开
+                }
+            }
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    /** 保存本次展开的索引。 */
+    public void save() throws IOException {
+        File tmpFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+        PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(tmpFile), "UTF-8"));
+
+        try {
+            writer.println(HEADER);
+
+            synchronized (current) {
+                for (Map.Entry<String, Record> entry : current.entrySet()) {
+                    Record record = entry.getValue();
+
+                    writer.println(entry.getKey() + "\t" + record.crc + "\t" + record.size + "\t"
+                                   + record.lastModified);
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        if (writer.checkError()) {
+            tmpFile.delete();
+            throw new IOException("Could not write " + tmpFile);
+        }
+
+        indexFile.delete();
+
+        if (!tmpFile.renameTo(indexFile)) {
+            throw new IOException("Could not rename " + tmpFile + " to " + indexFile);
+        }
+    }
+
+    /**
+     * 取得上次展开时的记录，但仅当磁盘上的文件在那以后没有被改动过时才返回。
+     *
+     * @param path 相对于目标目录的路径，目录以“<code>/</code>”结尾
+     * @param file 磁盘上的文件或目录
+     * @return 记录，如果不存在，或文件已被改动，则返回<code>null</code>
+     */
+    public Record getUnchangedRecord(String path, File file) {
+        Record record = previous.get(path);
+
+        if (record == null) {
+            return null;
+        }
+
+        if (path.endsWith("/")) {
+            return file.isDirectory() ? record : null;
+        } else {
+            return file.isFile() && file.length() == record.size && file.lastModified() == record.lastModified ? record
+                                                                                                              : null;
+        }
+    }
+
+    /**
+     * 取得上次展开到指定目录中的所有文件和子目录，但仅当它们都没有被改动过时才返回。
+     *
+     * @param prefix  目录的路径，以“<code>/</code>”结尾
+     * @param destdir 目标目录
+     * @return 路径列表，如果有任何文件被改动或删除，则返回<code>null</code>
+     */
+    public List<String> getUnchangedPaths(String prefix, File destdir) {
+        // 所有以prefix开头的路径
+        SortedMap<String, Record> records = previous.subMap(prefix, prefix + Character.MAX_VALUE);
+        List<String> paths = new ArrayList<String>(records.size());
+
+        for (String path : records.keySet()) {
+            if (getUnchangedRecord(path, FileUtil.getFile(destdir, path)) == null) {
+                return null;
+            }
+
+            paths.add(path);
+        }
+
+        return paths;
+    }
+
+    /** 取得上次展开时的记录，不检查磁盘上的文件。 */
+    public Record getPreviousRecord(String path) {
+        return previous.get(path);
+    }
+
+    /** 沿用上次展开时的记录。 */
+    public void keep(String path) {
+        Record record = previous.get(path);
+
+        if (record != null) {
+            current.put(path, record);
+        }
+    }
+
+    /** 添加一个记录。 */
+    public void add(String path, long crc, long size, long lastModified) {
+        current.put(path, new Record(crc, size, lastModified));
+    }
+
+    /** 代表一个文件或目录的记录。 */
+    public static class Record {
+        private final long crc;
+        private final long size;
+        private final long lastModified;
+
+        public Record(long crc, long size, long lastModified) {
+            this.crc = crc;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public long getCrc() {
+            return crc;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /** 判断记录的CRC和大小是否和zip entry相同。 */
+        public boolean matches(long crc, long size) {
+            return crc != -1 && size != -1 && this.crc == crc && this.size == size;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.expand;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 记录展开时创建或沿用的所有文件和目录，用来删除目标目录中多余的文件。
+ * <p>
+ * 路径相对于目标目录，以“<code>/</code>”分隔，目录以“<code>/</code>”结尾。路径按目录层次保存在一棵树中，
+ * 同一目录下的文件共享上级结点，这样既不必对每个文件调用<code>getCanonicalPath()</code>，也不必保存每个文件的完整路径。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class ExpanderPathTree {
+    private final Node root = new Node();
+
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * 添加一个路径，其所有上级目录也被视作已展开。
+     *
+     * @param path 已解析的相对路径，不能包含“<code>..</code>”
+     */
+    public synchronized void add(String path) {
+        Node node = root;
+        int length = path.length();
+
+        for (int start = 0; start < length; ) {
+            int end = path.indexOf('/', start);
+
+            if (end < 0) {
+                end = length;
+            }
+
+            if (end > start) {
+                String name = path.substring(start, end);
+
+                if ("..".equals(name)) {
+                    throw new IllegalArgumentException("Unresolved path: " + path);
+                }
+
+                if (!".".equals(name)) {
+                    node = node.getOrCreateChild(name);
+                }
+            }
+
+            start = end + 1;
+        }
+
+        if (node != root && !path.endsWith("/")) {
+            node.file = true;
+        }
+    }
+
+    /** 树中的一个文件或目录。 */
+    public static class Node {
+        private Map<String, Node> children;
+        private boolean           file;
+
+        /** 取得子结点，如果不存在，则返回<code>null</code>。 */
+        public Node getChild(String name) {
+            return children == null ? null : children.get(name);
+        }
+
+        /**
+         * 取得和指定名称只有大小写不同的子结点。
+         * <p>
+         * 仅当子结点的名称不在<code>existingNames</code>中时才返回。在区分大小写的文件系统中，展开的文件总是以entry的名称出现在目录中；
+         * 反之，如果目录中没有这个名称，则entry一定被写入了大小写不同的同名文件中。
+         * </p>
+         *
+         * @param name          磁盘上的文件名
+         * @param existingNames 目录中所有的文件名
+         * @return 子结点，如果不存在，则返回<code>null</code>
+         */
+        public Node getChildIgnoreCase(String name, Set<String> existingNames) {
+            if (children != null) {
+                for (Map.Entry<String, Node> entry : children.entrySet()) {
+                    String childName = entry.getKey();
+
+                    if (childName.equalsIgnoreCase(name) && !existingNames.contains(childName)) {
+                        return entry.getValue();
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /** 是否有子结点。 */
+        public boolean hasChildren() {
+            return children != null;
+        }
+
+        /** 是否为文件，且不包含子结点。这样的结点在删除多余的文件时不必再访问文件系统。 */
+        public boolean isLeafFile() {
+            return file && children == null;
+        }
+
+        private Node getOrCreateChild(String name) {
+            if (children == null) {
+                children = new HashMap<String, Node>(4);
+            }
+
+            Node child = children.get(name);
+
+            if (child == null) {
+                child = new Node();
+                children.put(name, child);
+            }
+
+            return child;
+        }
+    }
+}
@@ -40,6 +40,8 @@ public class CLIManager {
     public static final String OPT_EXPAND_EJB_JAR       = "e";
     public static final String OPT_OVERWRITE            = "o";
     public static final String OPT_KEEP_REDUNDANT_FILES = "k";
+    public static final String OPT_THREADS              = "j";
+    public static final String OPT_CHECK_CONTENT        = "s";
     private Options options;
 
     public CLIManager() {
@@ -67,6 +69,12 @@ public class CLIManager {
 
         options.addOption(builder.withLongOpt("keep-redundant-files").hasOptionalArg()
                                  .withDescription("如果目标目录中有多余的文件，是否保持而不删除，默认为no").create(OPT_KEEP_REDUNDANT_FILES));
+
+        options.addOption(builder.withLongOpt("check-content").hasOptionalArg()
+                                 .withDescription("是否按CRC和大小，而不是修改时间，判断文件是否为最新（yes|no），默认为no").create(OPT_CHECK_CONTENT));
+
+        options.addOption(builder.withLongOpt("threads").hasArg().withDescription("展开时所用的线程数，默认为1")
+                                 .create(OPT_THREADS));
     }
 
     public CommandLine parse(String[] args) {
@@ -124,6 +124,21 @@ public class Main {
             runtimeImpl.getExpander().setKeepRedundantFiles(getBooleanValue(CLIManager.OPT_KEEP_REDUNDANT_FILES));
         }
 
+        if (cli.hasOption(CLIManager.OPT_CHECK_CONTENT)) {
+            runtimeImpl.getExpander().setCheckContent(getBooleanValue(CLIManager.OPT_CHECK_CONTENT));
+        }
+
+        if (cli.hasOption(CLIManager.OPT_THREADS)) {
+            String threads = cli.getOptionValue(CLIManager.OPT_THREADS);
+
+            try {
+                runtimeImpl.getExpander().setThreads(Integer.parseInt(threads));
+            } catch (IllegalArgumentException e) {
+                throw new ExpanderException("invalid value of -" + CLIManager.OPT_THREADS + ": " + threads
+                                            + ", should be a positive number");
+            }
+        }
+
         args = cli.getArgs();
 
         if (args.length >= 1) {
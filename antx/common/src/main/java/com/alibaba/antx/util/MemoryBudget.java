@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 多个<code>SpillBuffer</code>共享的内存限额。
+ * <p>
+ * 所有共享同一个限额的缓冲区，在内存中保存的数据总量不超过限额，超过限额的缓冲区将被转存到临时文件中。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class MemoryBudget {
+    private final long       limit;
+    private final AtomicLong available;
+
+    /**
+     * 创建内存限额。
+     *
+     * @param limit 内存中最多保存的字节数
+     */
+    public MemoryBudget(long limit) {
+        this.limit = Math.max(0, limit);
+        this.available = new AtomicLong(this.limit);
+    }
+
+    /** 取得限额。 */
+    public long getLimit() {
+        return limit;
+    }
+
+    /** 取得剩余的字节数。 */
+    public long getAvailable() {
+        return available.get();
+    }
+
+    /** 申请指定字节数的内存，如果剩余的内存不足，则返回<code>false</code>。 */
+    public boolean reserve(long size) {
+        while (true) {
+            long current = available.get();
+
+            if (current < size) {
+                return false;
+            }
+
+            if (available.compareAndSet(current, current - size)) {
+                return true;
+            }
+        }
+    }
+
+    /** 归还申请的内存。 */
+    public void release(long size) {
+        if (size > 0) {
+            available.addAndGet(size);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 预先编译的includes、excludes路径匹配器。
+ * <p>
+ * 匹配的结果和<code>SelectorUtil.matchPath(name, includes, excludes)</code>、
+ * <code>SelectorUtil.matchPathPrefix(name, includes, excludes)</code>相同，但pattern只被解析一次，
+ * 匹配时直接在路径字符串上逐段比较，不需要分割字符串，也不创建任何对象。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class PathPatternMatcher {
+    private final Pattern[] includes;
+    private final Pattern[] excludes;
+    private final boolean   excludeAll;
+    private final String[]  excludedDirectories; // 形如dir/**的exclude，去掉/**后的部分
+    private final Pattern[] excludedPrefixes;    // 形如xxx**的exclude，去掉**后的部分
+
+    public PathPatternMatcher(String[] includes, String[] excludes) {
+        this.includes = compile(includes);
+        this.excludes = compile(excludes);
+
+        boolean excludeAll = false;
+        List<String> excludedDirectories = new ArrayList<String>();
+        List<Pattern> excludedPrefixes = new ArrayList<Pattern>();
+        String dirSuffix = File.separator + "**";
+
+        for (String exclude : excludes) {
+            if (exclude.equals("**")) {
+                excludeAll = true;
+            } else if (exclude.endsWith("**")) {
+                excludedPrefixes.add(new Pattern(exclude.substring(0, exclude.length() - 2)));
+            }
+
+            if (exclude.endsWith(dirSuffix)) {
+                excludedDirectories.add(exclude.substring(0, exclude.length() - dirSuffix.length()));
+            }
+        }
+
+        this.excludeAll = excludeAll;
+        this.excludedDirectories = excludedDirectories.toArray(new String[excludedDirectories.size()]);
+        this.excludedPrefixes = excludedPrefixes.toArray(new Pattern[excludedPrefixes.size()]);
+    }
+
+    private static Pattern[] compile(String[] patterns) {
+        Pattern[] compiled = new Pattern[patterns.length];
+
+        for (int i = 0; i < patterns.length; i++) {
+            compiled[i] = new Pattern(patterns[i]);
+        }
+
+        return compiled;
+    }
+
+    /** 查看指定名称是否符合patterns。 */
+    public boolean matchPath(String name) {
+        boolean absolute = name.startsWith("/");
+        boolean match = includes.length == 0;
+
+        for (Pattern include : includes) {
+            if (include.matchPath(name, absolute)) {
+                match = true;
+                break;
+            }
+        }
+
+        if (match) {
+            for (Pattern exclude : excludes) {
+                if (exclude.matchPath(name, absolute)) {
+                    match = false;
+                    break;
+                }
+            }
+        }
+
+        return match;
+    }
+
+    /** 查看指定名称是否符合patterns的前缀，也就是说，该目录下可能有符合patterns的文件。 */
+    public boolean matchPathPrefix(String name) {
+        boolean absolute = name.startsWith("/");
+        boolean match = includes.length == 0;
+
+        if (!match && !isExcludedDirectory(name)) {
+            int depth = countSegments(name);
+
+            for (Pattern include : includes) {
+                if (include.matchPatternStart(name, absolute) && (include.hasDoubleStar || include.size() > depth)) {
+                    match = true;
+                    break;
+                }
+            }
+        }
+
+        if (match) {
+            if (excludeAll) {
+                return false;
+            }
+
+            // 在名称后面加上/再匹配，因此空的名称被视作以/开头
+            absolute |= name.length() == 0;
+
+            for (Pattern prefix : excludedPrefixes) {
+                if (prefix.matchPath(name, absolute)) {
+                    return false;
+                }
+            }
+        }
+
+        return match;
+    }
+
+    private boolean isExcludedDirectory(String name) {
+        for (String dir : excludedDirectories) {
+            if (dir.equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int countSegments(String path) {
+        int count = 0;
+        int pos = skipSeparators(path, 0);
+
+        while (pos < path.length()) {
+            count++;
+            pos = skipSeparators(path, segmentEnd(path, pos));
+        }
+
+        return count;
+    }
+
+    private static int skipSeparators(String path, int pos) {
+        while (pos < path.length() && path.charAt(pos) == '/') {
+            pos++;
+        }
+
+        return pos;
+    }
+
+    private static int segmentEnd(String path, int pos) {
+        int end = path.indexOf('/', pos);
+        return end < 0 ? path.length() : end;
+    }
+
+    /** 代表一个编译过的pattern，由以/分隔的段组成。 */
+    private static class Pattern {
+        private static final int LITERAL     = 0; // 不含通配符
+        private static final int ANY         = 1; // *，匹配任意段
+        private static final int WILDCARD    = 2; // 含有*或?
+        private static final int DOUBLE_STAR = 3; // **，匹配零个或多个段
+        private final boolean  absolute;
+        private final String[] segments;
+        private final int[]    types;
+        private final boolean  hasDoubleStar;
+
+        public Pattern(String pattern) {
+            String[] segments = tokenize(pattern);
+
+            this.absolute = pattern.startsWith("/");
+            this.segments = segments;
+            this.types = new int[segments.length];
+
+            boolean hasDoubleStar = false;
+
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+
+                if (segment.equals("**")) {
+                    types[i] = DOUBLE_STAR;
+                    hasDoubleStar = true;
+                } else if (segment.equals("*")) {
+                    types[i] = ANY;
+                } else if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0) {
+                    types[i] = WILDCARD;
+                } else {
+                    types[i] = LITERAL;
+                }
+            }
+
+            this.hasDoubleStar = hasDoubleStar;
+        }
+
+        /** 和<code>SelectorUtil</code>相同，以/分隔，忽略空段。 */
+        private static String[] tokenize(String pattern) {
+            List<String> segments = new ArrayList<String>();
+            int pos = skipSeparators(pattern, 0);
+
+            while (pos < pattern.length()) {
+                int end = segmentEnd(pattern, pos);
+
+                segments.add(pattern.substring(pos, end));
+                pos = skipSeparators(pattern, end);
+            }
+
+            return segments.toArray(new String[segments.size()]);
+        }
+
+        public int size() {
+            return segments.length;
+        }
+
+        /**
+         * 匹配整个路径。
+         * <p>
+         * 将<code>**</code>看作匹配任意多段的通配符，用回溯到最近一个<code>**</code>的方法匹配，和匹配单个字符串中的<code>*</code>相同。
+         * </p>
+         */
+        public boolean matchPath(String path, boolean pathAbsolute) {
+            if (pathAbsolute != absolute) {
+                return false;
+            }
+
+            int length = path.length();
+            int p = 0;
+            int pos = skipSeparators(path, 0);
+            int starP = -1;
+            int starPos = 0;
+
+            while (pos < length) {
+                int end = segmentEnd(path, pos);
+
+                if (p < segments.length && types[p] != DOUBLE_STAR && matchSegment(p, path, pos, end)) {
+                    p++;
+                    pos = skipSeparators(path, end);
+                } else if (p < segments.length && types[p] == DOUBLE_STAR) {
+                    starP = p++;
+                    starPos = pos;
+                } else if (starP >= 0) {
+                    // 让最近的**多匹配一段
+                    p = starP + 1;
+                    starPos = skipSeparators(path, segmentEnd(path, starPos));
+                    pos = starPos;
+                } else {
+                    return false;
+                }
+            }
+
+            while (p < segments.length && types[p] == DOUBLE_STAR) {
+                p++;
+            }
+
+            return p == segments.length;
+        }
+
+        /** 匹配路径的开头，直到pattern中第一个<code>**</code>。 */
+        public boolean matchPatternStart(String path, boolean pathAbsolute) {
+            if (pathAbsolute != absolute) {
+                return false;
+            }
+
+            int length = path.length();
+            int p = 0;
+            int pos = skipSeparators(path, 0);
+
+            while (p < segments.length && pos < length) {
+                if (types[p] == DOUBLE_STAR) {
+                    return true;
+                }
+
+                int end = segmentEnd(path, pos);
+
+                if (!matchSegment(p, path, pos, end)) {
+                    return false;
+                }
+
+                p++;
+                pos = skipSeparators(path, end);
+            }
+
+            return pos >= length;
+        }
+
+        private boolean matchSegment(int p, String path, int start, int end) {
+            String segment = segments[p];
+
+            switch (types[p]) {
+                case ANY:
+                    return true;
+
+                case LITERAL:
+                    return segment.length() == end - start && path.regionMatches(start, segment, 0, segment.length());
+
+                default:
+                    return matchWildcard(segment, path, start, end);
+            }
+        }
+
+        /** 匹配单段中的<code>*</code>和<code>?</code>。 */
+        private static boolean matchWildcard(String pattern, String str, int start, int end) {
+            int patLength = pattern.length();
+            int p = 0;
+            int s = start;
+            int starP = -1;
+            int starS = start;
+
+            while (s < end) {
+                char ch = p < patLength ? pattern.charAt(p) : 0;
+
+                if (p < patLength && ch != '*' && (ch == '?' || ch == str.charAt(s))) {
+                    p++;
+                    s++;
+                } else if (p < patLength && ch == '*') {
+                    starP = p++;
+                    starS = s;
+                } else if (starP >= 0) {
+                    p = starP + 1;
+                    s = ++starS;
+                } else {
+                    return false;
+                }
+            }
+
+            while (p < patLength && pattern.charAt(p) == '*') {
+                p++;
+            }
+
+            return p == patLength;
+        }
+    }
+}
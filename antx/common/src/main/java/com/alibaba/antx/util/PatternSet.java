@@ -29,8 +29,9 @@ import com.alibaba.toolkit.util.collection.ArrayHashSet;
  * @author Michael Zhou
  */
 public class PatternSet {
-    private String[] includes;
-    private String[] excludes;
+    private String[]           includes;
+    private String[]           excludes;
+    private PathPatternMatcher matcher;
 
     public PatternSet() {
         this(new String[0], new String[0]);
@@ -115,6 +116,7 @@ public class PatternSet {
         }
 
         excludes = (String[]) excludeSet.toArray(new String[excludeSet.size()]);
+        matcher = null;
 
         return this;
     }
@@ -134,6 +136,28 @@ public class PatternSet {
         return excludes;
     }
 
+    /** 取得编译后的匹配器，pattern只在第一次匹配时被编译。 */
+    public PathPatternMatcher getMatcher() {
+        PathPatternMatcher matcher = this.matcher;
+
+        if (matcher == null) {
+            matcher = new PathPatternMatcher(includes, excludes);
+            this.matcher = matcher;
+        }
+
+        return matcher;
+    }
+
+    /** 查看指定名称是否符合patterns。 */
+    public boolean matchPath(String name) {
+        return getMatcher().matchPath(name);
+    }
+
+    /** 查看指定名称是否符合patterns的前缀。 */
+    public boolean matchPathPrefix(String name) {
+        return getMatcher().matchPathPrefix(name);
+    }
+
     /** 是否为空。 */
     public boolean isEmpty() {
         return includes.length == 0 && excludes.length == 0;
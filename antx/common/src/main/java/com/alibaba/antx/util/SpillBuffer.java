@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 先将数据保存在内存中，当数据超过指定大小时，转存到临时文件中的缓冲区。
+ * <p>
+ * 写完数据后，可以通过<code>getInputStream()</code>多次读取数据。使用完毕后，须调用<code>delete()</code>删除临时文件，
+ * 临时文件不会在JVM退出时被自动删除。
+ * </p>
+ * <p>
+ * 多个缓冲区可以共享一个<code>MemoryBudget</code>，这样，所有缓冲区在内存中保存的数据总量不会超过限额。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class SpillBuffer extends OutputStream {
+    private final int                   threshold;
+    private final MemoryBudget          budget;
+    private       ByteArrayOutputStream memory;
+    private       File                  file;
+    private       OutputStream          fileStream;
+    private       long                  length;
+    private       long                  reserved;
+    private       boolean               closed;
+
+    /**
+     * 创建缓冲区。
+     *
+     * @param threshold 内存中最多保存的字节数，超过该值时，数据将被转存到临时文件中
+     */
+    public SpillBuffer(int threshold) {
+        this(threshold, null);
+    }
+
+    /**
+     * 创建缓冲区，并和其它缓冲区共享内存限额。
+     *
+     * @param threshold 内存中最多保存的字节数，超过该值时，数据将被转存到临时文件中
+     * @param budget    共享的内存限额，如果限额用完，数据也将被转存到临时文件中，可以为<code>null</code>
+     */
+    public SpillBuffer(int threshold, MemoryBudget budget) {
+        this.threshold = Math.max(0, threshold);
+        this.budget = budget;
+        this.memory = new ByteArrayOutputStream(Math.min(this.threshold, 8192));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("SpillBuffer has been closed");
+        }
+
+        if (fileStream == null && !reserve(len)) {
+            spill();
+        }
+
+        if (fileStream == null) {
+            memory.write(b, off, len);
+        } else {
+            fileStream.write(b, off, len);
+        }
+
+        length += len;
+    }
+
+    /** 从输入流中读取所有数据，写入缓冲区。 */
+    public SpillBuffer readFrom(InputStream istream) throws IOException {
+        StreamUtil.io(istream, this, false, false);
+        return this;
+    }
+
+    /** 结束写入。 */
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+
+            if (fileStream != null) {
+                fileStream.close();
+                fileStream = null;
+            }
+        }
+    }
+
+    /** 取得已写入的字节数。 */
+    public long length() {
+        return length;
+    }
+
+    /** 数据是否全部保存在内存中。 */
+    public boolean isInMemory() {
+        return file == null;
+    }
+
+    /** 取得保存数据的临时文件，如果数据全部在内存中，则返回<code>null</code>。 */
+    public File getFile() {
+        return file;
+    }
+
+    /** 结束写入，并取得读取数据的输入流。 */
+    public InputStream getInputStream() throws IOException {
+        close();
+
+        if (file == null) {
+            if (memory == null) {
+                throw new IOException("SpillBuffer has been deleted");
+            }
+
+            return memory.toInputStream();
+        } else {
+            return new BufferedInputStream(new FileInputStream(file), 8192);
+        }
+    }
+
+    /** 结束写入，并取得读取数据的输入流，当输入流被关闭时，释放内存并删除临时文件。 */
+    public InputStream getInputStreamAndDelete() throws IOException {
+        return new FilterInputStream(getInputStream()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    delete();
+                }
+            }
+        };
+    }
+
+    /** 释放内存，删除临时文件。 */
+    public void delete() {
+        try {
+            close();
+        } catch (IOException e) {
+        }
+
+        memory = null;
+        releaseReserved();
+
+        if (file != null) {
+            file.delete();
+            file = null;
+        }
+    }
+
+    /** 如果内存中还可以保存指定的字节数，则申请之。 */
+    private boolean reserve(int len) {
+        if (length + len > threshold) {
+            return false;
+        }
+
+        if (budget != null) {
+            if (!budget.reserve(len)) {
+                return false;
+            }
+
+            reserved += len;
+        }
+
+        return true;
+    }
+
+    private void releaseReserved() {
+        if (budget != null) {
+            budget.release(reserved);
+        }
+
+        reserved = 0;
+    }
+
+    private void spill() throws IOException {
+        file = File.createTempFile("antx", ".tmp");
+        fileStream = new BufferedOutputStream(new FileOutputStream(file), 8192);
+
+        memory.writeTo(fileStream);
+        memory = null;
+        releaseReserved();
+    }
+}
@@ -24,22 +24,33 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-
-import com.alibaba.antx.util.FileUtil;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 文件扫描器。
+ * <p>
+ * 调用<code>setThreads()</code>设置多个线程后，目录的列表、类型判断和规范路径的计算可由后台线程预先完成：每进入一个目录，就将其子目录交给线程池预读。
+ * 但所有对<code>ScannerHandler</code>的回调仍然在调用<code>scan()</code>的线程中、按照原有的顺序进行。
+ * 默认在当前线程中依次读取目录，因为对于较小的目录树，创建线程池的开销大于预读所节省的时间。
+ * </p>
  *
  * @author Michael Zhou
  */
 public class DirectoryScanner extends AbstractScanner {
-    private File basedir;
-    private URL  baseURL;
-    private boolean followSymlinks = true;
+    public static final int DEFAULT_THREADS = 1;
+    private File            basedir;
+    private URL             baseURL;
+    private boolean         followSymlinks  = true;
+    private int             threads         = DEFAULT_THREADS;
+    private ExecutorService executor;
 
     /**
      * 创建一个文件目录扫描器。
@@ -125,6 +136,24 @@ public class DirectoryScanner extends AbstractScanner {
         this.followSymlinks = followSymlinks;
     }
 
+    /**
+     * 取得预读目录的线程数。
+     *
+     * @return 线程数
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * 设置预读目录的线程数，小于等于<code>1</code>表示在当前线程中依次读取目录。
+     *
+     * @param threads 线程数
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
     /** 执行扫描。 */
     public void scan() {
         Set processed = new HashSet();
@@ -133,7 +162,18 @@ public class DirectoryScanner extends AbstractScanner {
 
         getScannerHandler().startScanning();
 
-        scandir(getBasedir(), processed);
+        if (threads > 1) {
+            executor = createExecutor(threads);
+        }
+
+        try {
+            scandir(getBasedir(), processed);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+                executor = null;
+            }
+        }
 
         getScannerHandler().endScanning();
     }
@@ -145,15 +185,115 @@ public class DirectoryScanner extends AbstractScanner {
      * @param processed 已被扫描的绝对路径，用来防止因为符合链接错误导致的重复扫描
      */
     protected void scandir(File dir, Set processed) {
+        scandir(dir, null, processed);
+    }
+
+    private void scandir(File dir, Future prefetched, Set processed) {
+        Listing listing = prefetched == null ? list(dir, followSymlinks) : getListing(prefetched);
+
         // 防止符号链接无限循环
+        if (!processed.add(listing.canonicalPath)) {
+            return;
+        }
+
+        if (listing.names == null) {
+            throw new ScannerException("IO error scanning directory " + dir.getAbsolutePath());
+        }
+
+        String[] files = listing.names;
+        Future[] subdirs = prefetch(dir, listing);
+
         try {
-            String canonicalPath = dir.getCanonicalPath();
+            // 递归扫描文件和目录
+            for (int i = 0; i < files.length; i++) {
+                String name = getPath() + files[i];
+                String savedPath;
+
+                if (listing.directories[i]) {
+                    savedPath = setPath(name + '/');
+
+                    getScannerHandler().directory();
+
+                    if (getScannerHandler().followUp()) {
+                        Future subdir = null;
+
+                        if (subdirs != null) {
+                            subdir = subdirs[i];
+                            subdirs[i] = null;
+                        }
 
-            if (processed.contains(canonicalPath)) {
-                return;
+                        scandir(new File(dir, files[i]), subdir, processed);
+                    }
+                } else {
+                    savedPath = setPath(name);
+
+                    getScannerHandler().file();
+                }
+
+                setPath(savedPath);
             }
+        } finally {
+            // 取消未被跟进的目录的预读
+            if (subdirs != null) {
+                for (Future subdir : subdirs) {
+                    if (subdir != null) {
+                        subdir.cancel(false);
+                    }
+                }
+            }
+        }
+    }
 
-            processed.add(canonicalPath);
+    /** 将指定目录的所有子目录交给线程池预读。 */
+    private Future[] prefetch(File dir, Listing listing) {
+        if (executor == null) {
+            return null;
+        }
+
+        Future[] subdirs = new Future[listing.names.length];
+
+        for (int i = 0; i < subdirs.length; i++) {
+            if (listing.directories[i]) {
+                final File subdir = new File(dir, listing.names[i]);
+                final boolean followSymlinks = this.followSymlinks;
+
+                subdirs[i] = executor.submit(new Callable() {
+                    public Object call() {
+                        return list(subdir, followSymlinks);
+                    }
+                });
+            }
+        }
+
+        return subdirs;
+    }
+
+    private Listing getListing(Future future) {
+        try {
+            return (Listing) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScannerException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof ScannerException) {
+                throw (ScannerException) cause;
+            }
+
+            throw new ScannerException(cause);
+        }
+    }
+
+    /**
+     * 读取目录的内容：列出所有文件、排除符号链接（如果需要的话），并判断每一项是否为目录。
+     * 目录的规范路径只计算一次，并被用于判断其下的每一项是否为符号链接。
+     */
+    private static Listing list(File dir, boolean followSymlinks) {
+        Listing listing = new Listing();
+
+        try {
+            listing.canonicalPath = dir.getCanonicalPath();
         } catch (IOException e) {
             throw new ScannerException(e);
         }
@@ -162,48 +302,66 @@ public class DirectoryScanner extends AbstractScanner {
         String[] files = dir.list();
 
         if (files == null) {
-            throw new ScannerException("IO error scanning directory " + dir.getAbsolutePath());
+            return listing;
         }
 
         // 排除符号链接（如果需要的话）
         if (!followSymlinks) {
-            List noLinks = new ArrayList(files.length);
+            int count = 0;
 
-            for (int i = 0; i < files.length; i++) {
-                try {
-                    if (!FileUtil.isSymbolicLink(dir, files[i])) {
-                        noLinks.add(files[i]);
-                    }
-                } catch (IOException e) {
-                    System.err.println("IOException caught while checking for links, couldn't get cannonical path!");
-                    noLinks.add(files[i]);
+            for (String file : files) {
+                if (!isSymbolicLink(listing.canonicalPath, file)) {
+                    files[count++] = file;
                 }
             }
 
-            files = (String[]) noLinks.toArray(new String[noLinks.size()]);
+            if (count < files.length) {
+                String[] noLinks = new String[count];
+                System.arraycopy(files, 0, noLinks, 0, count);
+                files = noLinks;
+            }
         }
 
-        // 递归扫描文件和目录
-        for (String file2 : files) {
-            String name = getPath() + file2;
-            File file = new File(dir, file2);
-            String savedPath;
+        boolean[] directories = new boolean[files.length];
 
-            if (file.isDirectory()) {
-                savedPath = setPath(name + '/');
+        for (int i = 0; i < files.length; i++) {
+            directories[i] = new File(dir, files[i]).isDirectory();
+        }
 
-                getScannerHandler().directory();
+        listing.names = files;
+        listing.directories = directories;
 
-                if (getScannerHandler().followUp()) {
-                    scandir(file, processed);
-                }
-            } else {
-                savedPath = setPath(name);
+        return listing;
+    }
 
-                getScannerHandler().file();
-            }
+    /** 和<code>FileUtil.isSymbolicLink()</code>相同，但使用已经计算好的父目录的规范路径。 */
+    private static boolean isSymbolicLink(String canonicalParent, String name) {
+        File toTest = new File(canonicalParent, name);
 
-            setPath(savedPath);
+        try {
+            return !toTest.getAbsolutePath().equals(toTest.getCanonicalPath());
+        } catch (IOException e) {
+            System.err.println("IOException caught while checking for links, couldn't get cannonical path!");
+            return false;
         }
     }
+
+    private static ExecutorService createExecutor(int threads) {
+        final AtomicInteger count = new AtomicInteger();
+
+        return Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "antx-scanner-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /** 目录的内容。 */
+    private static class Listing {
+        private String    canonicalPath;
+        private String[]  names;
+        private boolean[] directories;
+    }
 }
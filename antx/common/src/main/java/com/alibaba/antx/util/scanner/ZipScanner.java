@@ -24,17 +24,26 @@ import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
 
 import com.alibaba.antx.util.ZipUtil;
+import com.alibaba.antx.util.zip.RawZipEntry;
+import com.alibaba.antx.util.zip.RawZipFile;
 
 /**
  * Zip文件扫描器。
+ * <p>
+ * 对于本地的zip文件，扫描器读取其central directory来列出entries，只有在调用<code>getInputStream()</code>时才读取并解压
+ * entry的内容。对于其它的zip文件，例如嵌套在另一个zip中的包，则用<code>ZipInputStream</code>依次读取所有的entries。
+ * </p>
  *
  * @author Michael Zhou
  */
 public class ZipScanner extends AbstractScanner {
     private URL            zipURL;
+    private File           file;
+    private RawZipFile     zipFile;
     private ZipInputStream zis;
     private ZipEntry       zipEntry;
 
@@ -56,6 +65,8 @@ public class ZipScanner extends AbstractScanner {
         } catch (MalformedURLException e) {
             throw new IllegalArgumentException(zipfile + " is not a readable file");
         }
+
+        this.file = zipfile;
     }
 
     /**
@@ -98,6 +109,14 @@ public class ZipScanner extends AbstractScanner {
      * @return 输入流
      */
     public InputStream getInputStream() {
+        if (zipFile != null) {
+            try {
+                return zipFile.getInputStream((RawZipEntry) zipEntry);
+            } catch (IOException e) {
+                throw new ScannerException(e);
+            }
+        }
+
         return new FilterInputStream(zis) {
             @Override
             public void close() throws IOException {
@@ -117,6 +136,15 @@ public class ZipScanner extends AbstractScanner {
         }
     }
 
+    /**
+     * 设置已经打开的本地zip文件，扫描时读取其central directory。调用者负责关闭该文件。
+     *
+     * @param zipFile 本地zip文件
+     */
+    public void setZipFile(RawZipFile zipFile) {
+        this.zipFile = zipFile;
+    }
+
     /**
      * 取得当前正在处理的zip entry。
      *
@@ -133,22 +161,38 @@ public class ZipScanner extends AbstractScanner {
 
         boolean needClose = false;
 
-        if (zis == null) {
-            try {
-                zis = new ZipInputStream(getBaseURL().openStream());
-                needClose = true;
-            } catch (IOException e) {
-                throw new ScannerException(e);
-            }
+        if (zis == null && zipFile == null && file != null) {
+            zipFile = openZipFile(file);
+            needClose = zipFile != null;
         }
 
-        try {
-            doScan();
-        } finally {
-            if (needClose) {
+        if (zipFile != null) {
+            try {
+                doScanCentralDirectory();
+            } finally {
+                if (needClose) {
+                    zipFile.close();
+                    zipFile = null;
+                }
+            }
+        } else {
+            if (zis == null) {
                 try {
-                    zis.close();
+                    zis = new ZipInputStream(getBaseURL().openStream());
+                    needClose = true;
                 } catch (IOException e) {
+                    throw new ScannerException(e);
+                }
+            }
+
+            try {
+                doScan();
+            } finally {
+                if (needClose) {
+                    try {
+                        zis.close();
+                    } catch (IOException e) {
+                    }
                 }
             }
         }
@@ -156,6 +200,17 @@ public class ZipScanner extends AbstractScanner {
         getScannerHandler().endScanning();
     }
 
+    /** 打开本地zip文件，如果不能读取其central directory（例如zip64格式），则返回<code>null</code>。 */
+    private static RawZipFile openZipFile(File file) {
+        try {
+            return new RawZipFile(file);
+        } catch (ZipException e) {
+            return null;
+        } catch (IOException e) {
+            throw new ScannerException(e);
+        }
+    }
+
     /** 执行扫描。 */
     protected void doScan() {
         try {
@@ -175,4 +230,23 @@ public class ZipScanner extends AbstractScanner {
             e.printStackTrace();
         }
     }
+
+    /** 按central directory中的顺序扫描，不读取entries的内容。 */
+    private void doScanCentralDirectory() {
+        for (RawZipEntry entry : zipFile.getEntries()) {
+            zipEntry = entry;
+
+            String savedPath = setPath(zipEntry.getName());
+
+            if (zipEntry.isDirectory()) {
+                getScannerHandler().directory();
+            } else {
+                getScannerHandler().file();
+            }
+
+            setPath(savedPath);
+        }
+
+        zipEntry = null;
+    }
 }
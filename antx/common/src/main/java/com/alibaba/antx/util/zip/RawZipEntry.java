@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util.zip;
+
+import java.util.Calendar;
+import java.util.zip.ZipEntry;
+
+/**
+ * 保留了原始头信息的zip entry，用于在不解压的情况下直接复制压缩后的数据。
+ *
+ * @author Michael Zhou
+ */
+public class RawZipEntry extends ZipEntry {
+    static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+    static final int FLAG_UTF8            = 1 << 11;
+
+    int    flags;
+    int    dosTime;
+    int    versionMadeBy;
+    int    versionNeeded;
+    long   externalAttributes;
+    long   localHeaderOffset = -1;
+    long   dataOffset        = -1;
+    byte[] rawName;
+    byte[] rawComment;
+    byte[] localExtra;
+
+    RawZipEntry(String name) {
+        super(name);
+    }
+
+    /** 根据一个普通的zip entry创建新的entry。 */
+    RawZipEntry(ZipEntry entry) {
+        super(entry);
+
+        long time = entry.getTime();
+
+        this.dosTime = javaToDosTime(time == -1 ? System.currentTimeMillis() : time);
+        this.versionMadeBy = 20;
+        this.localExtra = entry.getExtra();
+    }
+
+    /** 取得entry在zip文件中原始的标志位。 */
+    public int getFlags() {
+        return flags;
+    }
+
+    /** 取得entry在zip文件中的DOS格式的时间。 */
+    public int getDosTime() {
+        return dosTime;
+    }
+
+    /** 取得entry的外部属性，例如unix文件权限。 */
+    public long getExternalAttributes() {
+        return externalAttributes;
+    }
+
+    /** 取得entry的local file header在zip文件中的偏移量。 */
+    public long getLocalHeaderOffset() {
+        return localHeaderOffset;
+    }
+
+    /** 取得entry的压缩数据在zip文件中的偏移量，如未读取local file header，则返回<code>-1</code>。 */
+    public long getDataOffset() {
+        return dataOffset;
+    }
+
+    /** 将java时间转换成DOS时间。 */
+    static int javaToDosTime(long time) {
+        Calendar cal = Calendar.getInstance();
+
+        cal.setTimeInMillis(time);
+
+        int year = cal.get(Calendar.YEAR);
+
+        if (year < 1980) {
+            return 1 << 21 | 1 << 16;
+        }
+
+        return year - 1980 << 25 | cal.get(Calendar.MONTH) + 1 << 21 | cal.get(Calendar.DAY_OF_MONTH) << 16
+               | cal.get(Calendar.HOUR_OF_DAY) << 11 | cal.get(Calendar.MINUTE) << 5 | cal.get(Calendar.SECOND) >> 1;
+    }
+
+    /** 将DOS时间转换成java时间。 */
+    static long dosToJavaTime(int dosTime) {
+        Calendar cal = Calendar.getInstance();
+
+        cal.clear();
+        cal.set((dosTime >> 25 & 0x7f) + 1980, (dosTime >> 21 & 0x0f) - 1, dosTime >> 16 & 0x1f,
+                dosTime >> 11 & 0x1f, dosTime >> 5 & 0x3f, (dosTime & 0x1f) << 1);
+
+        return cal.getTimeInMillis();
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util.zip;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 通过读取central directory来访问zip文件的工具类。
+ * <p>
+ * 和<code>java.util.zip.ZipFile</code>不同，该类可以取得entry的原始压缩数据，以便原样复制到另一个zip文件中，而无需解压和重新压缩。
+ * </p>
+ * <p>
+ * 注意，该类不支持zip64格式的文件，碰到这类文件时将抛出<code>ZipException</code>，调用者可改用<code>ZipInputStream</code>处理。
+ * </p>
+ * <p>
+ * 如果zip文件前面附加了其它数据，例如自解压文件，则根据end of central directory记录的实际位置修正所有的偏移量。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class RawZipFile {
+    static final long LOCSIG = 0x04034b50L;
+    static final long EXTSIG = 0x08074b50L;
+    static final long CENSIG = 0x02014b50L;
+    static final long ENDSIG = 0x06054b50L;
+    static final long Z64LOCSIG = 0x07064b50L;
+    static final int  LOCHDR = 30;
+    static final int  CENHDR = 46;
+    static final int  ENDHDR = 22;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private final File              file;
+    private final RandomAccessFile  raf;
+    private final List<RawZipEntry> entries;
+    private       long              cenOffset;
+    private       long              prefixLength;
+
+    /**
+     * 打开zip文件并读取central directory。
+     *
+     * @param file zip文件
+     * @throws ZipException 文件不是合法的zip文件，或者是不支持的zip64格式
+     */
+    public RawZipFile(File file) throws IOException {
+        this.file = file;
+        this.raf = new RandomAccessFile(file, "r");
+
+        boolean success = false;
+
+        try {
+            this.entries = Collections.unmodifiableList(readCentralDirectory());
+            success = true;
+        } finally {
+            if (!success) {
+                close();
+            }
+        }
+    }
+
+    /** 取得zip文件。 */
+    public File getFile() {
+        return file;
+    }
+
+    /** 按central directory中的顺序取得所有的entries。 */
+    public List<RawZipEntry> getEntries() {
+        return entries;
+    }
+
+    /** 取得central directory在文件中的位置，也就是所有entries数据的结尾。 */
+    public long getCentralDirectoryOffset() {
+        return cenOffset;
+    }
+
+    /**
+     * 估算文件的数据区中未被central directory引用的字节数，例如被追加的entries所取代的旧数据。
+     * <p>
+     * 为了避免读取每个entry的local file header，local extra字段也被计作未引用的字节。
+     * </p>
+     */
+    public long getUnusedSpace() {
+        long used = 0;
+
+        for (RawZipEntry entry : entries) {
+            used += LOCHDR + entry.rawName.length + entry.getCompressedSize();
+
+            if ((entry.flags & RawZipEntry.FLAG_DATA_DESCRIPTOR) != 0) {
+                used += 16;
+            }
+        }
+
+        return Math.max(0, cenOffset - prefixLength - used);
+    }
+
+    /**
+     * 将entry的原始压缩数据直接传送到指定的channel中。
+     * <p>
+     * 如果目标也是一个文件，那么操作系统可以直接复制数据，而不必经过用户空间的缓冲区。
+     * </p>
+     */
+    public void transferTo(RawZipEntry entry, WritableByteChannel target) throws IOException {
+        FileChannel channel = raf.getChannel();
+        long position = getDataOffset(entry);
+        long remaining = entry.getCompressedSize();
+
+        while (remaining > 0) {
+            long count = channel.transferTo(position, remaining, target);
+
+            if (count <= 0 && position >= channel.size()) {
+                throw new EOFException("Unexpected end of zip file: " + file);
+            }
+
+            position += count;
+            remaining -= count;
+        }
+    }
+
+    /** 取得entry的原始压缩数据。 */
+    public InputStream getRawInputStream(RawZipEntry entry) throws IOException {
+        return new RegionInputStream(getDataOffset(entry), entry.getCompressedSize());
+    }
+
+    /** 取得entry解压后的数据。 */
+    public InputStream getInputStream(RawZipEntry entry) throws IOException {
+        InputStream raw = getRawInputStream(entry);
+
+        switch (entry.getMethod()) {
+            case ZipEntry.STORED:
+                return raw;
+
+            case ZipEntry.DEFLATED:
+                return new EntryInflaterInputStream(raw);
+
+            default:
+                throw new ZipException("Unsupported compression method " + entry.getMethod() + " for entry "
+                                       + entry.getName());
+        }
+    }
+
+    /** 关闭文件。 */
+    public void close() {
+        try {
+            raf.close();
+        } catch (IOException e) {
+        }
+    }
+
+    /**
+     * 读取local file header，取得压缩数据的位置和local extra字段。
+     * <p>
+     * 如果local file header中记录了CRC和长度，则检查它们是否和central directory中的一致，以免原样复制损坏的数据。
+     * </p>
+     */
+    long getDataOffset(RawZipEntry entry) throws IOException {
+        if (entry.dataOffset < 0) {
+            byte[] header = new byte[LOCHDR];
+
+            readFully(entry.localHeaderOffset, header, 0, LOCHDR);
+
+            if (getUInt(header, 0) != LOCSIG) {
+                throw new ZipException("Invalid local file header for entry " + entry.getName());
+            }
+
+            if ((getUShort(header, 6) & RawZipEntry.FLAG_DATA_DESCRIPTOR) == 0
+                && (getUInt(header, 14) != entry.getCrc() || getUInt(header, 18) != entry.getCompressedSize()
+                    || getUInt(header, 22) != entry.getSize())) {
+                throw new ZipException("Local file header does not match central directory for entry "
+                                       + entry.getName());
+            }
+
+            int nameLength = getUShort(header, 26);
+            int extraLength = getUShort(header, 28);
+
+            entry.localExtra = new byte[extraLength];
+            readFully(entry.localHeaderOffset + LOCHDR + nameLength, entry.localExtra, 0, extraLength);
+            entry.dataOffset = entry.localHeaderOffset + LOCHDR + nameLength + extraLength;
+        }
+
+        return entry.dataOffset;
+    }
+
+    private List<RawZipEntry> readCentralDirectory() throws IOException {
+        long endOffset = findEndOfCentralDirectory();
+        byte[] end = new byte[ENDHDR];
+
+        readFully(endOffset, end, 0, ENDHDR);
+
+        int total = getUShort(end, 10);
+        long cenSize = getUInt(end, 12);
+        cenOffset = getUInt(end, 16);
+
+        if (total == 0xFFFF || cenSize == 0xFFFFFFFFL || cenOffset == 0xFFFFFFFFL || isZip64(endOffset)) {
+            throw new ZipException("Zip64 format is not supported: " + file);
+        }
+
+        // central directory应该紧挨着end记录，二者之差即为文件前附加的数据的长度
+        prefixLength = endOffset - cenSize - cenOffset;
+
+        if (prefixLength < 0) {
+            throw new ZipException("Invalid central directory: " + file);
+        }
+
+        cenOffset += prefixLength;
+
+        byte[] cen = new byte[(int) cenSize];
+        List<RawZipEntry> entries = new ArrayList<RawZipEntry>(total);
+        int pos = 0;
+
+        readFully(cenOffset, cen, 0, cen.length);
+
+        for (int i = 0; i < total; i++) {
+            if (pos + CENHDR > cen.length || getUInt(cen, pos) != CENSIG) {
+                throw new ZipException("Invalid central directory header: " + file);
+            }
+
+            int nameLength = getUShort(cen, pos + 28);
+            int extraLength = getUShort(cen, pos + 30);
+            int commentLength = getUShort(cen, pos + 32);
+            int flags = getUShort(cen, pos + 8);
+            int namePos = pos + CENHDR;
+
+            byte[] rawName = copyOf(cen, namePos, nameLength);
+            RawZipEntry entry = new RawZipEntry(decode(rawName));
+
+            entry.rawName = rawName;
+            entry.flags = flags;
+            entry.versionMadeBy = getUShort(cen, pos + 4);
+            entry.versionNeeded = getUShort(cen, pos + 6);
+            entry.setMethod(getUShort(cen, pos + 10));
+            entry.dosTime = (int) getUInt(cen, pos + 12);
+            entry.setTime(RawZipEntry.dosToJavaTime(entry.dosTime));
+            entry.setCrc(getUInt(cen, pos + 16));
+            entry.setCompressedSize(getUInt(cen, pos + 20));
+            entry.setSize(getUInt(cen, pos + 24));
+            entry.externalAttributes = getUInt(cen, pos + 38);
+            entry.localHeaderOffset = getUInt(cen, pos + 42);
+
+            if (entry.getCompressedSize() == 0xFFFFFFFFL || entry.getSize() == 0xFFFFFFFFL
+                || entry.localHeaderOffset == 0xFFFFFFFFL) {
+                throw new ZipException("Zip64 format is not supported: " + file);
+            }
+
+            entry.localHeaderOffset += prefixLength;
+
+            if (extraLength > 0) {
+                entry.setExtra(copyOf(cen, namePos + nameLength, extraLength));
+            }
+
+            if (commentLength > 0) {
+                entry.rawComment = copyOf(cen, namePos + nameLength + extraLength, commentLength);
+                entry.setComment(decode(entry.rawComment));
+            }
+
+            entries.add(entry);
+            pos = namePos + nameLength + extraLength + commentLength;
+        }
+
+        return entries;
+    }
+
+    /** 从文件尾部向前查找end of central directory记录。 */
+    private long findEndOfCentralDirectory() throws IOException {
+        long length = raf.length();
+        long minOffset = Math.max(0, length - ENDHDR - MAX_COMMENT_LENGTH);
+
+        if (length < ENDHDR) {
+            throw new ZipException("Not a zip file: " + file);
+        }
+
+        byte[] buffer = new byte[(int) (length - minOffset)];
+
+        readFully(minOffset, buffer, 0, buffer.length);
+
+        for (int pos = buffer.length - ENDHDR; pos >= 0; pos--) {
+            if (getUInt(buffer, pos) == ENDSIG && pos + ENDHDR + getUShort(buffer, pos + 20) == buffer.length) {
+                return minOffset + pos;
+            }
+        }
+
+        throw new ZipException("Not a zip file: " + file);
+    }
+
+    private boolean isZip64(long endOffset) throws IOException {
+        if (endOffset < 20) {
+            return false;
+        }
+
+        byte[] locator = new byte[4];
+
+        readFully(endOffset - 20, locator, 0, 4);
+
+        return getUInt(locator, 0) == Z64LOCSIG;
+    }
+
+    private void readFully(long offset, byte[] b, int off, int len) throws IOException {
+        synchronized (raf) {
+            raf.seek(offset);
+            raf.readFully(b, off, len);
+        }
+    }
+
+    private static byte[] copyOf(byte[] b, int off, int len) {
+        byte[] copy = new byte[len];
+        System.arraycopy(b, off, copy, 0, len);
+        return copy;
+    }
+
+    private static String decode(byte[] bytes) {
+        try {
+            return new String(bytes, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e); // 不应发生
+        }
+    }
+
+    static int getUShort(byte[] b, int off) {
+        return b[off] & 0xff | (b[off + 1] & 0xff) << 8;
+    }
+
+    static long getUInt(byte[] b, int off) {
+        return (getUShort(b, off) | (long) getUShort(b, off + 2) << 16) & 0xFFFFFFFFL;
+    }
+
+    /** 读取文件中指定区域的输入流。 */
+    private class RegionInputStream extends InputStream {
+        private final byte[] single = new byte[1];
+        private       long   position;
+        private       long   remaining;
+
+        public RegionInputStream(long position, long length) {
+            this.position = position;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(single, 0, 1) == 1 ? single[0] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            if (len > remaining) {
+                len = (int) remaining;
+            }
+
+            int count;
+
+            synchronized (raf) {
+                raf.seek(position);
+                count = raf.read(b, off, len);
+            }
+
+            if (count < 0) {
+                throw new EOFException("Unexpected end of zip file: " + file);
+            }
+
+            position += count;
+            remaining -= count;
+
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            n = Math.max(0, Math.min(n, remaining));
+            position += n;
+            remaining -= n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(remaining, Integer.MAX_VALUE);
+        }
+    }
+
+    /** 解压entry数据的输入流，当数据读完时，补充一个dummy byte，这是nowrap模式的inflater所要求的。 */
+    private static class EntryInflaterInputStream extends InflaterInputStream {
+        private boolean eof;
+
+        public EntryInflaterInputStream(InputStream raw) {
+            super(raw, new Inflater(true), 8192);
+        }
+
+        @Override
+        protected void fill() throws IOException {
+            if (eof) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+
+            len = in.read(buf, 0, buf.length);
+
+            if (len == -1) {
+                buf[0] = 0;
+                len = 1;
+                eof = true;
+            }
+
+            inf.setInput(buf, 0, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,461 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.antx.util.zip;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * 生成zip文件的输出流。
+ * <p>
+ * 用法和<code>java.util.zip.ZipOutputStream</code>相同，此外还可以通过<code>putRawEntry</code>方法，将另一个zip文件中的entry原样复制过来，
+ * 而不需要解压和重新压缩，也不需要重新计算CRC。
+ * </p>
+ * <p>
+ * 如果从已有zip文件的central directory处开始写，则可以通过<code>keepEntry</code>方法保留原有的entries，只追加新的entries，
+ * 并重写central directory。
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class RawZipOutputStream extends OutputStream {
+    private final OutputStream      out;
+    private final FileChannel       channel;
+    private final List<RawZipEntry> entries = new ArrayList<RawZipEntry>();
+    private final Set<String>       names   = new HashSet<String>();
+    private final CRC32             crc     = new CRC32();
+    private final Deflater          deflater;
+    private final byte[]            buffer  = new byte[8192];
+    private       RawZipEntry       current;
+    private       long              currentDataOffset;
+    private       long              written;
+    private       boolean           finished;
+
+    public RawZipOutputStream(OutputStream out) {
+        this(out, null, 0);
+    }
+
+    /**
+     * 创建一个写入文件的zip输出流。
+     *
+     * @param out     输出流
+     * @param channel 输出流所对应的文件channel，用来直接传送原样复制的数据，可以为<code>null</code>
+     * @param offset  输出流在文件中的起始位置，如果是在已有zip文件中追加entries，则为原central directory的位置
+     */
+    public RawZipOutputStream(OutputStream out, FileChannel channel, long offset) {
+        this.out = out;
+        this.channel = channel;
+        this.written = offset;
+        this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    /** 开始写一个新的entry，方法未指定时，默认采用<code>DEFLATED</code>方法。 */
+    public void putNextEntry(ZipEntry e) throws IOException {
+        ensureOpen();
+        closeEntry();
+
+        RawZipEntry entry = new RawZipEntry(e);
+
+        if (entry.getMethod() == -1) {
+            entry.setMethod(ZipEntry.DEFLATED);
+        }
+
+        if (entry.getMethod() == ZipEntry.DEFLATED) {
+            entry.flags = RawZipEntry.FLAG_DATA_DESCRIPTOR;
+            entry.versionNeeded = 20;
+        } else if (entry.getMethod() == ZipEntry.STORED) {
+            if (entry.getSize() == -1 || entry.getCrc() == -1) {
+                throw new ZipException("STORED entry missing size or crc-32: " + entry.getName());
+            }
+
+            entry.setCompressedSize(entry.getSize());
+            entry.flags = 0;
+            entry.versionNeeded = 10;
+        } else {
+            throw new ZipException("Unsupported compression method " + entry.getMethod());
+        }
+
+        entry.rawName = encode(entry.getName());
+        entry.rawComment = entry.getComment() == null ? null : encode(entry.getComment());
+
+        if (!isAscii(entry.getName())) {
+            entry.flags |= RawZipEntry.FLAG_UTF8;
+        }
+
+        addEntry(entry);
+        writeLocalHeader(entry);
+
+        current = entry;
+        currentDataOffset = written;
+        crc.reset();
+        deflater.reset();
+    }
+
+    /**
+     * 将另一个zip文件中的entry原样复制到当前zip文件中。
+     *
+     * @param entry   源entry
+     * @param rawData 源entry中未解压的数据，参见<code>RawZipFile.getRawInputStream()</code>
+     */
+    public void putRawEntry(RawZipEntry entry, InputStream rawData) throws IOException {
+        RawZipEntry copy = putRawEntryHeader(entry);
+        long remaining = copy.getCompressedSize();
+
+        while (remaining > 0) {
+            int count = rawData.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+
+            if (count < 0) {
+                throw new ZipException("Unexpected end of raw data for entry " + copy.getName());
+            }
+
+            writeBytes(buffer, 0, count);
+            remaining -= count;
+        }
+    }
+
+    /**
+     * 将另一个zip文件中的entry原样复制到当前zip文件中。如果指定了输出文件的channel，则直接在文件之间传送数据。
+     *
+     * @param entry   源entry
+     * @param zipFile 源entry所在的zip文件
+     */
+    public void putRawEntry(RawZipEntry entry, RawZipFile zipFile) throws IOException {
+        if (channel == null) {
+            InputStream rawData = zipFile.getRawInputStream(entry);
+
+            try {
+                putRawEntry(entry, rawData);
+            } finally {
+                rawData.close();
+            }
+
+            return;
+        }
+
+        zipFile.getDataOffset(entry); // 读取local extra字段
+
+        RawZipEntry copy = putRawEntryHeader(entry);
+
+        out.flush();
+        zipFile.transferTo(entry, channel);
+        written += copy.getCompressedSize();
+    }
+
+    /**
+     * 保留当前文件中已有的entry，其数据保持不动，仅将其写入新的central directory。
+     *
+     * @param entry 从当前文件的central directory中读出的entry，参见<code>RawZipFile.getEntries()</code>
+     */
+    public void keepEntry(RawZipEntry entry) throws IOException {
+        ensureOpen();
+        closeEntry();
+
+        if (!names.add(entry.getName())) {
+            throw new ZipException("Duplicate entry: " + entry.getName());
+        }
+
+        entries.add(entry);
+    }
+
+    private RawZipEntry putRawEntryHeader(RawZipEntry entry) throws IOException {
+        ensureOpen();
+        closeEntry();
+
+        RawZipEntry copy = new RawZipEntry(entry.getName());
+
+        copy.setMethod(entry.getMethod());
+        copy.setTime(entry.getTime());
+        copy.setCrc(entry.getCrc());
+        copy.setSize(entry.getSize());
+        copy.setCompressedSize(entry.getCompressedSize());
+        copy.setExtra(entry.getExtra());
+        copy.setComment(entry.getComment());
+        copy.rawName = entry.rawName != null ? entry.rawName : encode(entry.getName());
+        copy.rawComment = entry.rawComment;
+        copy.flags = entry.flags & ~RawZipEntry.FLAG_DATA_DESCRIPTOR; // crc和长度已知，不需要data descriptor
+        copy.dosTime = entry.dosTime;
+        copy.versionMadeBy = entry.versionMadeBy;
+        copy.versionNeeded = entry.versionNeeded;
+        copy.externalAttributes = entry.externalAttributes;
+        copy.localExtra = entry.localExtra;
+
+        addEntry(copy);
+        writeLocalHeader(copy);
+
+        return copy;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+
+        if (current == null) {
+            throw new ZipException("No current zip entry");
+        }
+
+        if (len == 0) {
+            return;
+        }
+
+        if (current.getMethod() == ZipEntry.DEFLATED) {
+            deflater.setInput(b, off, len);
+
+            while (!deflater.needsInput()) {
+                deflate();
+            }
+        } else {
+            writeBytes(b, off, len);
+        }
+
+        crc.update(b, off, len);
+    }
+
+    /** 结束当前entry。 */
+    public void closeEntry() throws IOException {
+        ensureOpen();
+
+        RawZipEntry entry = current;
+
+        if (entry == null) {
+            return;
+        }
+
+        current = null;
+
+        if (entry.getMethod() == ZipEntry.DEFLATED) {
+            deflater.finish();
+
+            while (!deflater.finished()) {
+                deflate();
+            }
+
+            entry.setSize(deflater.getBytesRead());
+            entry.setCompressedSize(deflater.getBytesWritten());
+            entry.setCrc(crc.getValue());
+
+            writeInt(RawZipFile.EXTSIG);
+            writeInt(entry.getCrc());
+            writeInt(entry.getCompressedSize());
+            writeInt(entry.getSize());
+        } else if (entry.getSize() != written - currentDataOffset) {
+            throw new ZipException("Invalid entry size for " + entry.getName());
+        } else if (entry.getCrc() != crc.getValue()) {
+            throw new ZipException("Invalid entry crc-32 for " + entry.getName());
+        }
+    }
+
+    /** 写入central directory，但不关闭输出流。 */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+
+        closeEntry();
+
+        long cenOffset = written;
+        long cenSize = 0;
+
+        for (RawZipEntry entry : entries) {
+            cenSize += getCentralHeaderSize(entry);
+        }
+
+        // 在写入central directory之前检查，以免生成一个不完整的文件
+        if (entries.size() > 0xFFFF || cenOffset > 0xFFFFFFFFL || cenSize > 0xFFFFFFFFL) {
+            throw new ZipException("Too many entries or too large zip file, zip64 format is not supported");
+        }
+
+        for (RawZipEntry entry : entries) {
+            writeCentralHeader(entry);
+        }
+
+        writeInt(RawZipFile.ENDSIG);
+        writeShort(0);
+        writeShort(0);
+        writeShort(entries.size());
+        writeShort(entries.size());
+        writeInt(cenSize);
+        writeInt(cenOffset);
+        writeShort(0);
+
+        out.flush();
+        deflater.end();
+        finished = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Zip stream has been finished");
+        }
+    }
+
+    private void addEntry(RawZipEntry entry) throws ZipException {
+        if (written > 0xFFFFFFFFL || entries.size() >= 0xFFFF) {
+            throw new ZipException("Too many entries or too large zip file, zip64 format is not supported");
+        }
+
+        if (!names.add(entry.getName())) {
+            throw new ZipException("Duplicate entry: " + entry.getName());
+        }
+
+        entry.localHeaderOffset = written;
+        entries.add(entry);
+    }
+
+    private void deflate() throws IOException {
+        int count = deflater.deflate(buffer, 0, buffer.length);
+
+        if (count > 0) {
+            writeBytes(buffer, 0, count);
+        }
+    }
+
+    private void writeLocalHeader(RawZipEntry entry) throws IOException {
+        boolean hasDataDescriptor = (entry.flags & RawZipEntry.FLAG_DATA_DESCRIPTOR) != 0;
+        byte[] extra = entry.localExtra;
+
+        writeInt(RawZipFile.LOCSIG);
+        writeShort(entry.versionNeeded);
+        writeShort(entry.flags);
+        writeShort(entry.getMethod());
+        writeInt(entry.dosTime);
+
+        if (hasDataDescriptor) {
+            writeInt(0);
+            writeInt(0);
+            writeInt(0);
+        } else {
+            writeInt(entry.getCrc());
+            writeInt(entry.getCompressedSize());
+            writeInt(entry.getSize());
+        }
+
+        writeShort(entry.rawName.length);
+        writeShort(extra == null ? 0 : extra.length);
+        writeBytes(entry.rawName, 0, entry.rawName.length);
+
+        if (extra != null) {
+            writeBytes(extra, 0, extra.length);
+        }
+    }
+
+    private static long getCentralHeaderSize(RawZipEntry entry) {
+        byte[] extra = entry.getExtra();
+        byte[] comment = entry.rawComment;
+
+        return RawZipFile.CENHDR + entry.rawName.length + (extra == null ? 0 : extra.length)
+               + (comment == null ? 0 : comment.length);
+    }
+
+    private void writeCentralHeader(RawZipEntry entry) throws IOException {
+        byte[] extra = entry.getExtra();
+        byte[] comment = entry.rawComment;
+
+        writeInt(RawZipFile.CENSIG);
+        writeShort(entry.versionMadeBy);
+        writeShort(entry.versionNeeded);
+        writeShort(entry.flags);
+        writeShort(entry.getMethod());
+        writeInt(entry.dosTime);
+        writeInt(entry.getCrc());
+        writeInt(entry.getCompressedSize());
+        writeInt(entry.getSize());
+        writeShort(entry.rawName.length);
+        writeShort(extra == null ? 0 : extra.length);
+        writeShort(comment == null ? 0 : comment.length);
+        writeShort(0); // disk number start
+        writeShort(0); // internal file attributes
+        writeInt(entry.externalAttributes);
+        writeInt(entry.localHeaderOffset);
+        writeBytes(entry.rawName, 0, entry.rawName.length);
+
+        if (extra != null) {
+            writeBytes(extra, 0, extra.length);
+        }
+
+        if (comment != null) {
+            writeBytes(comment, 0, comment.length);
+        }
+    }
+
+    private void writeShort(int v) throws IOException {
+        out.write(v & 0xff);
+        out.write(v >>> 8 & 0xff);
+        written += 2;
+    }
+
+    private void writeInt(long v) throws IOException {
+        out.write((int) (v & 0xff));
+        out.write((int) (v >>> 8 & 0xff));
+        out.write((int) (v >>> 16 & 0xff));
+        out.write((int) (v >>> 24 & 0xff));
+        written += 4;
+    }
+
+    private void writeBytes(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        written += len;
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static byte[] encode(String s) {
+        try {
+            return s.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e); // 不应发生
+        }
+    }
+}
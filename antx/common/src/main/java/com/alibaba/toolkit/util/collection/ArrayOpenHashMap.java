@@ -0,0 +1,621 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.toolkit.util.collection;
+
+import java.util.AbstractList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * 有序的<code>OpenHashMap</code>, 实现了<code>ListMap</code>接口.
+ * </p>
+ * <p>
+ * 这个hash表和<code>ArrayHashMap</code>一样, 按entry加入的顺序排列, 但无须为每个entry创建对象. 删除entry时,
+ * 后面的entry依次前移, 因而保持原有的顺序.
+ * </p>
+ *
+ * @author Michael Zhou
+ * @see ArrayHashMap
+ */
+public class ArrayOpenHashMap extends OpenHashMap implements ListMap {
+    private static final long serialVersionUID = 6295478213407542310L;
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 成员变量 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** key的列表视图. */
+    private transient List keyList;
+
+    /** value的列表视图. */
+    private transient List valueList;
+
+    /** entry的列表视图. */
+    private transient List entryList;
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 构造函数 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 创建一个空的hash表. 使用默认的初始容量(16)和默认的负载系数(0.75). */
+    public ArrayOpenHashMap() {
+        super();
+    }
+
+    /**
+     * 创建一个空的hash表. 使用指定的初始容量和默认的负载系数(0.75).
+     *
+     * @param initialCapacity 初始容量.
+     */
+    public ArrayOpenHashMap(int initialCapacity) {
+        super(initialCapacity);
+    }
+
+    /**
+     * 创建一个空的hash表. 使用指定的初始容量和负载系数.
+     *
+     * @param initialCapacity 初始容量
+     * @param loadFactor      负载系数.
+     */
+    public ArrayOpenHashMap(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+
+    /**
+     * 复制指定<code>Map</code>内容相同的hash表. 使用默认的负载系数(0.75).
+     *
+     * @param map 要复制的<code>Map</code>
+     */
+    public ArrayOpenHashMap(Map map) {
+        super(map);
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 实现ListMap接口的方法 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /**
+     * 返回指定index处的value. 如果index超出范围, 则掷出<code>IndexOutOfBoundsException</code>.
+     *
+     * @param index 要返回的value的索引值
+     * @return 指定index处的value对象
+     */
+    public Object get(int index) {
+        checkRange(index);
+        return values[index];
+    }
+
+    /**
+     * 返回指定index处的key. 如果index超出范围, 则掷出<code>IndexOutOfBoundsException</code>.
+     *
+     * @param index 要返回的key的索引值
+     * @return 指定index处的key对象
+     */
+    public Object getKey(int index) {
+        checkRange(index);
+        return keys[index];
+    }
+
+    /**
+     * 删除指定index处的项. 如果index超出范围, 则掷出<code>IndexOutOfBoundsException</code>.
+     *
+     * @param index 要删除的项的索引值
+     * @return 被删除的<code>Map.Entry</code>项
+     */
+    public Map.Entry remove(int index) {
+        checkRange(index);
+
+        Map.Entry entry = new DefaultMapEntry(keys[index], values[index]);
+
+        removeAt(index);
+
+        return entry;
+    }
+
+    /**
+     * 返回所有key的<code>List</code>.
+     *
+     * @return 所有key的<code>List</code>
+     */
+    public List keyList() {
+        return keyList != null ? keyList : (keyList = new KeyList());
+    }
+
+    /**
+     * 返回所有value的<code>List</code>.
+     *
+     * @return 所有value的<code>List</code>
+     */
+    public List valueList() {
+        return valueList != null ? valueList : (valueList = new ValueList());
+    }
+
+    /**
+     * 返回所有entry的<code>List</code>.
+     *
+     * @return 所有entry的<code>List</code>
+     */
+    public List entryList() {
+        return entryList != null ? entryList : (entryList = new EntryList());
+    }
+
+    /**
+     * &quot;浅&quot;拷贝hash表, key和value本身并不被复制.
+     *
+     * @return 被复制的hash表.
+     */
+    @Override
+    public Object clone() {
+        ArrayOpenHashMap result = (ArrayOpenHashMap) super.clone();
+
+        result.keyList = null;
+        result.valueList = null;
+        result.entryList = null;
+
+        return result;
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 内部类 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 遍历器, 同时实现了<code>ListIterator</code>接口. */
+    private abstract class ArrayOpenHashIterator implements ListIterator {
+        /** 最近返回的entry的索引. */
+        private int lastReturned = -1;
+
+        /** 当前位置. */
+        private int cursor;
+
+        /** 创建iterator时的修改计数. */
+        private int expectedModCount;
+
+        /**
+         * 创建一个list iterator.
+         *
+         * @param index 起始点
+         */
+        protected ArrayOpenHashIterator(int index) {
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+
+            cursor = index;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * 此操作不支持.
+         *
+         * @param o 要加入的对象
+         */
+        public void add(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * 此操作不支持.
+         *
+         * @param o 要替换的对象
+         */
+        public void set(Object o) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * 判断是否有下一个元素.
+         *
+         * @return 如果有下一个元素, 则返回<code>true</code>
+         */
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        /**
+         * 判断是否有前一个元素.
+         *
+         * @return 如果有前一个元素, 则返回<code>true</code>
+         */
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        /**
+         * 取得下一个元素的索引.
+         *
+         * @return 下一个元素的索引
+         */
+        public int nextIndex() {
+            return cursor;
+        }
+
+        /**
+         * 取得前一个元素的索引.
+         *
+         * @return 前一个元素的索引
+         */
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        /** 删除最近返回的元素. */
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            removeAt(lastReturned);
+
+            if (lastReturned < cursor) {
+                cursor--;
+            }
+
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * 取得下一个entry的索引.
+         *
+         * @return 下一个entry的索引
+         */
+        protected int nextEntry() {
+            checkForComodification();
+
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return lastReturned = cursor++;
+        }
+
+        /**
+         * 取得前一个entry的索引.
+         *
+         * @return 前一个entry的索引
+         */
+        protected int previousEntry() {
+            checkForComodification();
+
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            return lastReturned = --cursor;
+        }
+
+        /**
+         * 设置最近返回的entry的值.
+         *
+         * @param o 要设置的value
+         */
+        protected void setValue(Object o) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            values[lastReturned] = o;
+        }
+
+        /** 检查是否同时被修改. */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /** 取得hash表的key的遍历器. */
+    private class KeyIterator extends ArrayOpenHashIterator {
+        protected KeyIterator(int index) {
+            super(index);
+        }
+
+        public Object next() {
+            return keys[nextEntry()];
+        }
+
+        public Object previous() {
+            return keys[previousEntry()];
+        }
+    }
+
+    /** 取得hash表的value的遍历器. */
+    private class ValueIterator extends ArrayOpenHashIterator {
+        protected ValueIterator(int index) {
+            super(index);
+        }
+
+        @Override
+        public void set(Object o) {
+            setValue(o);
+        }
+
+        public Object next() {
+            return values[nextEntry()];
+        }
+
+        public Object previous() {
+            return values[previousEntry()];
+        }
+    }
+
+    /** 取得hash表的entry的遍历器. */
+    private class EntryIterator extends ArrayOpenHashIterator {
+        protected EntryIterator(int index) {
+            super(index);
+        }
+
+        public Object next() {
+            return new OpenHashMap.Entry(nextEntry());
+        }
+
+        public Object previous() {
+            return new OpenHashMap.Entry(previousEntry());
+        }
+    }
+
+    /** 列表视图. */
+    private abstract class ArrayOpenHashList extends AbstractList {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public void clear() {
+            ArrayOpenHashMap.this.clear();
+        }
+
+        /**
+         * 删除指定index处的项. 如果index超出范围, 则掷出<code>IndexOutOfBoundsException</code>.
+         *
+         * @param index 要删除的项的索引值
+         * @return 被删除的<code>Map.Entry</code>项
+         */
+        @Override
+        public Object remove(int index) {
+            return ArrayOpenHashMap.this.remove(index);
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+
+    /** entry的列表视图. */
+    private class EntryList extends ArrayOpenHashList {
+        @Override
+        public boolean contains(Object o) {
+            return indexOfEntry(o) >= 0;
+        }
+
+        @Override
+        public Iterator iterator() {
+            return newEntryIterator();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOfEntry(o);
+
+            if (index < 0) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public Object get(int index) {
+            checkRange(index);
+            return new OpenHashMap.Entry(index);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return indexOfEntry(o);
+        }
+
+        @Override
+        public ListIterator listIterator(int index) {
+            return new EntryIterator(index);
+        }
+    }
+
+    /** key的列表视图. */
+    private class KeyList extends ArrayOpenHashList {
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public Iterator iterator() {
+            return newKeyIterator();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOfKey(o);
+
+            if (index < 0) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public Object get(int index) {
+            checkRange(index);
+            return keys[index];
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return indexOfKey(o);
+        }
+
+        @Override
+        public ListIterator listIterator(int index) {
+            return new KeyIterator(index);
+        }
+    }
+
+    /** value的列表视图. */
+    private class ValueList extends ArrayOpenHashList {
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public Iterator iterator() {
+            return newValueIterator();
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOfValue(o);
+
+            if (index < 0) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public Object get(int index) {
+            checkRange(index);
+            return values[index];
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return indexOfValue(o);
+        }
+
+        @Override
+        public ListIterator listIterator(int index) {
+            return new ValueIterator(index);
+        }
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 内部方法 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /**
+     * 覆盖父类的方法, 将被删除的entry之后的所有entry前移一位, 以保持entry的顺序.
+     * <p>
+     * 只修改被移动的entry在hash表中的索引, 因此所需的时间和被移动的entry数成正比, 而不是和hash表的容量成正比.
+     * </p>
+     *
+     * @param index 被删除的entry的索引
+     */
+    @Override
+    protected void compact(int index) {
+        int numMoved = size - index;
+
+        if (numMoved > 0) {
+            // 按索引从小到大修改, 修改后的索引不会和尚未修改的entry混淆
+            for (int i = index + 1; i <= size; i++) {
+                table[findSlot(i) + 1] = i;
+            }
+
+            System.arraycopy(keys, index + 1, keys, index, numMoved);
+            System.arraycopy(values, index + 1, values, index, numMoved);
+        }
+    }
+
+    @Override
+    protected Iterator newKeyIterator() {
+        return new KeyIterator(0);
+    }
+
+    @Override
+    protected Iterator newValueIterator() {
+        return new ValueIterator(0);
+    }
+
+    @Override
+    protected Iterator newEntryIterator() {
+        return new EntryIterator(0);
+    }
+
+    /**
+     * 检查指定的索引值是否越界. 如果是, 则掷出运行时异常.
+     *
+     * @param index 要检查的异常
+     */
+    private void checkRange(int index) {
+        if (index >= size || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,955 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.toolkit.util.collection;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>
+ * 以开放寻址法实现的hash表, 实现了<code>Map</code>接口.
+ * </p>
+ * <p>
+ * 和<code>DefaultHashMap</code>不同, 这个实现不为每个entry创建对象, 而是将key和value保存在平行的数组中,
+ * 另用一个<code>int</code>数组作为hash表, 以线性探测法记录每个key的hash值和它在数组中的位置. 这样, 存取时不必遍历链表, 内存占用也更少.
+ * </p>
+ * <p>
+ * 这个实现具有以下特性:
+ * </p>
+ * <ul>
+ * <li>支持值为<code>null</code>的key和value</li>
+ * <li>没有进行任何<code>synchronized</code>操作, 因而不是线程安全的</li>
+ * <li>在没有删除操作时, entry按加入的顺序排列. 删除entry时, 最后一个entry被移到被删除的位置, 因此不保证entry的顺序</li>
+ * <li>从hash表中取得的任何<code>Iterator</code>具有<i>fail-fast</i>特性</li>
+ * <li>负载系数必须小于<code>1</code></li>
+ * </ul>
+ *
+ * @author Michael Zhou
+ * @see DefaultHashMap
+ * @see ArrayOpenHashMap
+ */
+public class OpenHashMap extends AbstractMap implements Map, Cloneable, Serializable {
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 常量 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 默认的初始容量 - <code>2的整数次幂</code>. */
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    /** 最大容量 - <code>2的整数次幂</code>. 因为hash表的每个位置占两个<code>int</code>, 所以比<code>DefaultHashMap</code>小一半. */
+    private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+    /** 默认的负载系数 */
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 成员变量 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 所有的key, 前<code>size</code>项有效. */
+    protected transient Object[] keys;
+
+    /** 所有的value, 和<code>keys</code>一一对应. */
+    protected transient Object[] values;
+
+    /**
+     * Hash表, 每个位置占相邻的两项: key的hash值, 以及entry的索引加1(<code>0</code>表示空位). 将hash值和索引放在一起,
+     * 查找时只须访问<code>table</code>和<code>keys</code>. 位置数必须是<code>2的整数次幂</code>.
+     */
+    protected transient int[] table;
+
+    /** Hash表中的entry数. */
+    protected transient int size;
+
+    /** 阈值, 当entry数超过它时, 自动扩容. 其值等于<code>capacity&times;loadFactor</code>, 也是<code>keys</code>数组的长度. */
+    protected transient int threshold;
+
+    /**
+     * 负载系数.
+     *
+     * @serial 自动序列化字段
+     */
+    protected final float loadFactor;
+
+    /** 当hash表发生&quot;结构改变&quot;的计数, 用来实现<i>fail-fast</i>. */
+    protected transient volatile int modCount;
+
+    /** key的集合视图. */
+    private transient Set keySet;
+
+    /** entry的集合视图. */
+    private transient Set entrySet;
+
+    /** value的集合视图. */
+    private transient Collection valueCollection;
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 构造函数 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 创建一个空的hash表. 使用默认的初始容量(16)和默认的负载系数(0.75). */
+    public OpenHashMap() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 创建一个空的hash表. 使用指定的初始容量和默认的负载系数(0.75).
+     *
+     * @param initialCapacity 初始容量.
+     */
+    public OpenHashMap(int initialCapacity) {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * 创建一个空的hash表. 使用指定的初始容量和负载系数.
+     *
+     * @param initialCapacity 初始容量
+     * @param loadFactor      负载系数, 必须大于<code>0</code>并小于<code>1</code>.
+     */
+    public OpenHashMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+
+        if (loadFactor <= 0 || loadFactor >= 1 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+
+        this.loadFactor = loadFactor;
+
+        init(tableSizeFor(initialCapacity));
+    }
+
+    /**
+     * 复制指定<code>Map</code>内容相同的hash表. 使用默认的负载系数(0.75).
+     *
+     * @param map 要复制的<code>Map</code>
+     */
+    public OpenHashMap(Map map) {
+        this(Math.max((int) (map.size() / DEFAULT_LOAD_FACTOR) + 1, DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+        putAll(map);
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 实现Map接口的方法 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /**
+     * 返回hash表中entry的个数.
+     *
+     * @return hash表中的entry数.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断是否为空的hash表.
+     *
+     * @return 如果为空(<code>size() == 0</code>), 则返回<code>true</code>.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 返回指定key对应的value. 如果hash表中不包含这个key, 则返回<code>null</code>.
+     *
+     * @param key 要查找的key
+     * @return 指定key对应的value
+     */
+    @Override
+    public Object get(Object key) {
+        int index = indexOfKey(key);
+        return index < 0 ? null : values[index];
+    }
+
+    /**
+     * 如果hash表中包含指定的key, 则返回<code>true</code>.
+     *
+     * @param key 要查找的key
+     * @return 如果hash表中包含指定的key, 则返回<code>true</code>
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOfKey(key) >= 0;
+    }
+
+    /**
+     * 如果hash表中包含一个或多个key对应指定的value, 则返回<code>true</code>.
+     *
+     * @param value 要查找的value
+     * @return 如果hash表中包含指定的value, 则返回<code>true</code>
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        return indexOfValue(value) >= 0;
+    }
+
+    /**
+     * 将指定的value和key关联. 如果hash表中已经有这个key了, 则替换原来的value.
+     *
+     * @param key   hash表的key
+     * @param value hash表的value
+     * @return 原来的value, 如果不存在, 则返回<code>null</code>
+     */
+    @Override
+    public Object put(Object key, Object value) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+        int slot = hash << 1 & mask;
+
+        for (int entry; (entry = table[slot + 1]) != 0; slot = slot + 2 & mask) {
+            int index = entry - 1;
+
+            if (table[slot] == hash && eq(key, keys[index])) {
+                Object oldValue = values[index];
+
+                values[index] = value;
+
+                return oldValue;
+            }
+        }
+
+        modCount++;
+
+        if (size >= threshold) {
+            resize(capacity() << 1); // 容量加倍, 并重新计算每个key的位置
+            slot = findEmptySlot(hash);
+        }
+
+        keys[size] = key;
+        values[size] = value;
+        table[slot] = hash;
+        table[slot + 1] = ++size;
+
+        return null;
+    }
+
+    /**
+     * 将指定<code>Map</code>中的所有entry复制到当前hash表中.
+     *
+     * @param map 要复制的<code>Map</code>
+     */
+    @Override
+    public void putAll(Map map) {
+        int expectedSize = size + map.size();
+
+        if (expectedSize > threshold) {
+            resize(tableSizeFor((int) Math.min(MAXIMUM_CAPACITY, expectedSize / loadFactor + 1)));
+        }
+
+        for (Iterator i = map.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) i.next();
+
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 从hash表中删除一个key.
+     *
+     * @param key 要删除的key
+     * @return 被删除的key所对应的value, 如果不存在, 则返回<code>null</code>
+     */
+    @Override
+    public Object remove(Object key) {
+        int index = indexOfKey(key);
+
+        if (index < 0) {
+            return null;
+        }
+
+        Object oldValue = values[index];
+
+        removeAt(index);
+
+        return oldValue;
+    }
+
+    /** 清除hash表中的所有entry. */
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(table, 0);
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 返回所有key的集合.
+     *
+     * @return 所有key的集合
+     */
+    @Override
+    public Set keySet() {
+        return keySet != null ? keySet : (keySet = new KeySet());
+    }
+
+    /**
+     * 返回所有value的集合.
+     *
+     * @return 所有value的集合
+     */
+    @Override
+    public Collection values() {
+        return valueCollection != null ? valueCollection : (valueCollection = new Values());
+    }
+
+    /**
+     * 返回所有entry的集合.
+     *
+     * @return 所有entry的集合
+     */
+    @Override
+    public Set entrySet() {
+        return entrySet != null ? entrySet : (entrySet = new EntrySet());
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 内部类 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** <code>Map.Entry</code>的实现, 是hash表中指定项的视图. 对其<code>setValue</code>将修改hash表中的值. */
+    protected class Entry extends DefaultMapEntry {
+        /** 最近一次所知的entry的索引, hash表改变后, 将根据key重新查找. */
+        private int index;
+
+        /**
+         * 创建一个entry.
+         *
+         * @param index entry的索引
+         */
+        protected Entry(int index) {
+            super(keys[index], values[index]);
+            this.index = index;
+        }
+
+        /**
+         * 取得value. 如果entry已经被删除, 则返回最后所知的值.
+         *
+         * @return value
+         */
+        @Override
+        public Object getValue() {
+            int index = currentIndex();
+            return index < 0 ? super.getValue() : values[index];
+        }
+
+        /**
+         * 设置value.
+         *
+         * @param value 新的值
+         * @return 原来的值
+         */
+        @Override
+        public Object setValue(Object value) {
+            int index = currentIndex();
+            Object oldValue = super.setValue(value);
+
+            if (index >= 0) {
+                oldValue = values[index];
+                values[index] = value;
+            }
+
+            return oldValue;
+        }
+
+        @Override
+        public int hashCode() {
+            Object key = getKey();
+            Object value = getValue();
+
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        private int currentIndex() {
+            if (index < 0 || index >= size || keys[index] != getKey()) {
+                index = indexOfKey(getKey());
+            }
+
+            return index;
+        }
+    }
+
+    /** 遍历器, 按<code>keys</code>数组的顺序遍历. */
+    private abstract class OpenHashIterator implements Iterator {
+        /** 下一个entry的索引. */
+        private int cursor;
+
+        /** 最近返回的entry的索引. */
+        private int lastReturned = -1;
+
+        /** 创建iterator时的修改计数. */
+        private int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        /** 删除最近返回的entry. 被删除的位置将被后面的entry填补, 所以下一次从同一位置继续. */
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            removeAt(lastReturned);
+
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * 取得下一个entry的索引.
+         *
+         * @return 下一个entry的索引
+         */
+        protected int nextIndex() {
+            checkForComodification();
+
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            return lastReturned = cursor++;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /** key的遍历器. */
+    private class KeyIterator extends OpenHashIterator {
+        public Object next() {
+            return keys[nextIndex()];
+        }
+    }
+
+    /** value的遍历器. */
+    private class ValueIterator extends OpenHashIterator {
+        public Object next() {
+            return values[nextIndex()];
+        }
+    }
+
+    /** entry的遍历器. */
+    private class EntryIterator extends OpenHashIterator {
+        public Object next() {
+            return new Entry(nextIndex());
+        }
+    }
+
+    /** key的集合视图. */
+    private class KeySet extends AbstractSet {
+        @Override
+        public Iterator iterator() {
+            return newKeyIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOfKey(o);
+
+            if (index < 0) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    /** value的集合视图. */
+    private class Values extends AbstractCollection {
+        @Override
+        public Iterator iterator() {
+            return newValueIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    /** entry的集合视图. */
+    private class EntrySet extends AbstractSet {
+        @Override
+        public Iterator iterator() {
+            return newEntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOfEntry(o) >= 0;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOfEntry(o);
+
+            if (index < 0) {
+                return false;
+            }
+
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            OpenHashMap.this.clear();
+        }
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 序列化 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /** 序列化版本号. */
+    private static final long serialVersionUID = -2460585429412417352L;
+
+    /**
+     * 从输入流中重建hash表(也就是反序列化).
+     *
+     * @param is 输入流
+     * @throws IOException            输入流异常
+     * @throws ClassNotFoundException 类未找到
+     */
+    private void readObject(java.io.ObjectInputStream is) throws IOException, ClassNotFoundException {
+        is.defaultReadObject();
+
+        init(is.readInt());
+
+        int size = is.readInt();
+
+        for (int i = 0; i < size; i++) {
+            Object key = is.readObject();
+            Object value = is.readObject();
+
+            put(key, value);
+        }
+    }
+
+    /**
+     * 将hash表的状态保存到输出流中(也就是&quot;序列化&quot;).
+     *
+     * @param os 输出流
+     * @throws IOException 输出流异常
+     */
+    private void writeObject(java.io.ObjectOutputStream os) throws IOException {
+        os.defaultWriteObject();
+
+        os.writeInt(capacity());
+        os.writeInt(size);
+
+        for (int i = 0; i < size; i++) {
+            os.writeObject(keys[i]);
+            os.writeObject(values[i]);
+        }
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 复制方法(Clonable接口) */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /**
+     * &quot;浅&quot;拷贝hash表, key和value本身并不被复制.
+     *
+     * @return 被复制的hash表.
+     */
+    @Override
+    public Object clone() {
+        OpenHashMap result;
+
+        try {
+            result = (OpenHashMap) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new InternalError(); // 不支持clone(不可能).
+        }
+
+        result.keys = keys.clone();
+        result.values = values.clone();
+        result.table = table.clone();
+        result.keySet = null;
+        result.entrySet = null;
+        result.valueCollection = null;
+        result.modCount = 0;
+
+        return result;
+    }
+
+    /*
+     * ==========================================================================
+     * ==
+     */
+    /* 内部方法 */
+    /*
+     * ==========================================================================
+     * ==
+     */
+
+    /**
+     * 创建key的遍历器, 子类可以覆盖此方法.
+     *
+     * @return hash表的key的遍历器
+     */
+    protected Iterator newKeyIterator() {
+        return new KeyIterator();
+    }
+
+    /**
+     * 创建value的遍历器, 子类可以覆盖此方法.
+     *
+     * @return hash表的value的遍历器
+     */
+    protected Iterator newValueIterator() {
+        return new ValueIterator();
+    }
+
+    /**
+     * 创建entry的遍历器, 子类可以覆盖此方法.
+     *
+     * @return hash表的entry的遍历器
+     */
+    protected Iterator newEntryIterator() {
+        return new EntryIterator();
+    }
+
+    /**
+     * 查找指定key的索引.
+     *
+     * @param key 要查找的key
+     * @return key在<code>keys</code>数组中的索引, 如果不存在, 则返回<code>-1</code>
+     */
+    protected int indexOfKey(Object key) {
+        int hash = hash(key);
+        int mask = table.length - 1;
+
+        for (int slot = hash << 1 & mask, entry; (entry = table[slot + 1]) != 0; slot = slot + 2 & mask) {
+            int index = entry - 1;
+
+            if (table[slot] == hash && eq(key, keys[index])) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 查找指定value第一次出现的索引.
+     *
+     * @param value 要查找的value
+     * @return value在<code>values</code>数组中的索引, 如果不存在, 则返回<code>-1</code>
+     */
+    protected int indexOfValue(Object value) {
+        for (int i = 0; i < size; i++) {
+            if (eq(value, values[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 查找和指定<code>Map.Entry</code>的key和value都相同的entry的索引.
+     *
+     * @param o 要查找的entry
+     * @return entry的索引, 如果不存在, 则返回<code>-1</code>
+     */
+    protected int indexOfEntry(Object o) {
+        if (!(o instanceof Map.Entry)) {
+            return -1;
+        }
+
+        Map.Entry entry = (Map.Entry) o;
+        int index = indexOfKey(entry.getKey());
+
+        return index >= 0 && eq(values[index], entry.getValue()) ? index : -1;
+    }
+
+    /**
+     * 删除指定索引处的entry.
+     *
+     * @param index 要删除的entry的索引
+     */
+    protected void removeAt(int index) {
+        modCount++;
+        deleteSlot(findSlot(index));
+        size--;
+        compact(index);
+        keys[size] = null;
+        values[size] = null;
+    }
+
+    /**
+     * 在entry被删除以后, 填补<code>keys</code>和<code>values</code>数组中的空位. 调用时, <code>size</code>已经减1,
+     * 被删除的entry在hash表中的位置已被清除.
+     * <p>
+     * 此实现将最后一个entry移到空位. 子类可以覆盖此方法以保持entry的顺序.
+     * </p>
+     *
+     * @param index 被删除的entry的索引
+     */
+    protected void compact(int index) {
+        if (index < size) {
+            int slot = findSlot(size);
+
+            keys[index] = keys[size];
+            values[index] = values[size];
+            table[slot + 1] = index + 1;
+        }
+    }
+
+    /**
+     * 取得指定entry在hash表中的位置.
+     *
+     * @param index entry的索引
+     * @return entry在<code>table</code>中的位置, 即其hash值所在的位置
+     */
+    protected int findSlot(int index) {
+        int mask = table.length - 1;
+        int slot = hash(keys[index]) << 1 & mask;
+
+        while (table[slot + 1] != index + 1) {
+            slot = slot + 2 & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * 清除hash表中的指定位置, 并将同一探测序列中后续的项前移, 以保证查找不会中断.
+     *
+     * @param slot 要清除的位置
+     */
+    private void deleteSlot(int slot) {
+        int mask = table.length - 1;
+
+        for (int next = slot + 2 & mask; table[next + 1] != 0; next = next + 2 & mask) {
+            int home = table[next] << 1 & mask;
+
+            // 如果next处的项的初始位置不在(slot, next]之间, 则可以将其移到slot处
+            if (slot <= next ? slot >= home || home > next : slot >= home && home > next) {
+                table[slot] = table[next];
+                table[slot + 1] = table[next + 1];
+                slot = next;
+            }
+        }
+
+        table[slot] = 0;
+        table[slot + 1] = 0;
+    }
+
+    /** 取得指定hash值对应的第一个空位. */
+    private int findEmptySlot(int hash) {
+        int mask = table.length - 1;
+        int slot = hash << 1 & mask;
+
+        while (table[slot + 1] != 0) {
+            slot = slot + 2 & mask;
+        }
+
+        return slot;
+    }
+
+    /**
+     * 初始化一个空的hash表.
+     *
+     * @param capacity hash表的容量, 必须为2的整数次幂
+     */
+    private void init(int capacity) {
+        threshold = Math.max(1, (int) (capacity * loadFactor));
+        table = new int[capacity << 1];
+        keys = new Object[threshold];
+        values = new Object[threshold];
+        size = 0;
+    }
+
+    /**
+     * 取得hash表的容量, 即<code>table</code>中的位置数. 每个位置占两个<code>int</code>.
+     *
+     * @return hash表的容量
+     */
+    protected int capacity() {
+        return table.length >> 1;
+    }
+
+    /**
+     * 对hash表进行扩容.
+     *
+     * @param newCapacity 新的容量(必须为2的整数次幂).
+     */
+    protected void resize(int newCapacity) {
+        if (capacity() >= MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Capacity exhausted");
+        }
+
+        newCapacity = Math.min(newCapacity, MAXIMUM_CAPACITY);
+
+        int[] oldTable = table;
+
+        threshold = Math.max(1, (int) (newCapacity * loadFactor));
+        table = new int[newCapacity << 1];
+        keys = copyOf(keys, threshold);
+        values = copyOf(values, threshold);
+
+        for (int i = 0; i < oldTable.length; i += 2) {
+            if (oldTable[i + 1] != 0) {
+                int slot = findEmptySlot(oldTable[i]);
+
+                table[slot] = oldTable[i];
+                table[slot + 1] = oldTable[i + 1];
+            }
+        }
+    }
+
+    private static Object[] copyOf(Object[] array, int length) {
+        Object[] newArray = new Object[length];
+        System.arraycopy(array, 0, newArray, 0, Math.min(array.length, length));
+        return newArray;
+    }
+
+    /** 取得不小于指定容量的2的整数次幂. */
+    private static int tableSizeFor(int capacity) {
+        int n = 2;
+
+        while (n < capacity && n < MAXIMUM_CAPACITY) {
+            n <<= 1;
+        }
+
+        return n;
+    }
+
+    /**
+     * 返回对象的hash值. 因为线性探测对hash值的分布较为敏感, 所以将原hash值打散.
+     *
+     * @param obj 取得指定对象的hash值
+     * @return 指定对象的hash值
+     */
+    protected static int hash(Object obj) {
+        int h = obj == null ? 0 : obj.hashCode() * 0x9E3779B9;
+
+        return h ^ h >>> 16;
+    }
+
+    /**
+     * 比较两个对象.
+     *
+     * @param x 第一个对象
+     * @param y 第二个对象
+     * @return 如果相同, 则返回<code>true</code>
+     */
+    protected static boolean eq(Object x, Object y) {
+        return x == null ? y == null : x == y || x.equals(y);
+    }
+}
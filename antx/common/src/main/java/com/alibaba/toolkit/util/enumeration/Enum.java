@@ -30,7 +30,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.WeakHashMap;
 
-import com.alibaba.toolkit.util.collection.ArrayHashMap;
+import com.alibaba.toolkit.util.collection.ArrayOpenHashMap;
 import com.alibaba.toolkit.util.collection.ListMap;
 import com.alibaba.toolkit.util.typeconvert.ConvertChain;
 import com.alibaba.toolkit.util.typeconvert.Converter;
@@ -624,8 +624,8 @@ public abstract class Enum implements IntegralNumber, Comparable, Serializable,
     /** 代表一个枚举类型的额外信息. */
     protected abstract static class EnumType {
         private Object value;
-        final ListMap nameMap  = new ArrayHashMap();
-        final ListMap valueMap = new ArrayHashMap();
+        final ListMap nameMap  = new ArrayOpenHashMap();
+        final ListMap valueMap = new ArrayOpenHashMap();
         boolean flagSetClassExists = true;
         Class   flagSetClass;
         FlagSet fullSet;
@@ -17,10 +17,14 @@
 
 package com.alibaba.toolkit.util.resourcebundle;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 
@@ -77,6 +81,15 @@ public class ClassLoaderResourceBundleLoader implements ResourceBundleLoader {
                     }
 
                     try {
+                        // 对于文件, 直接返回FileInputStream, 以便调用者将文件映射到内存中.
+                        if ("file".equals(url.getProtocol())) {
+                            File file = toFile(url);
+
+                            if (file != null) {
+                                return new FileInputStream(file);
+                            }
+                        }
+
                         return url.openStream();
                     } catch (IOException e) {
                         throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_OPENING_STREAM,
@@ -89,6 +102,36 @@ public class ClassLoaderResourceBundleLoader implements ResourceBundleLoader {
         }
     }
 
+    /**
+     * 根据指定的bundle文件名, 取得其URL, 而不打开文件.
+     *
+     * @param bundleFilename 要查找的bundle文件名
+     * @return bundle文件的URL, 如果指定bundle文件不存在, 则返回<code>null</code>
+     */
+    public URL getResource(final String bundleFilename) {
+        return (URL) AccessController.doPrivileged(new PrivilegedAction() {
+            public Object run() {
+                return classLoader.getResource(bundleFilename);
+            }
+        });
+    }
+
+    /**
+     * 将<code>file:</code>类型的URL转换成文件.
+     *
+     * @param url URL
+     * @return 文件, 如果URL无法转换, 则返回<code>null</code>
+     */
+    private static File toFile(URL url) {
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * 判断两个<code>ResourceBundleLoader</code>是否等效. 这将作为
      * <code>ResourceBundle</code>的cache的依据. 具有相同的context class loader的
@@ -45,7 +45,8 @@ public interface ResourceBundleConstant {
     String RB_RESOURCE_TYPE_LIST    = "list";
 
     // XMLResourceBundle的文件名后缀
-    String RB_RESOURCE_EXT_XML = ".xml";
+    String RB_RESOURCE_EXT_XML      = ".xml";
+    String RB_RESOURCE_EXT_COMPILED = ".xrb";
 
     // XMLResourceBundle类的错误信息
     String RB_FAILED_READING_XML_DOCUMENT = "Failed to read XML document \"{0}\"";
@@ -54,7 +55,15 @@ public interface ResourceBundleConstant {
     String RB_ENUM_ID_NOT_FOUND           = "Invalid Enum ID \"{0}\" for Enum class \"{1}\"";
     String RB_DUPLICATED_MAP_RESOURCE_KEY = "Duplicated mapped resource key \"{0}\" for resource \"{1}\"";
 
+    // 预编译的XMLResourceBundle的错误信息
+    String RB_FAILED_READING_COMPILED_BUNDLE = "Failed to read compiled resource bundle \"{0}\"";
+    String RB_INVALID_COMPILED_BUNDLE        = "Invalid compiled resource bundle \"{0}\"";
+
+    // XMLResourceBundle的根元素.
+    String XML_ROOT_ELEMENT = "resource-bundle";
+
     // XMLResourceBundle的XPATH常量.
+    String XPATH_ROOT                  = "/resource-bundle";
     String XPATH_GROUPS                = "/resource-bundle/group";
     String XPATH_UNGROUPED_RESOURCES   = "/resource-bundle/message | /resource-bundle/map | /resource-bundle/list";
     String XPATH_RESOURCES             = "message | map | list";
@@ -17,17 +17,17 @@
 
 package com.alibaba.toolkit.util.resourcebundle;
 
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
-import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
-import com.alibaba.toolkit.util.collection.SoftHashMap;
 import com.alibaba.toolkit.util.resourcebundle.xml.XMLResourceBundleFactory;
 
 /**
@@ -166,21 +166,31 @@ public abstract class ResourceBundleFactory {
             // 使用factory作为bundle未找到的标记, 这样当factory被GC回收的时候, cache里对应的项也可以被回收.
             final Object NOT_FOUND = factory;
 
+            // 取得系统locale, 注意, 这个值可能被改变, 所以每次执行时都重新取.
+            Locale defaultLocale = Locale.getDefault();
+
+            // 从cache中取得上一次以相同的参数查找的结果, 这不需要创建任何对象.
+            Object lookup = cache.get(factory, baseName, locale, defaultLocale);
+
             // 从cache中取得bundle.
             String bundleName = baseName;
-            String localeSuffix = locale.toString();
 
-            if (localeSuffix.length() > 0) {
-                bundleName += "_" + localeSuffix;
-            } else if (locale.getVariant().length() > 0) {
-                // 修正: new Locale("", "", "VARIANT").toString == ""
-                bundleName += "___" + locale.getVariant();
-            }
+            if (lookup == null) {
+                String localeSuffix = locale.toString();
 
-            // 取得系统locale, 注意, 这个值可能被改变, 所以每次执行时都重新取.
-            Locale defaultLocale = Locale.getDefault();
+                if (localeSuffix.length() > 0) {
+                    bundleName += "_" + localeSuffix;
+                } else if (locale.getVariant().length() > 0) {
+                    // 修正: new Locale("", "", "VARIANT").toString == ""
+                    bundleName += "___" + locale.getVariant();
+                }
 
-            Object lookup = cache.get(factory, bundleName, defaultLocale);
+                lookup = cache.get(factory, bundleName, defaultLocale);
+
+                if (lookup != null) {
+                    cache.put(factory, baseName, locale, defaultLocale, lookup);
+                }
+            }
 
             if (NOT_FOUND.equals(lookup)) {
                 throwResourceBundleException(true, baseName, locale, null);
@@ -294,6 +304,8 @@ public abstract class ResourceBundleFactory {
                 throw e;
             }
 
+            cache.put(factory, baseName, locale, defaultLocale, parent);
+
             if (NOT_FOUND.equals(parent)) {
                 throwResourceBundleException(true, baseName, locale, null);
             }
@@ -427,38 +439,60 @@ public abstract class ResourceBundleFactory {
         }
     }
 
-    /** 将(factory, bundleName, defaultLocale)映射到bundle对象的cache类. */
-    private static final class Cache extends SoftHashMap {
-        /** 静态的key, 用来在cache中查找bundle. 使用静态量可以减少GC的负担. 使用cacheKey必须对整个cache进行同步. */
-        private static final CacheKey cacheKey = new CacheKey();
+    /**
+     * 将(factory, bundleName, defaultLocale)映射到bundle对象的cache类. 当内存不足时, cache的内容会自动释放.
+     * <p>
+     * 查找cache不需要同步. 正在被装入的bundle在cache中以<code>BundleFuture</code>表示, 其它线程只等待这个bundle,
+     * 而不会阻塞对整个cache的访问.
+     * </p>
+     */
+    private static final class Cache {
+        /** 保存cache项, 值为<code>BundleRef</code>或<code>BundleFuture</code>. */
+        private final ConcurrentMap map = new ConcurrentHashMap(ResourceBundleConstant.INITIAL_CACHE_SIZE,
+                                                                ResourceBundleConstant.CACHE_LOAD_FACTOR);
+
+        /** 被GC回收的bundle的引用队列. */
+        private final ReferenceQueue queue = new ReferenceQueue();
+
+        /** 每个线程用来在cache中查找bundle的key. 重复使用这个key, 使查找时不必创建任何对象. */
+        private final ThreadLocal lookupKeys = new ThreadLocal() {
+            @Override
+            protected Object initialValue() {
+                return new CacheKey();
+            }
+        };
 
         /**
-         * 这个hash表用来同步多个线程, 以便同时装入同一个bundle. 这个hash表保存了cacheKey到thread的映射.
-         * 使用此hash表必须对整个cache进行同步.
+         * 在cache中查找bundle.
+         *
+         * @param factory       bundle工厂
+         * @param bundleName    bundle名称
+         * @param defaultLocale 系统locale
+         * @return 被cache的bundle. 如果未找到, 则返回<code>null</code>
          */
-        private final Map underConstruction = new HashMap(ResourceBundleConstant.MAX_BUNDLES_SEARCHED,
-                                                          ResourceBundleConstant.CACHE_LOAD_FACTOR);
-
-        /** 构造一个cache. */
-        public Cache() {
-            super(ResourceBundleConstant.INITIAL_CACHE_SIZE, ResourceBundleConstant.CACHE_LOAD_FACTOR);
+        public Object get(ResourceBundleFactory factory, String bundleName, Locale defaultLocale) {
+            return get(factory, bundleName, null, defaultLocale);
         }
 
         /**
          * 在cache中查找bundle.
          *
          * @param factory       bundle工厂
-         * @param bundleName    bundle名称
+         * @param name          bundle名称, 或者bundle基本名(如果<code>locale</code>不为<code>null</code>)
+         * @param locale        区域设置, 如果<code>name</code>为bundle名称, 则为<code>null</code>
          * @param defaultLocale 系统locale
          * @return 被cache的bundle. 如果未找到, 则返回<code>null</code>
          */
-        public synchronized Object get(ResourceBundleFactory factory, String bundleName, Locale defaultLocale) {
-            cacheKey.set(factory, bundleName, defaultLocale);
+        public Object get(ResourceBundleFactory factory, String name, Locale locale, Locale defaultLocale) {
+            CacheKey key = getLookupKey(factory, name, locale, defaultLocale);
 
-            Object result = get(cacheKey);
+            try {
+                Object value = map.get(key);
 
-            cacheKey.clear();
-            return result;
+                return value instanceof BundleRef ? ((BundleRef) value).get() : null;
+            } finally {
+                key.clear();
+            }
         }
 
         /**
@@ -471,55 +505,57 @@ public abstract class ResourceBundleFactory {
          * @param defaultLocale 系统locale
          * @return 被cache的bundle. 如果未找到, 则返回<code>null</code>
          */
-        public synchronized Object getWait(ResourceBundleFactory factory, String bundleName, Locale defaultLocale) {
-            Object result;
+        public Object getWait(ResourceBundleFactory factory, String bundleName, Locale defaultLocale) {
+            while (true) {
+                CacheKey key = getLookupKey(factory, bundleName, null, defaultLocale);
+                Object value = map.get(key);
+
+                // 首先查找cache中是否已经有这个bundle了, 如果有, 直接返回.
+                if (value instanceof BundleRef) {
+                    Object result = ((BundleRef) value).get();
+
+                    if (result != null) {
+                        key.clear();
+                        return result;
+                    }
 
-            // 首先查找cache中是否已经有这个bundle了, 如果有, 直接返回.
-            cacheKey.set(factory, bundleName, defaultLocale);
-            result = get(cacheKey);
+                    // bundle已经被GC回收了.
+                    map.remove(key, value);
+                    key.clear();
+                    continue;
+                }
 
-            if (result != null) {
-                cacheKey.clear();
-                return result;
-            }
+                // 检查是不已经有另一个thread正在创建这个bundle.
+                // 注意, 有可能递归调用getBundle方法, 例如, 在factory中调用了getBundle.
+                // 这种情况下, 由当前线程再次创建这个bundle.
+                if (value instanceof BundleFuture) {
+                    BundleFuture future = (BundleFuture) value;
+
+                    key.clear();
 
-            // 检查是不已经有另一个thread正在创建这个bundle.
-            // 注意, 有可能递归调用getBundle方法, 例如, 在factory中调用了getBundle.
-            // 这种情况下, beingBuilt == false
-            Thread builder = (Thread) underConstruction.get(cacheKey);
-            boolean beingBuilt = builder != null && builder != Thread.currentThread();
-
-            // 如果已经有另一个thread正在创建这个bundle.
-            if (beingBuilt) {
-                while (beingBuilt) {
-                    cacheKey.clear();
-
-                    try {
-                        // 等待, 直到别的线程创建完成.
-                        wait();
-                    } catch (InterruptedException e) {
+                    if (future.builder == Thread.currentThread()) {
+                        return null;
                     }
 
-                    cacheKey.set(factory, bundleName, defaultLocale);
-                    beingBuilt = underConstruction.containsKey(cacheKey);
-                }
+                    // 等待, 直到别的线程创建完成. 如果另一个线程把这个bundle创建好了, 则直接返回即可,
+                    // 否则, 重新尝试.
+                    Object result = future.get();
 
-                // 如果另一个线程把这个bundle创建好了, 则直接返回即可
-                result = get(cacheKey);
+                    if (result != null) {
+                        return result;
+                    }
 
-                if (result != null) {
-                    cacheKey.clear();
-                    return result;
+                    continue;
                 }
-            }
-
-            // 如果bundle不在cache中, 则准备构造此bundle.
-            // 调用者必须在随后调用put或cleanUpConstructionList方法, 否则将会死锁.
-            underConstruction.put(cacheKey.clone(), Thread.currentThread());
 
-            cacheKey.clear();
+                // 如果bundle不在cache中, 则准备构造此bundle.
+                // 调用者必须在随后调用put或cleanUpConstructionList方法, 否则将会死锁.
+                key.clear();
 
-            return null;
+                if (map.putIfAbsent(new CacheKey(factory, bundleName, null, defaultLocale), new BundleFuture()) == null) {
+                    return null;
+                }
+            }
         }
 
         /**
@@ -530,67 +566,212 @@ public abstract class ResourceBundleFactory {
          * @param defaultLocale 系统locale
          * @param bundle        将被cache的bundle对象
          */
-        public synchronized void put(ResourceBundleFactory factory, String bundleName, Locale defaultLocale,
-                                     Object bundle) {
-            cacheKey.set(factory, bundleName, defaultLocale);
-
-            put(cacheKey.clone(), bundle);
+        public void put(ResourceBundleFactory factory, String bundleName, Locale defaultLocale, Object bundle) {
+            put(factory, bundleName, null, defaultLocale, bundle);
+        }
 
-            underConstruction.remove(cacheKey);
+        /**
+         * 将bundle放入cache, 并唤醒所有等待的线程.
+         *
+         * @param factory       bundle工厂
+         * @param name          bundle名称, 或者bundle基本名(如果<code>locale</code>不为<code>null</code>)
+         * @param locale        区域设置, 如果<code>name</code>为bundle名称, 则为<code>null</code>
+         * @param defaultLocale 系统locale
+         * @param bundle        将被cache的bundle对象
+         */
+        public void put(ResourceBundleFactory factory, String name, Locale locale, Locale defaultLocale, Object bundle) {
+            expungeStaleEntries();
 
-            cacheKey.clear();
+            CacheKey key = new CacheKey(factory, name, locale, defaultLocale);
+            Object previous = map.put(key, new BundleRef(bundle, key, queue));
 
-            // 唤醒所有线程
-            notifyAll();
+            // 唤醒所有等待此bundle的线程
+            if (previous instanceof BundleFuture) {
+                ((BundleFuture) previous).set(bundle);
+            }
         }
 
-        /** 从"正在构造bundle"的线程表中清除当前线程. 如果装入bundle失败, 则需要调用此方法. */
-        public synchronized void cleanUpConstructionList() {
-            final Collection entries = underConstruction.values();
+        /** 从"正在构造bundle"的列表中清除当前线程. 如果装入bundle失败, 则需要调用此方法. */
+        public void cleanUpConstructionList() {
             final Thread thisThread = Thread.currentThread();
 
-            while (entries.remove(thisThread)) {
+            for (Iterator i = map.entrySet().iterator(); i.hasNext(); ) {
+                Map.Entry entry = (Map.Entry) i.next();
+                Object value = entry.getValue();
+
+                if (value instanceof BundleFuture && ((BundleFuture) value).builder == thisThread
+                    && map.remove(entry.getKey(), value)) {
+                    // 唤醒所有等待此bundle的线程
+                    ((BundleFuture) value).set(null);
+                }
+            }
+        }
+
+        /**
+         * 取得当前线程的查找key.
+         *
+         * @param factory       bundle工厂
+         * @param name          bundle名称或基本名
+         * @param locale        区域设置
+         * @param defaultLocale 系统locale
+         * @return 查找key, 用完后必须调用<code>clear</code>, 以免持有对factory的引用
+         */
+        private CacheKey getLookupKey(ResourceBundleFactory factory, String name, Locale locale, Locale defaultLocale) {
+            CacheKey key = (CacheKey) lookupKeys.get();
+
+            key.set(factory, name, locale, defaultLocale);
+
+            return key;
+        }
+
+        /** 清除已经被GC回收的bundle. */
+        private void expungeStaleEntries() {
+            for (BundleRef ref; (ref = (BundleRef) queue.poll()) != null; ) {
+                map.remove(ref.key, ref);
             }
+        }
+    }
+
+    /** Cache中的bundle的软引用. */
+    private static final class BundleRef extends SoftReference {
+        private final CacheKey key;
+
+        /**
+         * 创建bundle的软引用.
+         *
+         * @param bundle bundle对象
+         * @param key    bundle的cache key
+         * @param queue  引用队列
+         */
+        public BundleRef(Object bundle, CacheKey key, ReferenceQueue queue) {
+            super(bundle, queue);
+            this.key = key;
+        }
+    }
+
+    /** 代表正在被某个线程装入的bundle, 其它线程可以等待它装入完成. */
+    private static final class BundleFuture {
+        private final Thread builder = Thread.currentThread();
+        private boolean done;
+        private Object  bundle;
+
+        /**
+         * 设置装入的结果, 并唤醒所有等待的线程.
+         *
+         * @param bundle 装入的bundle, 如果装入失败, 则为<code>null</code>
+         */
+        public synchronized void set(Object bundle) {
+            this.bundle = bundle;
+            this.done = true;
 
-            // 唤醒所有线程
             notifyAll();
         }
+
+        /**
+         * 等待, 直到装入完成.
+         *
+         * @return 装入的bundle, 如果装入失败, 则返回<code>null</code>
+         */
+        public synchronized Object get() {
+            while (!done) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                }
+            }
+
+            return bundle;
+        }
     }
 
-    /** 和bundle对应的cache key, 由bundle工厂, bundle名称, 系统locale几个字段组成. */
-    private static final class CacheKey implements Cloneable {
-        private SoftReference factoryRef;
-        private String        bundleName;
-        private Locale        defaultLocale;
-        private int           hashCode;
+    /**
+     * 和bundle对应的cache key, 由bundle工厂, bundle名称, 系统locale几个字段组成. 对于以bundle基本名和locale查找的结果,
+     * 还包括locale字段.
+     * <p>
+     * 用于查找的key直接引用factory, 并被重复使用; 保存在cache中的key对factory只保持软引用.
+     * </p>
+     */
+    private static final class CacheKey {
+        private ResourceBundleFactory factory;
+        private SoftReference         factoryRef;
+        private String                name;
+        private Locale                locale;
+        private Locale                defaultLocale;
+        private int                   hashCode;
+
+        /** 创建用于查找的cache key. */
+        public CacheKey() {
+        }
+
+        /**
+         * 创建保存在cache中的key.
+         *
+         * @param factory       bundle工厂
+         * @param name          bundle名称或基本名
+         * @param locale        区域设置
+         * @param defaultLocale 系统locale
+         */
+        public CacheKey(ResourceBundleFactory factory, String name, Locale locale, Locale defaultLocale) {
+            set(factory, name, locale, defaultLocale);
+
+            if (factory != null) {
+                this.factory = null;
+                this.factoryRef = new SoftReference(factory);
+            }
+        }
 
         /**
          * 设置cache key.
          *
          * @param factory       bundle工厂
-         * @param bundleName    bundle名称
+         * @param name          bundle名称或基本名
+         * @param locale        区域设置
          * @param defaultLocale 系统locale
          */
-        public void set(ResourceBundleFactory factory, String bundleName, Locale defaultLocale) {
-            this.bundleName = bundleName;
-            this.hashCode = bundleName.hashCode();
+        public void set(ResourceBundleFactory factory, String name, Locale locale, Locale defaultLocale) {
+            this.factory = factory;
+            this.name = name;
+            this.locale = locale;
             this.defaultLocale = defaultLocale;
+            this.hashCode = name.hashCode();
+
+            if (locale != null) {
+                hashCode = hashCode * 31 + locale.hashCode();
+            }
 
             if (defaultLocale != null) {
                 hashCode ^= defaultLocale.hashCode();
             }
 
-            if (factory == null) {
-                this.factoryRef = null;
-            } else {
-                factoryRef = new SoftReference(factory);
+            if (factory != null) {
                 hashCode ^= factory.hashCode();
             }
         }
 
         /** 清除cache key. */
         public void clear() {
-            set(null, "", null);
+            factory = null;
+            name = null;
+            locale = null;
+            defaultLocale = null;
+        }
+
+        /**
+         * 判断factory是否为<code>null</code>.
+         *
+         * @return 如果factory为<code>null</code>, 则返回<code>true</code>
+         */
+        private boolean isNullFactory() {
+            return factory == null && factoryRef == null;
+        }
+
+        /**
+         * 取得factory.
+         *
+         * @return bundle工厂, 如果已经被GC回收, 则返回<code>null</code>
+         */
+        private Object getFactory() {
+            return factoryRef == null ? factory : factoryRef.get();
         }
 
         /**
@@ -605,35 +786,33 @@ public abstract class ResourceBundleFactory {
                 return true;
             }
 
-            try {
-                final CacheKey otherKey = (CacheKey) other;
-
-                // hash值不同, 则立即返回
-                if (hashCode != otherKey.hashCode) {
-                    return false;
-                }
+            if (!(other instanceof CacheKey)) {
+                return false;
+            }
 
-                // bundle名称是否相同?
-                if (!eq(bundleName, otherKey.bundleName)) {
-                    return false;
-                }
+            final CacheKey otherKey = (CacheKey) other;
 
-                // locale是否相同
-                if (!eq(defaultLocale, otherKey.defaultLocale)) {
-                    return false;
-                }
+            // hash值不同, 则立即返回
+            if (hashCode != otherKey.hashCode) {
+                return false;
+            }
 
-                // factory是否相同?
-                if (factoryRef == null) {
-                    return otherKey.factoryRef == null;
-                } else {
-                    return otherKey.factoryRef != null && eq(factoryRef.get(), otherKey.factoryRef.get());
-                }
-            } catch (NullPointerException e) {
+            // bundle名称是否相同?
+            if (!eq(name, otherKey.name)) {
                 return false;
-            } catch (ClassCastException e) {
+            }
+
+            // locale是否相同
+            if (!eq(locale, otherKey.locale) || !eq(defaultLocale, otherKey.defaultLocale)) {
                 return false;
             }
+
+            // factory是否相同?
+            if (isNullFactory()) {
+                return otherKey.isNullFactory();
+            } else {
+                return !otherKey.isNullFactory() && eq(getFactory(), otherKey.getFactory());
+            }
         }
 
         /**
@@ -657,21 +836,6 @@ public abstract class ResourceBundleFactory {
             return hashCode;
         }
 
-        /**
-         * 复制对象.
-         *
-         * @return cache key的复本
-         */
-        @Override
-        public Object clone() {
-            try {
-                return super.clone();
-            } catch (CloneNotSupportedException e) {
-                throw new InternalError(MessageFormat.format(ResourceBundleConstant.RB_CLONE_NOT_SUPPORTED,
-                                                             new Object[] { CacheKey.class.getName() }));
-            }
-        }
-
         /**
          * 取得字符串值表示.
          *
@@ -679,8 +843,8 @@ public abstract class ResourceBundleFactory {
          */
         @Override
         public String toString() {
-            return new StringBuffer("CacheKey[factory=").append(factoryRef == null ? "null" : factoryRef.get())
-                                                        .append(", bundleName=").append(bundleName).append(", defaultLocale=").append(defaultLocale)
+            return new StringBuffer("CacheKey[factory=").append(getFactory()).append(", name=").append(name)
+                                                        .append(", locale=").append(locale).append(", defaultLocale=").append(defaultLocale)
                                                         .append("]").toString();
         }
     }
@@ -0,0 +1,516 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.toolkit.util.resourcebundle.xml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+import com.alibaba.toolkit.util.ContextClassLoader;
+import com.alibaba.toolkit.util.collection.ArrayOpenHashMap;
+import com.alibaba.toolkit.util.collection.ListMap;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundle;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleConstant;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleCreateException;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleEnumeration;
+
+/**
+ * 预编译的<code>XMLResourceBundle</code>.
+ * <p>
+ * 由<code>XMLResourceBundleCompiler</code>将XML格式的bundle编译成二进制格式. 装入时只读取所有的key, 每个value在第一次被访问时才被解析.
+ * 如果bundle来自文件, 则将文件映射到内存中, 而不必读出整个文件.
+ * </p>
+ * <p>
+ * 编译后的文件中记录了XML文件及其所引用的<code>Enum</code>类的长度, 修改时间和CRC, 用来判断bundle是否已经过期, 参见
+ * <code>isUpToDate()</code>.
+ * </p>
+ * <p>
+ * 文件格式如下, 所有整数均为big-endian, 字符串为4字节长度加上UTF-8编码的内容:
+ * </p>
+ * <pre>
+ * magic(4) sourceCount(4)
+ * sourceCount * { name(字符串) length(8) lastModified(8) crc(8) }
+ * count(4)
+ * count * { key(字符串) valueOffset(4) }
+ * values: 每个value为1字节的类型, 加上:
+ *     message: 字符串
+ *     map:     size(4) size * { key(字符串) value }
+ *     list:    size(4) size * { value }
+ * </pre>
+ *
+ * @author Michael Zhou
+ */
+public class CompiledXMLResourceBundle extends ResourceBundle {
+    /** 文件头, 即&quot;XRB4&quot;. */
+    private static final int MAGIC = 0x58524234;
+
+    // value的类型.
+    private static final byte TYPE_NULL    = 0;
+    private static final byte TYPE_MESSAGE = 1;
+    private static final byte TYPE_MAP     = 2;
+    private static final byte TYPE_LIST    = 3;
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer           buffer;
+    private final String               systemId;
+    private final Source[]             sources;
+    private final ListMap              keys;
+    private final int[]                offsets;
+    private final AtomicReferenceArray values;
+
+    /**
+     * 从二进制数据中创建<code>ResourceBundle</code>.
+     *
+     * @param buffer   编译后的bundle数据
+     * @param systemId 标志数据来源的字符串
+     * @throws ResourceBundleCreateException 数据格式错误
+     */
+    public CompiledXMLResourceBundle(ByteBuffer buffer, String systemId) throws ResourceBundleCreateException {
+        this.buffer = buffer.duplicate();
+        this.systemId = systemId;
+
+        ByteBuffer in = buffer.duplicate();
+
+        try {
+            if (in.getInt() != MAGIC) {
+                throw new ResourceBundleCreateException(ResourceBundleConstant.RB_INVALID_COMPILED_BUNDLE,
+                                                        new Object[] { systemId }, null);
+            }
+
+            sources = new Source[in.getInt()];
+
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = new Source(readString(in), in.getLong(), in.getLong(), in.getLong());
+            }
+
+            int count = in.getInt();
+
+            keys = new ArrayOpenHashMap(count * 2);
+            offsets = new int[count];
+            values = new AtomicReferenceArray(count);
+
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+
+                offsets[i] = in.getInt();
+
+                if (keys.put(key, new Integer(i)) != null) {
+                    throw new ResourceBundleCreateException(ResourceBundleConstant.RB_DUPLICATED_RESOURCE_KEY,
+                                                            new Object[] { key }, null);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new ResourceBundleCreateException(ResourceBundleConstant.RB_INVALID_COMPILED_BUNDLE,
+                                                    new Object[] { systemId }, e);
+        }
+    }
+
+    /**
+     * 从输入流中装入预编译的bundle. 如果输入流是<code>FileInputStream</code>, 则将文件映射到内存中.
+     *
+     * @param stream   输入流
+     * @param systemId 标志输入流的字符串
+     * @return resource bundle
+     * @throws ResourceBundleCreateException 读取失败, 或数据格式错误
+     */
+    public static CompiledXMLResourceBundle load(InputStream stream, String systemId)
+            throws ResourceBundleCreateException {
+        ByteBuffer buffer;
+
+        try {
+            if (stream instanceof FileInputStream) {
+                FileChannel channel = ((FileInputStream) stream).getChannel();
+
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } else {
+                buffer = ByteBuffer.wrap(readBytes(stream));
+            }
+        } catch (IOException e) {
+            throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_READING_COMPILED_BUNDLE,
+                                                    new Object[] { systemId }, e);
+        }
+
+        return new CompiledXMLResourceBundle(buffer, systemId);
+    }
+
+    /**
+     * 判断bundle是否为最新的, 即编译以后, XML文件和所引用的<code>Enum</code>类是否被修改过. <code>Enum</code>类从context class
+     * loader中查找.
+     *
+     * @param source XML文件的URL
+     * @return 如果XML文件和<code>Enum</code>类都未改变, 则返回<code>true</code>
+     */
+    public boolean isUpToDate(URL source) {
+        for (int i = 0; i < sources.length; i++) {
+            URL url = sources[i].name.length() == 0 ? source : ContextClassLoader.getResource(sources[i].name);
+
+            if (url == null || !sources[i].matches(url)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 将bundle的内容以二进制格式写到输出流中.
+     *
+     * @param values  bundle的内容, 值为<code>String</code>, <code>Map</code>或<code>List</code>
+     * @param sources 编译bundle时所依赖的<code>Source</code>
+     * @param ostream 输出流
+     * @throws IOException 输出失败
+     */
+    static void write(Map values, List sources, OutputStream ostream) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        List keys = new ArrayList(values.size());
+        int[] offsets = new int[values.size()];
+        int headerSize = 4 + 4 + 4;
+
+        for (Iterator i = sources.iterator(); i.hasNext(); ) {
+            headerSize += 4 + ((Source) i.next()).name.getBytes(UTF8).length + 8 + 8 + 8;
+        }
+
+        for (Iterator i = values.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) i.next();
+            String key = (String) entry.getKey();
+
+            offsets[keys.size()] = bodyOut.size();
+            keys.add(key);
+            headerSize += 4 + key.getBytes(UTF8).length + 4;
+
+            writeValue(bodyOut, entry.getValue());
+        }
+
+        bodyOut.flush();
+
+        DataOutputStream out = new DataOutputStream(ostream);
+
+        out.writeInt(MAGIC);
+        out.writeInt(sources.size());
+
+        for (Iterator i = sources.iterator(); i.hasNext(); ) {
+            Source source = (Source) i.next();
+
+            writeString(out, source.name);
+            out.writeLong(source.length);
+            out.writeLong(source.lastModified);
+            out.writeLong(source.crc);
+        }
+
+        out.writeInt(keys.size());
+
+        for (int i = 0; i < keys.size(); i++) {
+            writeString(out, (String) keys.get(i));
+            out.writeInt(headerSize + offsets[i]);
+        }
+
+        body.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * 根据指定的键, 从resource bundle中取得相应的对象. 如果返回<code>null</code>表示对应的对象不存在.
+     *
+     * @param key 要查找的键
+     * @return key对应的对象, 或<code>null</code>表示不存在该对象
+     */
+    @Override
+    protected Object handleGetObject(String key) {
+        Integer index = (Integer) keys.get(key);
+
+        if (index == null) {
+            return null;
+        }
+
+        int i = index.intValue();
+        Object value = values.get(i);
+
+        if (value == null) {
+            ByteBuffer in = buffer.duplicate();
+
+            in.position(offsets[i]);
+
+            try {
+                value = readValue(in);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException(MessageFormat.format(ResourceBundleConstant.RB_INVALID_COMPILED_BUNDLE,
+                                                                new Object[] { systemId }), e);
+            }
+
+            if (value != null && !values.compareAndSet(i, null, value)) {
+                value = values.get(i);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * 取得所有keys.
+     *
+     * @return 所有keys
+     */
+    @Override
+    public Enumeration getKeys() {
+        java.util.ResourceBundle parent = getParent();
+
+        return new ResourceBundleEnumeration(keys.keySet(), parent != null ? parent.getKeys() : null);
+    }
+
+    /**
+     * 读出输入流中的所有内容.
+     *
+     * @param stream 输入流
+     * @return 输入流的内容
+     * @throws IOException 读取失败
+     */
+    static byte[] readBytes(InputStream stream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+
+        for (int count; (count = stream.read(chunk)) != -1; ) {
+            bytes.write(chunk, 0, count);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /** 读取一个value. */
+    private static Object readValue(ByteBuffer in) {
+        byte type = in.get();
+
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+
+            case TYPE_MESSAGE:
+                return readString(in);
+
+            case TYPE_MAP: {
+                int size = in.getInt();
+                ListMap map = new ArrayOpenHashMap(size * 2);
+
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+
+                    map.put(key, readValue(in));
+                }
+
+                return Collections.unmodifiableMap(map);
+            }
+
+            case TYPE_LIST: {
+                int size = in.getInt();
+                List list = new ArrayList(size);
+
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+
+                return Collections.unmodifiableList(list);
+            }
+
+            default:
+                throw new IllegalArgumentException("Unknown resource type: " + type);
+        }
+    }
+
+    /** 读取一个字符串. */
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+
+        in.get(bytes);
+
+        return new String(bytes, UTF8);
+    }
+
+    /** 写入一个value. */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_MESSAGE);
+            writeString(out, (String) value);
+        } else if (value instanceof Map) {
+            Map map = (Map) value;
+
+            out.writeByte(TYPE_MAP);
+            out.writeInt(map.size());
+
+            for (Iterator i = map.entrySet().iterator(); i.hasNext(); ) {
+                Map.Entry entry = (Map.Entry) i.next();
+
+                writeString(out, (String) entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof List) {
+            List list = (List) value;
+
+            out.writeByte(TYPE_LIST);
+            out.writeInt(list.size());
+
+            for (Iterator i = list.iterator(); i.hasNext(); ) {
+                writeValue(out, i.next());
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported resource type: " + value.getClass().getName());
+        }
+    }
+
+    /** 写入一个字符串. */
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        byte[] bytes = str.getBytes(UTF8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * 编译bundle时所依赖的资源, 即XML文件本身和所引用的<code>Enum</code>类.
+     * <p>
+     * 对于文件, 比较其长度和修改时间; 对于jar中的entry, 比较其长度和CRC, 两者都不需要读取资源的内容. 其它类型的资源总是被视为已改变.
+     * </p>
+     */
+    static final class Source {
+        /** 资源名, XML文件本身的资源名为空字符串. */
+        final String name;
+        final long   length;
+        final long   lastModified;
+        final long   crc;
+
+        Source(String name, long length, long lastModified, long crc) {
+            this.name = name;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.crc = crc;
+        }
+
+        /**
+         * 创建资源的记录.
+         *
+         * @param name         资源名
+         * @param bytes        资源的内容
+         * @param lastModified 资源的修改时间, 如果未知, 则为<code>-1</code>
+         */
+        Source(String name, byte[] bytes, long lastModified) {
+            this(name, bytes.length, lastModified, getCrc(bytes));
+        }
+
+        /**
+         * 读取资源, 创建其记录.
+         *
+         * @param name 资源名
+         * @param url  资源的URL
+         * @throws IOException 读取资源失败
+         */
+        static Source create(String name, URL url) throws IOException {
+            long lastModified = -1;
+            File file = toFile(url);
+
+            if (file != null) {
+                lastModified = file.lastModified();
+            } else {
+                URLConnection connection = url.openConnection();
+
+                if (connection instanceof JarURLConnection) {
+                    lastModified = ((JarURLConnection) connection).getJarEntry().getTime();
+                }
+            }
+
+            InputStream istream = url.openStream();
+
+            try {
+                return new Source(name, readBytes(istream), lastModified);
+            } finally {
+                try {
+                    istream.close();
+                } catch (IOException e) {
+                }
+            }
+        }
+
+        /** 判断指定URL的资源是否和编译时相同. */
+        boolean matches(URL url) {
+            File file = toFile(url);
+
+            if (file != null) {
+                return file.isFile() && file.length() == length && file.lastModified() == lastModified;
+            }
+
+            try {
+                URLConnection connection = url.openConnection();
+
+                if (connection instanceof JarURLConnection) {
+                    JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+
+                    return entry != null && entry.getSize() == length && entry.getCrc() == crc;
+                }
+            } catch (IOException e) {
+            }
+
+            return false;
+        }
+
+        /** 将<code>file:</code>类型的URL转换成文件, 否则返回<code>null</code>. */
+        private static File toFile(URL url) {
+            if (!"file".equals(url.getProtocol())) {
+                return null;
+            }
+
+            try {
+                return new File(url.toURI());
+            } catch (URISyntaxException e) {
+                return null;
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private static long getCrc(byte[] bytes) {
+            CRC32 crc = new CRC32();
+
+            crc.update(bytes);
+
+            return crc.getValue();
+        }
+    }
+}
@@ -21,10 +21,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.alibaba.toolkit.util.ContextClassLoader;
-import com.alibaba.toolkit.util.collection.ArrayHashMap;
+import com.alibaba.toolkit.util.collection.ArrayOpenHashMap;
 import com.alibaba.toolkit.util.collection.ListMap;
 import com.alibaba.toolkit.util.enumeration.Enum;
 import com.alibaba.toolkit.util.resourcebundle.ResourceBundle;
@@ -41,7 +43,8 @@ import org.dom4j.Node;
  * @version $Id: XMLResourceBundle.java,v 1.1 2003/07/03 07:26:35 baobao Exp $
  */
 public class XMLResourceBundle extends ResourceBundle {
-    protected ListMap values = new ArrayHashMap();
+    protected ListMap values    = new ArrayOpenHashMap();
+    protected Set     enumTypes = new LinkedHashSet();
 
     /**
      * 从XML文档中创建<code>ResourceBundle</code>.
@@ -82,6 +85,8 @@ public class XMLResourceBundle extends ResourceBundle {
                 throw new ResourceBundleCreateException(ResourceBundleConstant.RB_ENUM_CLASS_NOT_FOUND, new Object[] {
                         enumTypeName, ContextClassLoader.getClassLoader() }, e);
             }
+
+            enumTypes.add(enumType);
         }
 
         for (Iterator i = groupNode.selectNodes(ResourceBundleConstant.XPATH_RESOURCES).iterator(); i.hasNext(); ) {
@@ -153,7 +158,7 @@ public class XMLResourceBundle extends ResourceBundle {
      * @throws ResourceBundleCreateException 解析错误
      */
     protected Object getMapResource(String id, Node resourceNode) throws ResourceBundleCreateException {
-        ListMap map = new ArrayHashMap();
+        ListMap map = new ArrayOpenHashMap();
 
         for (Iterator i = resourceNode.selectNodes(ResourceBundleConstant.XPATH_RESOURCES).iterator(); i.hasNext(); ) {
             Node mapItemNode = (Node) i.next();
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.toolkit.util.resourcebundle.xml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+
+import com.alibaba.toolkit.util.ContextClassLoader;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleConstant;
+import com.alibaba.toolkit.util.resourcebundle.ResourceBundleCreateException;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 将XML格式的resource bundle编译成二进制格式, 以便由<code>CompiledXMLResourceBundle</code>快速装入.
+ * <p>
+ * 编译时会解析bundle中的group所指定的<code>Enum</code>类, 因此这些类必须能从context class loader中装入. 编译后的文件和XML文件放在一起,
+ * 扩展名为<code>.xrb</code>, <code>XMLResourceBundleFactory</code>将优先装入它. 编译后的文件记录了XML文件和<code>Enum</code>类的长度,
+ * 修改时间和CRC, 如果它们被修改过, <code>XMLResourceBundleFactory</code>将改为解析XML文件, 直到重新编译为止.
+ * </p>
+ *
+ * @author Michael Zhou
+ */
+public class XMLResourceBundleCompiler {
+    /**
+     * 编译指定的XML文件, 并将结果写到同一目录下的<code>.xrb</code>文件中.
+     *
+     * @param source XML文件
+     * @return 编译后的文件, 如果source不是resource bundle文件, 则返回<code>null</code>
+     * @throws ResourceBundleCreateException 解析XML文件失败
+     * @throws IOException                   读写文件失败
+     */
+    public File compile(File source) throws ResourceBundleCreateException, IOException {
+        File dest = getCompiledFile(source);
+
+        return compile(source, dest) ? dest : null;
+    }
+
+    /**
+     * 取得XML文件编译后的文件名, 即同一目录下, 扩展名为<code>.xrb</code>的文件.
+     *
+     * @param source XML文件
+     * @return 编译后的文件
+     */
+    public File getCompiledFile(File source) {
+        String name = source.getName();
+
+        if (name.endsWith(ResourceBundleConstant.RB_RESOURCE_EXT_XML)) {
+            name = name.substring(0, name.length() - ResourceBundleConstant.RB_RESOURCE_EXT_XML.length());
+        }
+
+        return new File(source.getParentFile(), name + ResourceBundleConstant.RB_RESOURCE_EXT_COMPILED);
+    }
+
+    /**
+     * 判断编译后的文件是否为最新的, 即编译以后, XML文件和所引用的<code>Enum</code>类是否被修改过. <code>Enum</code>类从context class
+     * loader中查找.
+     *
+     * @param source XML文件
+     * @param dest   编译后的文件
+     * @return 如果编译后的文件存在, 并且XML文件和<code>Enum</code>类都未改变, 则返回<code>true</code>
+     * @throws IOException 读文件失败
+     */
+    public boolean isUpToDate(File source, File dest) throws IOException {
+        if (!dest.isFile()) {
+            return false;
+        }
+
+        // 不将文件映射到内存中, 以免在某些系统上无法覆盖编译后的文件
+        InputStream istream = new BufferedInputStream(new FileInputStream(dest));
+
+        try {
+            return CompiledXMLResourceBundle.load(istream, dest.getPath()).isUpToDate(source.toURI().toURL());
+        } catch (ResourceBundleCreateException e) {
+            return false;
+        } finally {
+            try {
+                istream.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    /**
+     * 判断指定的XML文件是否为resource bundle文件, 即根元素是否为<code>resource-bundle</code>.
+     * <p>
+     * 只读到根元素为止, 并且不装入DTD等外部实体.
+     * </p>
+     *
+     * @param source XML文件
+     * @return 如果是resource bundle文件, 则返回<code>true</code>
+     * @throws ResourceBundleCreateException 在根元素之前, XML文件格式错误
+     * @throws IOException                   读文件失败
+     */
+    public boolean isResourceBundle(File source) throws ResourceBundleCreateException, IOException {
+        return isResourceBundle(readFile(source), source.getPath());
+    }
+
+    /**
+     * 编译指定的XML文件.
+     *
+     * @param source XML文件
+     * @param dest   编译后的文件
+     * @return 如果source不是resource bundle文件(根元素不是<code>resource-bundle</code>), 则返回
+     *         <code>false</code>
+     * @throws ResourceBundleCreateException 解析XML文件失败
+     * @throws IOException                   读写文件失败
+     */
+    public boolean compile(File source, File dest) throws ResourceBundleCreateException, IOException {
+        long lastModified = source.lastModified();
+        byte[] bytes = readFile(source);
+
+        if (!isResourceBundle(bytes, source.getPath())) {
+            return false;
+        }
+
+        XMLResourceBundle bundle = new XMLResourceBundle(XMLResourceBundleFactory.readDocument(
+                new ByteArrayInputStream(bytes), source.getPath()));
+        List sources = getSources(bundle, bytes, lastModified);
+        OutputStream ostream = new BufferedOutputStream(new FileOutputStream(dest));
+        boolean done = false;
+
+        try {
+            CompiledXMLResourceBundle.write(bundle.values, sources, ostream);
+            ostream.close();
+            done = true;
+        } finally {
+            if (!done) {
+                try {
+                    ostream.close();
+                } catch (IOException e) {
+                }
+
+                dest.delete();
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 编译XML格式的bundle.
+     * <p>
+     * 由于XML的修改时间未知, 如果编译后的文件和XML文件一起被放在目录中, 而不是jar中, 则将总是被视为已过期.
+     * </p>
+     *
+     * @param istream  XML输入流
+     * @param systemId 标志输入流的字符串
+     * @param ostream  输出流
+     * @throws ResourceBundleCreateException 解析XML失败
+     * @throws IOException                   读写失败
+     */
+    public void compile(InputStream istream, String systemId, OutputStream ostream)
+            throws ResourceBundleCreateException, IOException {
+        byte[] bytes = CompiledXMLResourceBundle.readBytes(istream);
+        XMLResourceBundle bundle = new XMLResourceBundle(XMLResourceBundleFactory.readDocument(
+                new ByteArrayInputStream(bytes), systemId));
+
+        CompiledXMLResourceBundle.write(bundle.values, getSources(bundle, bytes, -1), ostream);
+    }
+
+    /** 取得编译bundle时所依赖的资源, 即XML文件本身, 以及所引用的<code>Enum</code>类. */
+    private List getSources(XMLResourceBundle bundle, byte[] bytes, long lastModified) throws IOException {
+        List sources = new ArrayList();
+
+        sources.add(new CompiledXMLResourceBundle.Source("", bytes, lastModified));
+
+        for (Iterator i = bundle.enumTypes.iterator(); i.hasNext(); ) {
+            String name = ((Class) i.next()).getName().replace('.', '/') + ".class";
+            URL url = ContextClassLoader.getResource(name);
+
+            if (url != null) {
+                sources.add(CompiledXMLResourceBundle.Source.create(name, url));
+            }
+        }
+
+        return sources;
+    }
+
+    /** 读出文件的全部内容. */
+    private byte[] readFile(File source) throws IOException {
+        InputStream istream = new FileInputStream(source);
+
+        try {
+            return CompiledXMLResourceBundle.readBytes(istream);
+        } finally {
+            try {
+                istream.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    /** 读取XML的根元素, 判断是否为resource bundle. */
+    private boolean isResourceBundle(byte[] bytes, String systemId) throws ResourceBundleCreateException {
+        RootElementHandler handler = new RootElementHandler();
+
+        try {
+            XMLReader reader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
+
+            reader.setEntityResolver(handler);
+            reader.setContentHandler(handler);
+            reader.setErrorHandler(handler);
+            reader.parse(new InputSource(new ByteArrayInputStream(bytes)));
+        } catch (SAXException e) {
+            if (handler.rootElement == null) {
+                throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_READING_XML_DOCUMENT,
+                                                        new Object[] { systemId }, e);
+            }
+        } catch (ParserConfigurationException e) {
+            throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_READING_XML_DOCUMENT,
+                                                    new Object[] { systemId }, e);
+        } catch (IOException e) {
+            throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_READING_XML_DOCUMENT,
+                                                    new Object[] { systemId }, e);
+        }
+
+        return ResourceBundleConstant.XML_ROOT_ELEMENT.equals(handler.rootElement);
+    }
+
+    /** 取得根元素的名称后即停止解析, 并且忽略所有外部实体. */
+    private static class RootElementHandler extends DefaultHandler {
+        private String rootElement;
+
+        @Override
+        public InputSource resolveEntity(String publicId, String systemId) {
+            return new InputSource(new StringReader(""));
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes)
+                throws SAXException {
+            rootElement = qName;
+            throw new SAXException("Root element found");
+        }
+    }
+}
@@ -17,9 +17,12 @@
 
 package com.alibaba.toolkit.util.resourcebundle.xml;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 
 import com.alibaba.toolkit.util.resourcebundle.AbstractResourceBundleFactory;
+import com.alibaba.toolkit.util.resourcebundle.ClassLoaderResourceBundleLoader;
 import com.alibaba.toolkit.util.resourcebundle.ResourceBundle;
 import com.alibaba.toolkit.util.resourcebundle.ResourceBundleConstant;
 import com.alibaba.toolkit.util.resourcebundle.ResourceBundleCreateException;
@@ -30,12 +33,25 @@ import org.dom4j.io.SAXReader;
 
 /**
  * 从XML文件中创建<code>ResourceBundle</code>的实例的工厂.
+ * <p>
+ * 如果存在由<code>XMLResourceBundleCompiler</code>预编译的bundle文件(扩展名为<code>.xrb</code>), 则优先装入它,
+ * 否则解析XML文件. 如果编译后的文件已损坏, 则仍然解析XML文件.
+ * </p>
+ * <p>
+ * 装入编译后的文件时, 不会读取XML文件, 只比较编译时所记录的XML文件及其引用的<code>Enum</code>类的长度,
+ * 修改时间或CRC. 如果它们被修改过, 则仍然解析XML文件. 如果bundle装入器不是<code>ClassLoaderResourceBundleLoader</code>,
+ * 则无法取得XML文件, 此时不检查编译后的文件是否过期. 开发时, 可以设置系统属性<code>-Dxmlbundle.devMode=true</code>,
+ * 忽略编译后的文件, 总是解析XML文件.
+ * </p>
  *
  * @author Michael Zhou
  * @version $Id: XMLResourceBundleFactory.java,v 1.1 2003/07/03 07:26:35 baobao
  *          Exp $
  */
 public class XMLResourceBundleFactory extends AbstractResourceBundleFactory {
+    /** 开发模式, 忽略预编译的bundle文件, 总是解析XML文件. */
+    private static final boolean DEV_MODE = Boolean.getBoolean("xmlbundle.devMode");
+
     /** 创建factory, 使用当前线程的context class loader作为bundle装入器. */
     public XMLResourceBundleFactory() {
         super();
@@ -59,6 +75,69 @@ public class XMLResourceBundleFactory extends AbstractResourceBundleFactory {
         super(loader);
     }
 
+    /**
+     * 创建<code>ResourceBundle</code>的实例. 首先查找预编译的bundle文件, 如果不存在, 已损坏或已过期, 则查找XML文件.
+     *
+     * @param bundleName 要创建的bundle名称
+     * @return 新创建的<code>ResourceBundle</code>实例, 如果指定bundle不存在, 则返回
+     *         <code>null</code>
+     * @throws ResourceBundleCreateException 指定bundle文件存在, 但创建bundle实例失败,
+     *                                       例如文件格式错误
+     */
+    @Override
+    public ResourceBundle createBundle(String bundleName) throws ResourceBundleCreateException {
+        ResourceBundleLoader loader = getLoader();
+
+        if (loader != null && !DEV_MODE) {
+            String filename = super.getFilename(bundleName) + ResourceBundleConstant.RB_RESOURCE_EXT_COMPILED;
+            InputStream stream = loader.openStream(filename);
+
+            if (stream != null) {
+                CompiledXMLResourceBundle compiledBundle;
+
+                try {
+                    compiledBundle = CompiledXMLResourceBundle.load(stream, filename);
+                } catch (ResourceBundleCreateException e) {
+                    // 编译后的文件已损坏或格式不兼容, 如果XML文件存在, 则改为解析XML文件
+                    ResourceBundle bundle = super.createBundle(bundleName);
+
+                    if (bundle == null) {
+                        throw e;
+                    }
+
+                    return bundle;
+                } finally {
+                    try {
+                        stream.close();
+                    } catch (IOException e) {
+                    }
+                }
+
+                if (isUpToDate(loader, bundleName, compiledBundle)) {
+                    return compiledBundle;
+                }
+
+                // XML文件或Enum类在编译以后被修改过, 改为解析XML文件
+                ResourceBundle bundle = super.createBundle(bundleName);
+
+                return bundle == null ? compiledBundle : bundle;
+            }
+        }
+
+        return super.createBundle(bundleName);
+    }
+
+    /** 判断编译后的bundle是否为最新的. 如果无法取得XML文件, 则视为最新的. */
+    private boolean isUpToDate(ResourceBundleLoader loader, String bundleName, CompiledXMLResourceBundle bundle) {
+        if (!(loader instanceof ClassLoaderResourceBundleLoader)) {
+            return true;
+        }
+
+        URL source = ((ClassLoaderResourceBundleLoader) loader).getResource(getFilename(bundleName));
+
+        return source == null || bundle.isUpToDate(source);
+    }
+
     /**
      * 根据bundle的名称取得resource的文件名称.
      *
@@ -80,11 +159,22 @@ public class XMLResourceBundleFactory extends AbstractResourceBundleFactory {
      */
     @Override
     protected ResourceBundle parse(InputStream stream, String systemId) throws ResourceBundleCreateException {
+        return new XMLResourceBundle(readDocument(stream, systemId));
+    }
+
+    /**
+     * 读取XML文档.
+     *
+     * @param stream   输入流
+     * @param systemId 标志输入流的字符串
+     * @return XML文档
+     * @throws ResourceBundleCreateException 如果解析失败
+     */
+    static Document readDocument(InputStream stream, String systemId) throws ResourceBundleCreateException {
         try {
             SAXReader reader = new SAXReader();
-            Document doc = reader.read(stream, systemId);
 
-            return new XMLResourceBundle(doc);
+            return reader.read(stream, systemId);
         } catch (DocumentException e) {
             throw new ResourceBundleCreateException(ResourceBundleConstant.RB_FAILED_READING_XML_DOCUMENT,
                                                     new Object[] { systemId }, e);
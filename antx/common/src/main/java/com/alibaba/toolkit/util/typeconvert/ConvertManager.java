@@ -22,11 +22,14 @@ import java.math.BigInteger;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.alibaba.toolkit.util.enumeration.Enum;
 import com.alibaba.toolkit.util.enumeration.EnumConverter;
@@ -60,6 +63,9 @@ public class ConvertManager {
     private              Map    registry         = Collections.synchronizedMap(new HashMap());
     private              Map    aliases          = Collections.synchronizedMap(new HashMap());
 
+    /** 每个目标类型所对应的转换器链(<code>Converter[]</code>), 登记新的转换器时被清除. */
+    private volatile Map resolvedConverters = new ConcurrentHashMap();
+
     /** 创建一个转换器. */
     public ConvertManager() {
         register(BigDecimal.class, new BigDecimalConverter());
@@ -121,6 +127,9 @@ public class ConvertManager {
             } else {
                 internalRegister(type, converter);
             }
+
+            // 清除已解析的转换器链
+            resolvedConverters = new ConcurrentHashMap();
         }
     }
 
@@ -165,6 +174,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public boolean asBoolean(Object value) {
+        if (value instanceof Boolean && isDefaultConverter(Boolean.class, BooleanConverter.class)) {
+            return ((Boolean) value).booleanValue();
+        }
+
         return ((Boolean) asType(Boolean.class, value)).booleanValue();
     }
 
@@ -176,6 +189,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public boolean asBoolean(Object value, boolean defaultValue) {
+        if (value instanceof Boolean && isDefaultConverter(Boolean.class, BooleanConverter.class)) {
+            return ((Boolean) value).booleanValue();
+        }
+
         return ((Boolean) asType(Boolean.class, value, new Boolean(defaultValue))).booleanValue();
     }
 
@@ -186,6 +203,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public byte asByte(Object value) {
+        if (value instanceof Byte && isDefaultConverter(Byte.class, ByteConverter.class)) {
+            return ((Byte) value).byteValue();
+        }
+
         return ((Byte) asType(Byte.class, value)).byteValue();
     }
 
@@ -197,6 +218,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public byte asByte(Object value, byte defaultValue) {
+        if (value instanceof Byte && isDefaultConverter(Byte.class, ByteConverter.class)) {
+            return ((Byte) value).byteValue();
+        }
+
         return ((Byte) asType(Byte.class, value, new Byte(defaultValue))).byteValue();
     }
 
@@ -207,6 +232,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public char asChar(Object value) {
+        if (value instanceof Character && isDefaultConverter(Character.class, CharacterConverter.class)) {
+            return ((Character) value).charValue();
+        }
+
         return ((Character) asType(Character.class, value)).charValue();
     }
 
@@ -218,6 +247,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public char asChar(Object value, char defaultValue) {
+        if (value instanceof Character && isDefaultConverter(Character.class, CharacterConverter.class)) {
+            return ((Character) value).charValue();
+        }
+
         return ((Character) asType(Character.class, value, new Character(defaultValue))).charValue();
     }
 
@@ -228,6 +261,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public double asDouble(Object value) {
+        if (value instanceof Double && isDefaultConverter(Double.class, DoubleConverter.class)) {
+            return ((Double) value).doubleValue();
+        }
+
         return ((Double) asType(Double.class, value)).doubleValue();
     }
 
@@ -239,6 +276,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public double asDouble(Object value, double defaultValue) {
+        if (value instanceof Double && isDefaultConverter(Double.class, DoubleConverter.class)) {
+            return ((Double) value).doubleValue();
+        }
+
         return ((Double) asType(Double.class, value, new Double(defaultValue))).doubleValue();
     }
 
@@ -249,6 +290,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public float asFloat(Object value) {
+        if (value instanceof Float && isDefaultConverter(Float.class, FloatConverter.class)) {
+            return ((Float) value).floatValue();
+        }
+
         return ((Float) asType(Float.class, value)).floatValue();
     }
 
@@ -260,6 +305,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public float asFloat(Object value, float defaultValue) {
+        if (value instanceof Float && isDefaultConverter(Float.class, FloatConverter.class)) {
+            return ((Float) value).floatValue();
+        }
+
         return ((Float) asType(Float.class, value, new Float(defaultValue))).floatValue();
     }
 
@@ -270,6 +319,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public int asInt(Object value) {
+        if (value instanceof Integer && isDefaultConverter(Integer.class, IntegerConverter.class)) {
+            return ((Integer) value).intValue();
+        }
+
         return ((Integer) asType(Integer.class, value)).intValue();
     }
 
@@ -281,6 +334,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public int asInt(Object value, int defaultValue) {
+        if (value instanceof Integer && isDefaultConverter(Integer.class, IntegerConverter.class)) {
+            return ((Integer) value).intValue();
+        }
+
         return ((Integer) asType(Integer.class, value, new Integer(defaultValue))).intValue();
     }
 
@@ -291,6 +348,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public long asLong(Object value) {
+        if (value instanceof Long && isDefaultConverter(Long.class, LongConverter.class)) {
+            return ((Long) value).longValue();
+        }
+
         return ((Long) asType(Long.class, value)).longValue();
     }
 
@@ -302,6 +363,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public long asLong(Object value, long defaultValue) {
+        if (value instanceof Long && isDefaultConverter(Long.class, LongConverter.class)) {
+            return ((Long) value).longValue();
+        }
+
         return ((Long) asType(Long.class, value, new Long(defaultValue))).longValue();
     }
 
@@ -312,6 +377,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public short asShort(Object value) {
+        if (value instanceof Short && isDefaultConverter(Short.class, ShortConverter.class)) {
+            return ((Short) value).shortValue();
+        }
+
         return ((Short) asType(Short.class, value)).shortValue();
     }
 
@@ -323,6 +392,10 @@ public class ConvertManager {
      * @return 转换后的值
      */
     public short asShort(Object value, short defaultValue) {
+        if (value instanceof Short && isDefaultConverter(Short.class, ShortConverter.class)) {
+            return ((Short) value).shortValue();
+        }
+
         return ((Short) asType(Short.class, value, new Short(defaultValue))).shortValue();
     }
 
@@ -389,6 +462,85 @@ public class ConvertManager {
         return new ChainImpl(this, getTargetType(targetType)).convert(value);
     }
 
+    /**
+     * 取得指定目标类型的转换器链. 转换器链依次包括: targetType对应的转换器, targetType的基类(不包括Object类)对应的转换器,
+     * targetType的接口对应的转换器, Object类所对应的转换器. 结果被缓存, 直到登记新的转换器.
+     *
+     * @param targetType 转换的目标类型
+     * @return 转换器数组
+     */
+    private Converter[] getConverters(Class targetType) {
+        Map resolved = resolvedConverters;
+        Converter[] converters = (Converter[]) resolved.get(targetType);
+
+        if (converters == null) {
+            converters = resolveConverters(targetType);
+            resolved.put(targetType, converters);
+        }
+
+        return converters;
+    }
+
+    /**
+     * 遍历目标类型的基类和接口, 取得转换器链.
+     *
+     * @param targetType 转换的目标类型
+     * @return 转换器数组
+     */
+    private Converter[] resolveConverters(Class targetType) {
+        TypeInfo targetTypeInfo = TypeInfo.getTypeInfo(targetType);
+        List converters = new ArrayList();
+
+        synchronized (registry) {
+            addConverters(converters, targetType);
+
+            for (Iterator i = targetTypeInfo.getSuperclasses().iterator(); i.hasNext(); ) {
+                Class superclass = (Class) i.next();
+
+                if (!superclass.equals(Object.class)) {
+                    addConverters(converters, superclass);
+                }
+            }
+
+            for (Iterator i = targetTypeInfo.getInterfaces().iterator(); i.hasNext(); ) {
+                addConverters(converters, (Class) i.next());
+            }
+
+            if (!Object.class.equals(targetType)) {
+                addConverters(converters, Object.class);
+            }
+        }
+
+        return (Converter[]) converters.toArray(new Converter[converters.size()]);
+    }
+
+    /**
+     * 将指定类型的所有转换器加入列表.
+     *
+     * @param converters 转换器列表
+     * @param type       要查找转换器的类型
+     */
+    private void addConverters(List converters, Class type) {
+        LinkedList typeConverters = (LinkedList) registry.get(type);
+
+        if (typeConverters != null) {
+            converters.addAll(typeConverters);
+        }
+    }
+
+    /**
+     * 判断指定类型的第一个转换器是否为默认的转换器. 默认的转换器对已经是目标类型的值原样返回, 因此调用者可以直接取值, 而不必创建转换器链.
+     *
+     * @param targetType     转换的目标类型
+     * @param converterClass 默认的转换器类
+     * @return 如果是默认的转换器, 则返回<code>true</code>
+     */
+    private boolean isDefaultConverter(Class targetType, Class converterClass) {
+        Converter[] converters = getConverters(targetType);
+
+        return converters.length > 0 && converters[0].getClass() == converterClass;
+    }
+
     /**
      * 取得target type类对象.
      *
@@ -416,19 +568,11 @@ public class ConvertManager {
      * targetType的基类(不包括Object类)对应的转换器, targetType的接口对应的转换器, Object类所对应的转换器.
      */
     private class ChainImpl implements ConvertChain {
-        private static final int STATE_START       = 0;
-        private static final int STATE_TARGET_TYPE = STATE_START + 1;
-        private static final int STATE_BASE_TYPE   = STATE_TARGET_TYPE + 1;
-        private static final int STATE_INTERFACE   = STATE_BASE_TYPE + 1;
-        private static final int STATE_OBJECT      = STATE_INTERFACE + 1;
-        private static final int STATE_END         = STATE_OBJECT + 1;
         private final ConvertManager manager;
-        private final TypeInfo       targetTypeInfo;
-        private int state = STATE_START;
+        private final Class          targetType;
+        private final Converter[]    converters;
+        private int index;
         private Convertible previousConvertibleValue;
-        private Iterator    converterIterator;
-        private Iterator    superclassIterator;
-        private Iterator    interfaceIterator;
 
         /**
          * 创建转换链.
@@ -438,7 +582,8 @@ public class ConvertManager {
          */
         ChainImpl(ConvertManager manager, Class targetType) {
             this.manager = manager;
-            this.targetTypeInfo = TypeInfo.getTypeInfo(targetType);
+            this.targetType = targetType;
+            this.converters = manager.getConverters(targetType);
         }
 
         /**
@@ -456,7 +601,7 @@ public class ConvertManager {
          * @return 目标类型
          */
         public Class getTargetType() {
-            return targetTypeInfo.getType();
+            return targetType;
         }
 
         /**
@@ -466,8 +611,6 @@ public class ConvertManager {
          * @return 转换后的值
          */
         public Object convert(Object value) {
-            Class targetType = targetTypeInfo.getType();
-
             // 优先处理实现Convertible接口的value值,
             // 并防止对同一个convertible value反复调用其converter
             if (value instanceof Convertible && !value.equals(previousConvertibleValue)) {
@@ -479,134 +622,13 @@ public class ConvertManager {
                 }
             }
 
-            // 开始状态
-            if (state == STATE_START) {
-                state++; // 进入STATE_TARGET_TYPE状态
-                converterIterator = getConverterIterator(targetType);
-            }
-
-            // 处理targetType对应的转换器
-            if (state == STATE_TARGET_TYPE) {
-                if (!hasNext(converterIterator)) {
-                    state++; // 进入STATE_BASE_TYPE状态
-                    superclassIterator = targetTypeInfo.getSuperclasses().iterator();
-                    converterIterator = getSuperclassConverterIterator();
-                }
-            }
-
-            // 处理targetType的基类对应的转换器
-            if (state == STATE_BASE_TYPE) {
-                if (!hasNext(converterIterator)) {
-                    converterIterator = getSuperclassConverterIterator();
-
-                    if (!hasNext(converterIterator)) {
-                        state++; // 进入STATE_INTERFACE状态
-                        interfaceIterator = targetTypeInfo.getInterfaces().iterator();
-                        converterIterator = getInterfaceConverterIterator();
-                    }
-                }
-            }
-
-            // 处理targetType的接口对应的转换器
-            if (state == STATE_INTERFACE) {
-                if (!hasNext(converterIterator)) {
-                    converterIterator = getInterfaceConverterIterator();
-
-                    if (!hasNext(converterIterator)) {
-                        state++; // 进入STATE_OBJECT状态
-
-                        if (!Object.class.equals(targetTypeInfo.getType())) {
-                            converterIterator = getConverterIterator(Object.class);
-                        }
-                    }
-                }
-            }
-
-            // 处理Object类对应的转换器
-            if (state == STATE_OBJECT) {
-                if (!hasNext(converterIterator)) {
-                    state++; // 进入STATE_END状态
-                }
-            }
-
-            // 开始转换
-            if (state != STATE_END) {
-                Converter converter = (Converter) converterIterator.next();
-
-                return converter.convert(value, this);
+            // 依次交给链中的下一个转换器
+            if (index < converters.length) {
+                return converters[index++].convert(value, this);
             }
 
             // 如果找不到converter, 则失败
             throw new ConvertFailedException();
         }
-
-        /**
-         * 取得指定类型的所有转换器.
-         *
-         * @param type 要查找转换器的类型
-         * @return 转换器的<code>Iterator</code>, 如果不存在, 则返回<code>null</code>
-         */
-        private Iterator getConverterIterator(Class type) {
-            LinkedList converters = (LinkedList) registry.get(type);
-
-            if (converters != null && converters.size() > 0) {
-                return converters.iterator();
-            }
-
-            return null;
-        }
-
-        /**
-         * 取得targetType基类(不包括Object类)的转换器.
-         *
-         * @return 基类的转换器的<code>Iterator</code>, 如果不存在, 则返回<code>null</code>
-         */
-        private Iterator getSuperclassConverterIterator() {
-            Iterator iterator = null;
-
-            while (superclassIterator.hasNext()) {
-                Class superclass = (Class) superclassIterator.next();
-
-                if (!superclass.equals(Object.class)) {
-                    iterator = getConverterIterator(superclass);
-
-                    if (hasNext(iterator)) {
-                        return iterator;
-                    }
-                }
-            }
-
-            return null;
-        }
-
-        /**
-         * 取得targetType接口的转换器.
-         *
-         * @return 接口的转换器的<code>Iterator</code>, 如果不存在, 则返回<code>null</code>
-         */
-        private Iterator getInterfaceConverterIterator() {
-            Iterator iterator = null;
-
-            while (interfaceIterator.hasNext()) {
-                iterator = getConverterIterator((Class) interfaceIterator.next());
-
-                if (hasNext(iterator)) {
-                    return iterator;
-                }
-            }
-
-            return null;
-        }
-
-        /**
-         * 检查iterator是否存在下一个元素.
-         *
-         * @param iterator 要检查的iterator
-         * @return 如果iterator为<code>null</code>, 或iterator已经走到底, 则返回
-         *         <code>false</code>
-         */
-        private boolean hasNext(Iterator iterator) {
-            return iterator != null && iterator.hasNext();
-        }
     }
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2002-2012 Alibaba Group Holding Limited.
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.toolkit.util.collection;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * 以随机的操作序列比较<code>OpenHashMap</code>和<code>HashMap</code>, 以及<code>ArrayOpenHashMap</code>和<code>ArrayHashMap</code>的结果.
+ *
+ * @author Michael Zhou
+ */
+public class OpenHashMapTests extends TestCase {
+    private static final int ROUNDS     = 20;
+    private static final int OPERATIONS = 2000;
+
+    public void testRandomOperationsAgainstHashMap() throws Exception {
+        for (int seed = 0; seed < ROUNDS; seed++) {
+            Random random = new Random(seed);
+            Map expected = new HashMap();
+            OpenHashMap map = new OpenHashMap(random.nextInt(4));
+
+            for (int i = 0; i < OPERATIONS; i++) {
+                String op = applyRandomOperation(random, expected, map);
+
+                assertEquals("seed " + seed + ", op " + i + ": " + op, expected, map);
+                assertEquals(expected.size(), map.size());
+            }
+
+            assertEquals(expected, map.clone());
+            assertEquals(expected, serializeAndDeserialize(map));
+        }
+    }
+
+    public void testRandomOperationsAgainstArrayHashMap() throws Exception {
+        for (int seed = 0; seed < ROUNDS; seed++) {
+            Random random = new Random(seed);
+            ArrayHashMap expected = new ArrayHashMap();
+            ArrayOpenHashMap map = new ArrayOpenHashMap(random.nextInt(4));
+
+            for (int i = 0; i < OPERATIONS; i++) {
+                String op;
+
+                switch (random.nextInt(4)) {
+                    case 0:
+                        op = applyRandomIndexOperation(random, expected, map);
+                        break;
+
+                    default:
+                        op = applyRandomOperation(random, expected, map);
+                        break;
+                }
+
+                assertSameOrder("seed " + seed + ", op " + i + ": " + op, expected, map);
+            }
+
+            assertSameOrder("clone", expected, (ArrayOpenHashMap) map.clone());
+            assertSameOrder("serialization", expected, (ArrayOpenHashMap) serializeAndDeserialize(map));
+        }
+    }
+
+    /** 对两个map执行相同的随机操作, 比较每个操作的返回值. */
+    private String applyRandomOperation(Random random, Map expected, Map map) {
+        Object key = randomKey(random);
+        Object value = randomValue(random);
+
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+            case 2:
+                assertEquals(expected.put(key, value), map.put(key, value));
+                return "put " + key;
+
+            case 3:
+            case 4:
+                assertEquals(expected.remove(key), map.remove(key));
+                return "remove " + key;
+
+            case 5:
+                assertEquals(expected.get(key), map.get(key));
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+                assertEquals(expected.containsValue(value), map.containsValue(value));
+                return "get " + key;
+
+            case 6:
+                assertEquals(expected.keySet().remove(key), map.keySet().remove(key));
+                return "keySet.remove " + key;
+
+            case 7: {
+                // 通过iterator删除满足条件的entry, 同时修改其它entry的值
+                int mod = random.nextInt(3) + 2;
+
+                removeByIterator(expected, mod, value);
+                removeByIterator(map, mod, value);
+                return "iterator.remove " + mod;
+            }
+
+            case 8: {
+                Map other = new HashMap();
+
+                for (int i = random.nextInt(20); i > 0; i--) {
+                    other.put(randomKey(random), randomValue(random));
+                }
+
+                expected.putAll(other);
+                map.putAll(other);
+                return "putAll " + other.size();
+            }
+
+            default:
+                if (random.nextInt(20) == 0) {
+                    expected.clear();
+                    map.clear();
+                    return "clear";
+                }
+
+                assertEquals(expected.entrySet().contains(new DefaultMapEntry(key, value)),
+                             map.entrySet().contains(new DefaultMapEntry(key, value)));
+                return "entrySet.contains " + key;
+        }
+    }
+
+    /** 对两个<code>ListMap</code>执行相同的基于索引的随机操作. */
+    private String applyRandomIndexOperation(Random random, ListMap expected, ListMap map) {
+        if (expected.isEmpty()) {
+            return "none";
+        }
+
+        int index = random.nextInt(expected.size());
+
+        switch (random.nextInt(4)) {
+            case 0:
+                assertEquals(expected.remove(index), map.remove(index));
+                return "remove(" + index + ")";
+
+            case 1:
+                assertEquals(expected.keyList().remove(index), map.keyList().remove(index));
+                return "keyList.remove(" + index + ")";
+
+            case 2: {
+                ListIterator i = expected.valueList().listIterator(index);
+                ListIterator j = map.valueList().listIterator(index);
+
+                assertEquals(i.next(), j.next());
+                i.remove();
+                j.remove();
+
+                if (i.hasPrevious()) {
+                    assertEquals(i.previous(), j.previous());
+                }
+
+                return "valueList.listIterator(" + index + ").remove";
+            }
+
+            default:
+                assertEquals(expected.get(index), map.get(index));
+                assertEquals(expected.getKey(index), map.getKey(index));
+                assertEquals(expected.keyList().indexOf(expected.getKey(index)), map.keyList().indexOf(map.getKey(index)));
+                return "get(" + index + ")";
+        }
+    }
+
+    private void removeByIterator(Map map, int mod, Object value) {
+        for (Iterator i = map.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry entry = (Map.Entry) i.next();
+            Key key = (Key) entry.getKey();
+
+            if (key != null && key.id % mod == 0) {
+                i.remove();
+            } else {
+                entry.setValue(value);
+            }
+        }
+    }
+
+    private void assertSameOrder(String message, ListMap expected, ListMap map) {
+        assertEquals(message, expected, map);
+        assertEquals(message, expected.keyList(), map.keyList());
+        assertEquals(message, expected.valueList(), map.valueList());
+        assertEquals(message, toList(expected.entrySet().iterator()), toList(map.entrySet().iterator()));
+        assertEquals(message, toList(expected.keySet().iterator()), toList(map.keySet().iterator()));
+    }
+
+    private List toList(Iterator i) {
+        List list = new ArrayList();
+
+        while (i.hasNext()) {
+            Object o = i.next();
+
+            list.add(o instanceof Map.Entry ? new DefaultMapEntry(((Map.Entry) o).getKey(), ((Map.Entry) o)
+                    .getValue()) : o);
+        }
+
+        return list;
+    }
+
+    private Object serializeAndDeserialize(Object o) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ObjectOutputStream oos = new ObjectOutputStream(baos);
+
+        oos.writeObject(o);
+        oos.close();
+
+        return new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+    }
+
+    /** 取得随机的key, 其中包括<code>null</code>, 以及hash值相同的key, 以便产生较长的探测序列. */
+    private Object randomKey(Random random) {
+        int id = random.nextInt(200);
+
+        return id == 0 ? null : new Key(id);
+    }
+
+    private Object randomValue(Random random) {
+        int value = random.nextInt(50);
+
+        return value == 0 ? null : new Integer(value);
+    }
+
+    /** Hash值冲突较多的key. */
+    private static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final int id;
+
+        public Key(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id % 13;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public String toString() {
+            return "Key" + id;
+        }
+    }
+}